@@ -0,0 +1,157 @@
+package endgame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import endgame.model.Money;
+import endgame.output.stats.yearly.History;
+import endgame.util.Log;
+import endgame.util.RandomNumbers;
+import endgame.util.Util;
+
+/**
+ Decides which histories of a Monte Carlo run have their full detail in the log file.
+
+ <P>The detailed log of thousands of histories is too large to be useful.
+ By default, a Monte Carlo run logs no detail at all for its histories (see {@link Log#defaultLevelFor(Integer)}).
+ With this class, the detail is logged for a small sample of histories, chosen with the system property
+ <em>endgame.logHistories</em>:
+ <ul>
+  <li><em>first:K</em> - the first K histories.
+  <li><em>every:N</em> - every Nth history: 1, N+1, 2N+1, and so on.
+  <li><em>percentile:P</em> - the single history whose after-tax cash flow ({@link History#netCash()}) is at the
+  P-th percentile of all the histories. P is from 0 to 100; 50 is the median.
+ </ul>
+
+ <P>The histories that aren't selected run with the level set to {@link Log.Level#INFO}, so their detailed logging
+ costs a single comparison per call.
+
+ <P>For the percentile, the outcome of a history isn't known until it ends, and the percentile isn't known until all
+ histories have ended. So there are two passes. First, all histories run at {@link Log.Level#INFO}, and the outcome
+ of each is remembered. Then the history at the percentile is picked, and run a second time, with its full detail.
+ The second run uses the same random numbers as the first (see {@link RandomNumbers}), so it has the same outcome.
+ The second run isn't included in the results of the scenario.
+
+ <P>The level used for the detail is {@link Log.Level#TRACE}, unless overridden with <em>endgame.logLevel</em>.
+*/
+final class HistoryLogSampler {
+
+  /** Return the sampler defined by the system property. If the property isn't set, then the sampler does nothing. */
+  static HistoryLogSampler fromSystemProperty() {
+    String setting = System.getProperty(LOG_HISTORIES_PROPERTY);
+    HistoryLogSampler result = new HistoryLogSampler(Mode.NONE, 0);
+    if (Util.isPresent(setting)) {
+      String[] parts = setting.trim().split(":");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(LOG_HISTORIES_PROPERTY + " must look like 'first:10', 'every:100', or 'percentile:50': " + setting);
+      }
+      Mode mode = Mode.valueOf(parts[0].trim().toUpperCase());
+      int value = Integer.parseInt(parts[1].trim());
+      result = new HistoryLogSampler(mode, value);
+    }
+    return result;
+  }
+
+  /** Called at the start of each history, before anything is logged for it. */
+  void startHistory(int hist) {
+    if (mode != Mode.NONE) {
+      if (isSelected(hist)) {
+        Log.setLevel(detailLevel);
+        Log.log("Detailed log of history #" + hist);
+      }
+      else {
+        Log.setLevel(Log.Level.INFO);
+      }
+    }
+  }
+
+  /** Called at the end of each history, after everything has been logged for it. */
+  void endHistory(int hist, History history) {
+    if (mode == Mode.PERCENTILE) {
+      outcomes.add(history.netCash().asCents());
+    }
+    if (mode != Mode.NONE) {
+      Log.setLevel(Log.Level.INFO);
+    }
+  }
+
+  /** Called once, after all histories have ended. Return the history to be run again with its full detail, or null if none. */
+  Integer historyToReplay() {
+    Integer result = null;
+    if (mode == Mode.PERCENTILE && !outcomes.isEmpty()) {
+      List<Integer> ranked = new ArrayList<>();
+      for (int hist = 1; hist <= outcomes.size(); ++hist) {
+        ranked.add(hist);
+      }
+      ranked.sort((a, b) -> Long.compare(outcomeOf(a), outcomeOf(b)));
+      result = ranked.get((int)Math.round(percentile / 100.0 * (ranked.size() - 1)));
+    }
+    return result;
+  }
+
+  /** Called before the history is run again. */
+  void startReplay(int hist) {
+    Log.setLevel(detailLevel);
+    Log.log("Detailed log of history #" + hist + ". Its net cash flow of " + Money.fromCents(outcomeOf(hist)) +
+      " is at the " + percentile + "th percentile of all histories. The history is run again, with the same random numbers.");
+  }
+
+  /** Called after the history has been run again. Checks that the outcome is the same as the first time. */
+  void endReplay(int hist, History history) {
+    long outcome = history.netCash().asCents();
+    if (outcome != outcomeOf(hist)) {
+      Log.log("WARNING: the second run of history #" + hist + " has a different net cash flow: " + Money.fromCents(outcome) +
+        " instead of " + Money.fromCents(outcomeOf(hist)) + ". The detail above doesn't match the history in the reports.");
+    }
+    Log.setLevel(Log.Level.INFO);
+  }
+
+  // PRIVATE
+
+  private static final String LOG_HISTORIES_PROPERTY = "endgame.logHistories";
+
+  private enum Mode {NONE, FIRST, EVERY, PERCENTILE}
+
+  private final Mode mode;
+  /** K for FIRST, N for EVERY. */
+  private final int count;
+  private final int percentile;
+  private final Log.Level detailLevel = Log.defaultLevelFor(1);
+
+  /** Used only for PERCENTILE. The net cash of each history, in cents. History 1 is at index 0. */
+  private final List<Long> outcomes = new ArrayList<>();
+
+  private HistoryLogSampler(Mode mode, int value) {
+    this.mode = mode;
+    if (mode == Mode.PERCENTILE) {
+      if (value < 0 || value > 100) {
+        throw new IllegalArgumentException("The percentile for " + LOG_HISTORIES_PROPERTY + " must be from 0 to 100: " + value);
+      }
+      this.percentile = value;
+      this.count = 0;
+    }
+    else {
+      if (mode != Mode.NONE && value < 1) {
+        throw new IllegalArgumentException("The number for " + LOG_HISTORIES_PROPERTY + " must be 1 or more: " + value);
+      }
+      this.count = value;
+      this.percentile = 0;
+    }
+  }
+
+  /** In the first pass, no history is logged in detail for PERCENTILE. */
+  private boolean isSelected(int hist) {
+    boolean result = false;
+    if (mode == Mode.FIRST) {
+      result = hist <= count;
+    }
+    else if (mode == Mode.EVERY) {
+      result = (hist - 1) % count == 0;
+    }
+    return result;
+  }
+
+  private long outcomeOf(int hist) {
+    return outcomes.get(hist - 1);
+  }
+}
@@ -0,0 +1,51 @@
+package endgame;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import endgame.entitlements.GisTable;
+import endgame.survival.LifeTable;
+import endgame.survival.Sex;
+
+/**
+ Reference data tables read from the <code>input</code> directory, which don't depend on the scenario.
+
+ <P>The tables are read only once per JVM (for each project root), no matter how many scenarios or histories are run.
+ This object is immutable, so it can be shared by scenarios running at the same time, in different threads.
+
+ <P>Tables that come from the scenario file itself (such as the RIF minimum withdrawals) are not reference data,
+ and are attached to the {@link Scenario} instead.
+*/
+public final class ReferenceData {
+
+  /**
+   Return the reference data for the given project root directory.
+   The tables are read the first time this method is called, and shared after that.
+  */
+  public static ReferenceData forProjectRoot(String projectRoot) {
+    //after the first load, this is a simple read, with no locking
+    return REGISTRY.computeIfAbsent(projectRoot, ReferenceData::new);
+  }
+
+  /** The GIS brackets. */
+  public GisTable gisTable() { return gisTable; }
+
+  /** The lx life table for the given sex. */
+  public LifeTable lifeTableFor(Sex sex) {
+    return Sex.MALE == sex ? maleLifeTable : femaleLifeTable;
+  }
+
+  // PRIVATE
+
+  private static final ConcurrentMap<String /*project root*/, ReferenceData> REGISTRY = new ConcurrentHashMap<>();
+
+  private final GisTable gisTable;
+  private final LifeTable maleLifeTable;
+  private final LifeTable femaleLifeTable;
+
+  private ReferenceData(String projectRoot) {
+    this.gisTable = GisTable.load(projectRoot);
+    this.maleLifeTable = LifeTable.load(projectRoot, Sex.MALE);
+    this.femaleLifeTable = LifeTable.load(projectRoot, Sex.FEMALE);
+  }
+}
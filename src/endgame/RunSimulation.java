@@ -17,12 +17,14 @@ import endgame.output.stats.yearly.AccountSnapshot;
 import endgame.output.stats.yearly.CashFlow;
 import endgame.output.stats.yearly.History;
 import endgame.output.stats.yearly.TaxSummary;
+import endgame.output.stats.yearly.binary.HistoryStore;
 import endgame.output.stats.yearly.csv.CsvReports;
 import endgame.survival.Survival;
 import endgame.transaction.Transactional;
 import endgame.util.Consts;
 import endgame.util.Log;
 import endgame.util.MoneyFormatter;
+import endgame.util.RandomNumbers;
 import hirondelle.date4j.DateTime;
 
 /**
@@ -99,6 +101,7 @@ public final class RunSimulation implements Runnable {
    The scenario might be repeated N times, according to the <em>num-monte-carlo-iterations</em> setting.
   */
   @Override public void run() {
+    Log.openLogFileFor(new File(configFile));
     Log.log("Running the scenario...");
     long beginTime = System.nanoTime();
     try {
@@ -110,37 +113,40 @@ public final class RunSimulation implements Runnable {
       Integer numHistories = scenario.numIterations;
 
       if (numHistories>1) Log.enableLoggingToConsole(false);
+      Log.setLevel(Log.defaultLevelFor(numHistories));
+      HistoryLogSampler sampler = HistoryLogSampler.fromSystemProperty();
+      long seedForRun = RandomNumbers.seedForRun();
+      if (numHistories > 1) {
+        Log.log("Random seed for this run: " + seedForRun);
+      }
           
       for(int hist = 1; hist <= numHistories; ++hist) {
         Log.forceConsole("History #" + hist);
-        DateTime currentDate = startDate;
-        boolean isStillAlive = true;
-        Log.log("Incrementing one day at a time, starting with " + startDate);
-        while (isStillAlive && currentDate.lteq(endDate)) {
-          if (isYearStart(currentDate, startDate)) {
-            resetForNewYear(scenario, currentDate);
-          }
-          transactionsUpdateThe(scenario, currentDate);
-          if (isYearEnd(currentDate)) {
-            isStillAlive = yearEndForThis(hist, scenario, currentDate);
-          }
-          currentDate = currentDate.plusDays(1);
-        }
+        sampler.startHistory(hist);
+        RandomNumbers.startHistory(seedForRun, hist);
+        DateTime currentDate = runHistory(scenario, hist, startDate, endDate);
         if (hist < numHistories) {
-          Log.log("Re-init of the scenario for the next history; start from scratch. Read the scenario file again.");
+          Log.debug(() -> "Re-init of the scenario for the next history; start from scratch. Read the scenario file again.");
           scenario = readInputFile();
         }
         endHistory(scenario, hist, currentDate);
+        sampler.endHistory(hist, histories.get(hist));
+      }
+      Integer replay = sampler.historyToReplay();
+      if (replay != null) {
+        replayHistory(replay, seedForRun, sampler, startDate, endDate);
       }
       
       endAllProcessing(beginTime, scenario);
      
       Log.forceConsole("Done.");
-      Log.flushLogBufferFor(scenario, new File(configFile));
     }
     catch(Throwable ex) {
       Log.error(ex.toString(), ex);
     }
+    finally {
+      Log.closeLogFile();
+    }
   }
 
   // PRIVATE
@@ -165,11 +171,13 @@ public final class RunSimulation implements Runnable {
   private Scenario readInputFile() throws ParseException, IOException {
     Log.log("Reading the input scenario file: " + configFile);
     checkVersionBeforeFullParse(configFile);
-    return ScenarioParser.parse(configFile);
+    Scenario result = ScenarioParser.parse(configFile);
+    result.referenceData = ReferenceData.forProjectRoot(System.getProperty("user.dir") + File.separator); //read only once
+    return result;
   }
   
   private void checkVersionBeforeFullParse(String fileName) throws IOException {
-    Log.log("Checking the syntax-version of the file. It should be " + SYNTAX_VERSION + ", otherwise the scenario file can't be read properly.");
+    Log.debug("Checking the syntax-version of the file. It should be {}, otherwise the scenario file can't be read properly.", SYNTAX_VERSION);
     Path path = Paths.get(fileName);
     try (Scanner scanner =  new Scanner(path, Consts.ENCODING.name())){
       while (scanner.hasNextLine()){
@@ -201,14 +209,35 @@ public final class RunSimulation implements Runnable {
     return result;
   }
   
+  /** 
+   The history ends on the end date of the simulation, or earlier if the year of death 
+   is sampled up front, and it's before the end date. 
+  */
+  private DateTime historyEndFor(Scenario sim, DateTime endDate) {
+    DateTime result = endDate;
+    if (sim.sampledYearOfDeath) {
+      Survival survival = new Survival();
+      Integer yearOfDeath = survival.sampleYearOfDeath(sim);
+      Log.debug("Sampled year of death: {} (on Dec 31).", yearOfDeath);
+      if (yearOfDeath < endDate.getYear()) {
+        result = DateTime.forDateOnly(yearOfDeath, 12, 31);
+      }
+    }
+    return result;
+  }
+  
   /** Return true only if the person has survived the year. */
   private boolean yearEndForThis(Integer iter, Scenario sim, DateTime currentDate) {
     boolean result = true;
-    Log.log(currentDate.getYear() + " year-end.");
+    Log.debug("{} year-end.", currentDate.getYear());
     takeSnapshotsAndCashFlows(sim, currentDate);
-    logYearlySnapshotsAndCashFlows(sim, currentDate);
-    Survival survival = new Survival();
-    result = survival.hasSurvivedThe(currentDate.getYear(), sim);
+    if (Log.isEnabled(Log.Level.DEBUG)) {
+      logYearlySnapshotsAndCashFlows(sim, currentDate);
+    }
+    if (sim.annualTestForSurvival) {
+      Survival survival = new Survival();
+      result = survival.hasSurvivedThe(currentDate.getYear(), sim);
+    }
     //RIF minimums are already checked by the tax return.
     //TFSA limits are validated by TfsaRoom
     return result;
@@ -235,6 +264,41 @@ public final class RunSimulation implements Runnable {
     Log.log(format(sim.investmentsWorth()) + " Investments worth" + Consts.NL);
   }
   
+  /** Run a single history, one day at a time. Return the day after the last day of the history. */
+  private DateTime runHistory(Scenario scenario, int hist, DateTime startDate, DateTime endDate) {
+    DateTime currentDate = startDate;
+    boolean isStillAlive = true;
+    DateTime historyEnd = historyEndFor(scenario, endDate);
+    Log.debug("Incrementing one day at a time, starting with {}", startDate);
+    while (isStillAlive && currentDate.lteq(historyEnd)) {
+      if (isYearStart(currentDate, startDate)) {
+        resetForNewYear(scenario, currentDate);
+      }
+      transactionsUpdateThe(scenario, currentDate);
+      if (isYearEnd(currentDate)) {
+        isStillAlive = yearEndForThis(hist, scenario, currentDate);
+      }
+      currentDate = currentDate.plusDays(1);
+    }
+    return currentDate;
+  }
+  
+  /** 
+   Run the given history again, from a fresh copy of the scenario, with the same random numbers as the first time.
+   The result isn't added to the histories; it's only logged.
+  */
+  private void replayHistory(Integer hist, long seedForRun, HistoryLogSampler sampler, DateTime startDate, DateTime endDate) throws ParseException, IOException {
+    sampler.startReplay(hist);
+    Scenario scenario = readInputFile();
+    RandomNumbers.startHistory(seedForRun, hist);
+    DateTime currentDate = runHistory(scenario, hist, startDate, endDate);
+    if (Log.isEnabled(Log.Level.DEBUG)) {
+      logSummations(scenario, currentDate);
+    }
+    sampler.endReplay(hist, history);
+    history = new History();
+  }
+  
   private void transactionsUpdateThe(Scenario sim, DateTime currentDate) {
     for (Transactional transaction : sim.transactionals) {
       transaction.executeOnDate(currentDate, sim);
@@ -272,22 +336,29 @@ public final class RunSimulation implements Runnable {
     if (sim.tfsaRoom != null) {
       sim.tfsaRoom.yearlyIncrease(); // increase by the 'standard' yearly amount
       Money tfsaRoom = sim.tfsaRoom.roomFor(year); //includes past withdrawals
-      Log.log(format(tfsaRoom) + " TFSA room for " + year  );
+      Log.debug("{} TFSA room for {}", format(tfsaRoom), year);
     }
   }
   
   private void logLimit(String name /* RIF minimum or LIF maximum*/, Money limit, DateTime conversionDate, Integer year) {
     if (limit.eq(Consts.ZERO)) {
-      Log.log(format(Consts.ZERO) + " No " + name + " for "  + year + " (Converts on " + conversionDate + ")." );
+      Log.debug(() -> format(Consts.ZERO) + " No " + name + " for "  + year + " (Converts on " + conversionDate + ")." );
     }
     else {
-      Log.log(format(limit) + " " + name + " for " + year);
+      Log.debug(() -> format(limit) + " " + name + " for " + year);
     }
   }
 
   private void endHistory(Scenario sim, Integer iteration, DateTime currentDate) {
     histories.put(iteration, history);
-    
+    if (Log.isEnabled(Log.Level.DEBUG)) {
+      logSummations(sim, currentDate);
+    }
+    history = new History();
+  }
+  
+  /** Only when the DEBUG level is enabled, since summing and formatting the history isn't free. */
+  private void logSummations(Scenario sim, DateTime currentDate) {
     Log.log("Summations (nominal)");
     CashFlow cashFlowSum = CashFlow.sumOver(history.cashFlow.values());
     Log.log(cashFlowSum);
@@ -303,8 +374,6 @@ public final class RunSimulation implements Runnable {
     Log.log(taxReturnSum);
     
     logNetGrossAndTax(sim, currentDate);
-    
-    history = new History();
   }
 
   /** For each year, log the after-tax income, before-tax income, and tax paid. */
@@ -328,9 +397,30 @@ public final class RunSimulation implements Runnable {
     Log.log("#   Total: " + netTotal + " = " + grossTotal + " - " + taxTotal + "   (Net Worth: " + sim.netWorth()+")");
   }
 
+  /** 
+   Weight the cash flows and taxes of the single (deterministic) history by the probability of being alive in each year.
+   This gives the same expected values as averaging a large number of histories that use the annual test for survival. 
+  */
+  private History expectedValuesFor(Scenario sim, History deterministic) {
+    Survival survival = new Survival();
+    History result = deterministic.weightedBy(survival.probabilityOfBeingAliveIn(sim));
+    Log.log("Expected values, weighted by the probability of survival");
+    Log.log(CashFlow.sumOver(result.cashFlow.values()));
+    Log.log(TaxSummary.sumOver(result.taxSummary.values()));
+    return result;
+  }
+  
   private void endAllProcessing(long beginTime, Scenario sim) {
     CsvReports reports = new CsvReports();
     reports.save(sim, histories, configFile);
+    if (HistoryStore.isEnabled()) {
+      HistoryStore store = new HistoryStore();
+      store.save(sim, histories, configFile);
+    }
+    if (sim.survivalWeightedExpectedValues) {
+      History expected = expectedValuesFor(sim, histories.get(1));
+      reports.saveExpectedValues(sim, expected, configFile);
+    }
 
     Log.log("Scenario description: " + sim.description);
     Log.log("Start-date: " + sim.startDate + " end-date: " + sim.endDate);
@@ -2,10 +2,12 @@ package endgame;
 
 import static endgame.util.Consts.NL;
 
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import endgame.account.Account;
 import endgame.account.lif.Lif;
@@ -14,7 +16,6 @@ import endgame.account.rif.Rif;
 import endgame.account.rif.RifLifMinima;
 import endgame.account.tfsa.TfsaRoom;
 import endgame.bank.BankAccount;
-import endgame.entitlements.GisAmount;
 import endgame.model.Money;
 import endgame.model.YearZero;
 import endgame.output.stats.yearly.CashFlow;
@@ -23,7 +24,6 @@ import endgame.security.stock.Stock;
 import endgame.security.stock.commission.Commission;
 import endgame.security.stock.price.StockPricePolicy;
 import endgame.survival.Sex;
-import endgame.survival.Survival;
 import endgame.tax.CapitalGainLoss;
 import endgame.tax.FederalTaxReturn;
 import endgame.tax.provincial.ProvincialTax;
@@ -68,6 +68,18 @@ public final class Scenario {
    If the person does die, then the history terminates before the {@link #endDate} of the simulation.  
   */
   public Boolean annualTestForSurvival = Boolean.FALSE;
+  /** 
+   If true, then use life tables to pick the year of death once, at the start of each history, instead of testing every year.
+   The probabilities are the same as for {@link #annualTestForSurvival}. Only one of the two can be used.  
+  */
+  public Boolean sampledYearOfDeath = Boolean.FALSE;
+  /**
+   If true, then run a single deterministic history to the end date, and weight each year's cash flows and taxes
+   by the probability of surviving to that year.
+   This gives expected values in one pass, instead of averaging many histories that use {@link #annualTestForSurvival}.
+   Requires a single iteration. Only one of the survival settings can be used.
+  */
+  public Boolean survivalWeightedExpectedValues = Boolean.FALSE;
   /** The sex of the person whose finances are being modeled. Used by life tables. */
   public Sex sex;
   
@@ -79,7 +91,10 @@ public final class Scenario {
   */
   public String endDate = "";
 
-  /** All stocks referenced by the scenario. */
+  /** 
+   All stocks referenced by the scenario. 
+   Indexed by {@link Stock#id()}. Add items only with {@link #addStock(Stock)}.
+  */
   public List<Stock> stocks = new ArrayList<Stock>();
 
   /** The person's bank account. */
@@ -90,6 +105,17 @@ public final class Scenario {
   /** The contribution room that the person has in their Tax Free Savings Account, in a given year. */
   public TfsaRoom tfsaRoom = null;
   
+  /** 
+   The percentages for the minimum yearly withdrawals from a RIF or LIF, by age. 
+   Empty if the scenario file doesn't specify them. 
+  */
+  public RifLifMinima rifLifMinima = RifLifMinima.valueOf(Collections.emptyMap());
+  /** 
+   The percentages for the maximum yearly withdrawals from a LIF, by jurisdictions and age. 
+   Empty if the scenario file doesn't specify them. 
+  */
+  public LifMaxima lifMaxima = LifMaxima.valueOf(Collections.emptyMap());
+  
   /** The person's Retirement Income Fund. Can have RSP or RIF, but not both. */
   public Rif rif = null;
   /** 
@@ -130,6 +156,12 @@ public final class Scenario {
   
   /** Amounts needed to jump start the first year of the simulation. */
   public YearZero yearZero = null;
+  
+  /** 
+   Tables of reference data, shared by all scenarios. Has no entry in scenario.ini.
+   Handed over after the scenario file is parsed.
+  */
+  public ReferenceData referenceData = null;
 
   /** Investment dealer accounts; excludes bank accounts. */
   public List<Account> investmentAccounts(){
@@ -141,19 +173,32 @@ public final class Scenario {
     return Collections.unmodifiableList(result);
   }
 
-  /** Stock data, given the ticker symbol. */
-  public Stock stockFrom(String stockSymbol) {
-    Stock result = null;
-    for(Stock stock : stocks) {
-      if (stock.symbol().equalsIgnoreCase(stockSymbol)) {
-        result = stock;
-        break;
-      }
+  /** 
+   Add a stock to the scenario, and to its symbol table.
+   The stock's id must be the next one in sequence. Stock symbols are unique, ignoring case. 
+  */
+  public void addStock(Stock stock) {
+    if (stock.id() != stocks.size()) {
+      throw new IllegalArgumentException("Stock " + stock.symbol() + " has id " + stock.id() + ", but the next id is " + stocks.size());
+    }
+    if (symbolTable.putIfAbsent(symbolKey(stock.symbol()), stock) != null) {
+      throw new IllegalArgumentException("Stock symbol is defined more than once: " + stock.symbol());
     }
+    stocks.add(stock);
+  }
+
+  /** Stock data, given the ticker symbol. Ignores case. */
+  public Stock stockFrom(String stockSymbol) {
+    Stock result = symbolTable.get(symbolKey(stockSymbol));
     if (result == null) throw new RuntimeException("Unknown stock symbol:" + stockSymbol);
     return result;
   }
   
+  /** Stock data, given its id. */
+  public Stock stockWithId(int id) {
+    return stocks.get(id);
+  }
+  
   /** Net worth of all investment accounts, plus the bank account. */
   public Money netWorth() {
     Money result = investmentsWorth();
@@ -179,6 +224,8 @@ public final class Scenario {
     addLineToString("numMonteCarloIterations", numIterations, result);
     addLineToString("dateOfBirth", dateOfBirth, result);
     addLineToString("annualTestForSurvival", annualTestForSurvival, result);
+    addLineToString("sampledYearOfDeath", sampledYearOfDeath, result);
+    addLineToString("survivalWeightedExpectedValues", survivalWeightedExpectedValues, result);
     addLineToString("simulationStartDate", startDate, result);
     addLineToString("simulationEndDate", endDate, result);
     addLineToString("stocks", stocks, result);
@@ -196,17 +243,25 @@ public final class Scenario {
     return result.toString();
   }
 
-  /** Read in data files, and do miscellaneous checks on the data, that aren't otherwise validated. */
+  /** Do miscellaneous checks on the data, that aren't otherwise validated. */
   public void populateAndValidate() {
-    String projRoot = System.getProperty("user.dir") + File.separator;
-    GisAmount.lookupGisBrackets(projRoot); 
-    Survival.populateTables(projRoot);
+    if (referenceData == null) {
+      throw new RuntimeException("The reference data hasn't been handed to the scenario.");
+    }
     checkStartAndEndDates();
     checkFedTaxReturnInitialYear();
+    checkExpectedValuesHaveOneIteration();
   }
   
   // PRIVATE 
   
+  /** Maps the stock symbol, in upper case, to the stock. */
+  private Map<String, Stock> symbolTable = new LinkedHashMap<>();
+  
+  private static String symbolKey(String stockSymbol) {
+    return stockSymbol.toUpperCase(Locale.ROOT);
+  }
+  
   private void addLineToString(String name, Object value, StringBuilder builder) {
     builder.append(name + ": " + value + NL) ;
   }
@@ -231,6 +286,12 @@ public final class Scenario {
     }
   }
   
+  private void checkExpectedValuesHaveOneIteration() {
+    if (survivalWeightedExpectedValues && numIterations != 1) {
+      throw new RuntimeException("The survival-weighted-expected-values setting needs a single iteration, not " + numIterations);
+    }
+  }
+  
   private void checkFedTaxReturnInitialYear() {
     DateTime start = new DateTime(startDate);
     if (taxReturn.year().intValue() != start.getYear().intValue() ) {
@@ -3,8 +3,11 @@ package endgame.account;
 import static endgame.util.Consts.ZERO;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,32 +35,46 @@ import hirondelle.date4j.DateTime;
  <P>Design note: some method parameters are not used by all implementations (for example, the DateTime param).
  In those cases, the params are simply ignored. 
  This was chosen because it is simpler to ignore unneeded data, than to pass items around.
+ 
+ <P>The stock positions are indexed by the stock's integer id, so finding the position for a stock doesn't need a scan.
+ The iteration order is the order in which the positions were first added, as in the scenario file.
+ 
+ <P>The market value of the account is maintained incrementally, as cash, positions, GICs, and stock prices change.
+ To cross-check it against a full recalculation each time it's used, set the system property 
+ <code>endgame.checkAccountValues</code> to <code>true</code> (debugging only).
 */
 public class Account implements Cashable {
   
   public Account(String cash, Set<StockPosition> stockPositions, Set<GtdInvestmentCert> gics) {
     this.cash = new Money(new BigDecimal(cash));
-    this.stockPositions = stockPositions;
+    for (StockPosition position : stockPositions) {
+      if (this.stockPositions.putIfAbsent(position.stock().id(), position) != null) {
+        throw new IllegalArgumentException("The account has more than one position in the same stock: " + position.stock().symbol());
+      }
+      securitiesValue = securitiesValue.plus(position.marketValue());
+      startHolding(position.stock());
+    }
     this.gics = gics;
+    for(GtdInvestmentCert gic : gics) {
+      securitiesValue = securitiesValue.plus(gic.principal());
+    }
   }
 
   /** The current market value, cash plus securities. */
   public Money value() {
-    Money result = ZERO;
-    result = result.plus(cash);
-    for(StockPosition sp : stockPositions) {
-      Money marketValue = sp.stock().price().times(sp.numShares());
-      result = result.plus(marketValue);
-    }
-    for(GtdInvestmentCert gic : gics) {
-      result = result.plus(gic.principal());
+    Money result = cash.plus(securitiesValue);
+    if (CHECK_VALUES) {
+      Money fullRecalc = recalculatedValue();
+      if (!result.eq(fullRecalc)) {
+        throw new IllegalStateException("Coding error. Account value is " + result + ", but the full recalculation gives " + fullRecalc);
+      }
     }
     return result;
   }
   
   @Override public Money cash() {  return cash; }
-  /** The stocks held by the account. */
-  public Set<StockPosition> stockPositions() { return Collections.unmodifiableSet(stockPositions); }
+  /** The stocks held by the account, in a stable order. */
+  public Collection<StockPosition> stockPositions() { return Collections.unmodifiableCollection(stockPositions.values()); }
   /** The GICs held by the account. */
   public Set<GtdInvestmentCert> gics(){ return Collections.unmodifiableSet(gics);}
   
@@ -117,6 +134,7 @@ public class Account implements Cashable {
     }
     cash = cash.minus(cost);
     gics.add(gic);
+    securitiesValue = securitiesValue.plus(cost);
   }
   /**
    Redeem a GIC that is being held in the account. 
@@ -131,6 +149,7 @@ public class Account implements Cashable {
     result = gic.redemptionValue();
     cash = cash.plus(result);
     gics.remove(gic);
+    securitiesValue = securitiesValue.minus(gic.principal());
     return result;
   }
   
@@ -141,12 +160,20 @@ public class Account implements Cashable {
   
   /** Returns nothing if no position is held by this account for the given stock. */
   public Optional<StockPosition> positionFor(Stock stock) {
-    Optional<StockPosition> result = Optional.empty();
-    for(StockPosition sp : stockPositions) {
-      if (sp.stock().symbol().equals(stock.symbol())) {
-        result = Optional.of(sp);
-        break;
-      }
+    return lookUp(stock);
+  }
+  
+  /** 
+   Multiply the number of shares held in the given stock by the given factor, after an N-to-1 stock split.
+   The price of the stock must already reflect the split.
+   Return the original number of shares (0 if there's no position in the stock).
+  */
+  public Integer splitShares(Stock stock, Integer factor) {
+    Integer result = 0;
+    Optional<StockPosition> position = lookUp(stock);
+    if (position.isPresent()) {
+      result = position.get().numShares();
+      increasePosition(result * factor - result, stock);
     }
     return result;
   }
@@ -154,15 +181,25 @@ public class Account implements Cashable {
   // toString is left out, since all objects will be subclasses of Account.
 
   protected Money cash;
-  protected Set<StockPosition> stockPositions = new LinkedHashSet<>();
+  /** Indexed by {@link Stock#id()}. Insertion order is kept, for reports. */
+  protected Map<Integer /*stock id*/, StockPosition> stockPositions = new LinkedHashMap<>();
   protected Set<GtdInvestmentCert> gics = new LinkedHashSet<>();
   
+  /** Debugging only: cross-check the incrementally maintained value against a full recalculation. */
+  private static final boolean CHECK_VALUES = Boolean.getBoolean("endgame.checkAccountValues");
+  
+  /** The market value of all stock positions and GICs held in the account. Excludes cash. */
+  private Money securitiesValue = ZERO;
+  
+  /** Keeps the securities value up to date when the price of a held stock changes. */
+  private final Stock.PriceListener priceListener = this::priceChanged;
+  
   protected void blowUp() {
     throw new RuntimeException("Unsupported operation.");
   }
   
-  protected Optional<StockPosition> lookUp(String symbol) {
-    return stockPositions.stream().filter(sp -> sp.stock().symbol().equals(symbol)).findFirst();
+  protected Optional<StockPosition> lookUp(Stock stock) {
+    return Optional.ofNullable(stockPositions.get(stock.id()));
   }
   
   /** 
@@ -172,14 +209,18 @@ public class Account implements Cashable {
   */
   private Integer reducePosition(Integer numShares, Stock stock) {
     Integer result = 0;
-    Optional<StockPosition> position = lookUp(stock.symbol());
+    Optional<StockPosition> position = lookUp(stock);
     if (position.isPresent()) {
       if (numShares > position.get().numShares()) {
         throw new IllegalStateException("Sell/transfer-out " + numShares + " of " + stock.symbol() + ", but position is only " + position.get().numShares());
       }
       result = position.get().numShares();
       position.get().decrease(numShares);
-      stockPositions.removeIf(pos -> pos.numShares().equals(0));
+      securitiesValue = securitiesValue.minus(stock.price().times(numShares));
+      if (position.get().numShares().equals(0)) {
+        stockPositions.remove(stock.id());
+        stopHolding(stock);
+      }
     }
     else {
       throw new IllegalStateException("Sell/transfer-out for shares of " + stock.symbol() + ", but no position found.");
@@ -190,13 +231,47 @@ public class Account implements Cashable {
   /** Increase existing, or create new. Return the original number of shares. */
   private Integer increasePosition(Integer numShares, Stock stock) {
     Integer result = 0;
-    Optional<StockPosition> position = lookUp(stock.symbol());
+    Optional<StockPosition> position = lookUp(stock);
     if (position.isPresent()) {
       result = position.get().numShares();
       position.get().increase(numShares);
     }
     else {
-      stockPositions.add(new StockPosition(stock, numShares));
+      stockPositions.put(stock.id(), new StockPosition(stock, numShares));
+      startHolding(stock);
+    }
+    securitiesValue = securitiesValue.plus(stock.price().times(numShares));
+    return result;
+  }
+  
+  /** The stock needs to know about its holders, for dividends and price changes. */
+  private void startHolding(Stock stock) {
+    stock.addHolder(this);
+    stock.addPriceListener(priceListener);
+  }
+  
+  private void stopHolding(Stock stock) {
+    stock.removeHolder(this);
+    stock.removePriceListener(priceListener);
+  }
+  
+  private void priceChanged(Stock stock, Money oldPrice) {
+    StockPosition position = stockPositions.get(stock.id());
+    if (position != null) {
+      Money change = stock.price().minus(oldPrice);
+      securitiesValue = securitiesValue.plus(change.times(position.numShares()));
+    }
+  }
+  
+  private Money recalculatedValue() {
+    Money result = ZERO;
+    result = result.plus(cash);
+    for(StockPosition sp : stockPositions.values()) {
+      Money marketValue = sp.stock().price().times(sp.numShares());
+      result = result.plus(marketValue);
+    }
+    for(GtdInvestmentCert gic : gics) {
+      result = result.plus(gic.principal());
     }
     return result;
   }
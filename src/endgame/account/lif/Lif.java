@@ -3,6 +3,7 @@ package endgame.account.lif;
 import java.util.Set;
 
 import endgame.account.rif.Rif;
+import endgame.account.rif.RifLifMinima;
 import endgame.model.Money;
 import endgame.security.gic.GtdInvestmentCert;
 import endgame.security.stock.Stock;
@@ -32,9 +33,9 @@ public final class Lif extends Rif {
 
   public static Lif valueOf(
     String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, 
-    String liraToRifConversionDate, String jurisdiction, String dob
+    String liraToRifConversionDate, String jurisdiction, String dob, RifLifMinima minima, LifMaxima maxima
   ) {
-    return new Lif(cash, stocks, gics, taxReturn, liraToRifConversionDate, jurisdiction, dob);
+    return new Lif(cash, stocks, gics, taxReturn, liraToRifConversionDate, jurisdiction, dob, minima, maxima);
   }
   
   /** 
@@ -79,25 +80,26 @@ public final class Lif extends Rif {
 
   /** The yearly max you can withdraw from the account. */
   public Money withdrawalMax(Money accountValueOnJan1, Integer year) {
-    LifMaxima max = new LifMaxima(dateOfBirth);
-    return max.withdrawalMax(accountValueOnJan1, year, conversionDate, jurisdiction);
+    return maxima.withdrawalMax(accountValueOnJan1, year, conversionDate, jurisdiction, dateOfBirth);
   }
 
   @Override public String toString() {
     return 
-      "Lif {cash:" + cash + " stocks:" + stockPositions + " GICs:" + gics + " jurisdiction:" + jurisdiction + 
+      "Lif {cash:" + cash + " stocks:" + stockPositions.values() + " GICs:" + gics + " jurisdiction:" + jurisdiction + 
       "date of birth" + dateOfBirth + " conversion date:" + conversionDate + 
     "}";  
   }
   
   /** ON etc. CA for federal. */
   private String jurisdiction;
+  private LifMaxima maxima;
   
   private Lif(
     String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, 
-    String conversionDate, String jurisdiction, String dob
+    String conversionDate, String jurisdiction, String dob, RifLifMinima minima, LifMaxima maxima
   ) {
-    super(cash, stocks, gics, taxReturn, conversionDate, dob);
+    super(cash, stocks, gics, taxReturn, conversionDate, dob, minima);
     this.jurisdiction = jurisdiction;
+    this.maxima = maxima;
   }
 }
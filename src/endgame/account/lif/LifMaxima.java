@@ -1,10 +1,12 @@
 package endgame.account.lif;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import endgame.account.rif.RifLifMinima;
 import endgame.model.Money;
+import endgame.util.CalendarMath;
 import endgame.util.Consts;
 import hirondelle.date4j.DateTime;
 
@@ -23,16 +25,21 @@ import hirondelle.date4j.DateTime;
 */
 public final class LifMaxima {
 
-  public LifMaxima(DateTime dateOfBirth) {
-    this.dateOfBirth = dateOfBirth;
+  /** 
+   Factory method.
+   @param limitPercentages the table that computes the percentage of the account value, by jurisdictions and age.
+   This data is in the scenario file. The table is copied.
+   See {@link #addTableRow(Map, String, Integer, Double)}.
+  */
+  public static LifMaxima valueOf(Map<String /*jurisdictions*/, Map<Integer /*age*/, Double /*percent 0.05*/>> limitPercentages) {
+    return new LifMaxima(limitPercentages);
   }
   
   /** 
-   Add a row of the table that computes percentage of the account value.
-   This method must be called upon startup.
-   This data is in the scenario file.
+   Add a row to a table that computes percentage of the account value.
+   Used when reading the scenario file, before calling {@link #valueOf(Map)}.
   */
-  public static void addTableRow(String jurisdictions, Integer age, Double percent) {
+  public static void addTableRow(Map<String, Map<Integer, Double>> limitPercentages, String jurisdictions, Integer age, Double percent) {
     if (limitPercentages.get(jurisdictions) == null) {
       limitPercentages.put(jurisdictions, new LinkedHashMap<Integer, Double>());
     }
@@ -43,16 +50,16 @@ public final class LifMaxima {
    Compute the maximum LIF withdrawal for the given year.
    @param jurisdiction CA, ON, AB, and so on. 
   */
-  public Money withdrawalMax(Money accountValueOnJan1, Integer year, DateTime conversionDate, String jurisdiction) {
+  public Money withdrawalMax(Money accountValueOnJan1, Integer year, DateTime conversionDate, String jurisdiction, DateTime dateOfBirth) {
     Money result = Consts.ZERO;
     if(RifLifMinima.isLimitApplicable(year, conversionDate)) {
-      result = limitFor(year, accountValueOnJan1, jurisdiction);
+      result = limitFor(year, accountValueOnJan1, jurisdiction, dateOfBirth);
     }
     return result;
   }
 
   @Override public String toString() {
-    return "Lif Maxima date-of-birth:" + dateOfBirth +  " percentages:" + limitPercentages;   
+    return "Lif Maxima percentages:" + limitPercentages;   
   }
   
   //PE is excluded here, since it has no LIRA/LIF
@@ -60,15 +67,19 @@ public final class LifMaxima {
   public static final String MN_ETC = "MN-QC-NS";
   public static final String AB_ETC = "AB-BC-ON-NB-NL-SK";
 
-  private DateTime dateOfBirth;
-  
   private static final Integer FIRST_AGE = 55;
   private static final Integer LAST_AGE = 95;
   
-  /** Making the core data static means you can avoid long-lived objects. */
-  private static Map<String /*jurisdictions - plural!*/, Map<Integer /*year*/, Double /*percent 0.05*/>> limitPercentages = 
-    new LinkedHashMap<String, Map<Integer, Double>>()
-  ;
+  /** Immutable, so it can be shared. */
+  private final Map<String /*jurisdictions - plural!*/, Map<Integer /*year*/, Double /*percent 0.05*/>> limitPercentages;
+  
+  private LifMaxima(Map<String, Map<Integer, Double>> limitPercentages) {
+    Map<String, Map<Integer, Double>> copy = new LinkedHashMap<String, Map<Integer, Double>>();
+    for(String jurisdictions : limitPercentages.keySet()) {
+      copy.put(jurisdictions, Collections.unmodifiableMap(new LinkedHashMap<Integer, Double>(limitPercentages.get(jurisdictions))));
+    }
+    this.limitPercentages = Collections.unmodifiableMap(copy);
+  }
   
   private static final String[] ALL_KEYS = {CA_ETC, MN_ETC, AB_ETC};
   private String keyFor(String jurisdiction) {
@@ -82,8 +93,8 @@ public final class LifMaxima {
     return result;
   }
   
-  private Money limitFor(Integer year, Money accountValueOnJan1, String jurisdiction) {
-    Integer ageOnJan1 = year - dateOfBirth.getYear();
+  private Money limitFor(Integer year, Money accountValueOnJan1, String jurisdiction, DateTime dateOfBirth) {
+    Integer ageOnJan1 = CalendarMath.ageYearsOnly(dateOfBirth, year);
     if (ageOnJan1 < FIRST_AGE) {
       throw new RuntimeException("Age is " + ageOnJan1 +", but expecting minimum age of " + FIRST_AGE);
     }
@@ -5,6 +5,7 @@ import static endgame.util.Consts.ZERO;
 import java.math.BigDecimal;
 
 import endgame.model.Money;
+import endgame.security.stock.Stock;
 import endgame.security.stock.StockPosition;
 
 /** 
@@ -13,16 +14,17 @@ import endgame.security.stock.StockPosition;
 */
 public final class BookValue {
   
-  public static BookValue valueOf(String symbol, String amount) {
-    return new BookValue(symbol, new Money(new BigDecimal(amount)));
+  public static BookValue valueOf(Stock stock, String amount) {
+    return new BookValue(stock, new Money(new BigDecimal(amount)));
   }
  
-  BookValue(String symbol, Money amount) {
-    this.symbol = symbol;
+  BookValue(Stock stock, Money amount) {
+    this.stock = stock;
     this.amount = amount;
   }
 
-  public String getSymbol() { return symbol; }
+  public String getSymbol() { return stock.symbol(); }
+  public Stock getStock() { return stock; }
   public Money getAmount() { return amount; }
   
   /** The cost of acquisition includes commissions, fees. */
@@ -53,9 +55,9 @@ public final class BookValue {
   }
   
   @Override public String toString() {
-    return "BOOK-VALUE {symbol:" + symbol + " amount:" + amount + "}";  
+    return "BOOK-VALUE {symbol:" + stock.symbol() + " amount:" + amount + "}";  
   }
   
-  private String symbol;
+  private Stock stock;
   private Money amount;
 }
\ No newline at end of file
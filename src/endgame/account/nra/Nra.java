@@ -1,6 +1,7 @@
 package endgame.account.nra;
 
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -11,6 +12,7 @@ import endgame.security.stock.Stock;
 import endgame.security.stock.StockPosition;
 import endgame.tax.CapitalGainLoss;
 import endgame.tax.FederalTaxReturn;
+import endgame.util.Consts;
 import hirondelle.date4j.DateTime;
 
 /** 
@@ -26,13 +28,13 @@ public final class Nra extends Account {
   }
   
   @Override public String toString() {
-    return "NRA {cash:" + cash + " stocks:" + stockPositions + " book-values: " + bookValues + "}";  
+    return "NRA {cash:" + cash + " stocks:" + stockPositions.values() + " book-values: " + bookValues.values() + "}";  
   }
   
   /** The book value of the stock needs to be set/adjusted. */
   @Override public Money buyShares(Integer numShares, Stock stock, Money commission) {
     Money costOfAcquisition = super.buyShares(numShares, stock, commission);
-    increaseBookValueBy(costOfAcquisition, stock.symbol());
+    increaseBookValueBy(costOfAcquisition, stock);
     return costOfAcquisition;
   }
   
@@ -44,7 +46,7 @@ public final class Nra extends Account {
   */
   @Override public Integer transferSharesIn(Integer inShares, Stock stock, DateTime when) {
     Money costOfAcquisition = stock.price().times(inShares);
-    increaseBookValueBy(costOfAcquisition, stock.symbol());
+    increaseBookValueBy(costOfAcquisition, stock);
     return super.transferSharesIn(inShares, stock, when);
   }
 
@@ -54,8 +56,8 @@ public final class Nra extends Account {
    book value and capital gain-loss. 
   */
   @Override public Money sellShares(Integer numShares, Stock stock, Money commission) {
-    Optional<StockPosition> sp = lookUp(stock.symbol()); 
-    Optional<BookValue> bv = lookUpBookValue(stock.symbol());
+    Optional<StockPosition> sp = lookUp(stock); 
+    Optional<BookValue> bv = lookUpBookValue(stock);
     if (bv.isEmpty() || sp.isEmpty()) {
       throw new RuntimeException("Trying to sell stock, but the account is missing the position and/or book value: " + stock.symbol());
     }
@@ -69,7 +71,7 @@ public final class Nra extends Account {
       capitalGainLoss = proceeds.minus(fullBookValue);
       
       bv.get().decrease(origNumShares, numShares); // book value to 0, is removed
-      bookValues.removeIf(bookVal -> bookVal.getSymbol().equals(stock.symbol()));
+      bookValues.remove(stock.id());
     }
     else {
       //only a part of the position
@@ -93,8 +95,8 @@ public final class Nra extends Account {
    at the current market value. Gains are taxed, but losses are abandoned (superficial loss rule).
   */
   @Override public Integer transferSharesOut(Integer outShares, Stock stock, DateTime when) {
-    Optional<StockPosition> sp = lookUp(stock.symbol()); 
-    Optional<BookValue> bv = lookUpBookValue(stock.symbol());
+    Optional<StockPosition> sp = lookUp(stock); 
+    Optional<BookValue> bv = lookUpBookValue(stock);
     if (bv.isEmpty() || sp.isEmpty()) {
       throw new RuntimeException("Trying to transfer-out stock, but the account is missing the position and/or book value: " + stock.symbol());
     }
@@ -108,7 +110,7 @@ public final class Nra extends Account {
       capitalGainLoss = proceeds.minus(fullBookValue);
       
       bv.get().decrease(origNumShares, outShares); //book value goes to 0 and is removed
-      bookValues.removeIf(b -> b.getSymbol().equals(stock.symbol()));
+      bookValues.remove(stock.id());
     }
     else {
       //only a part of the position
@@ -124,6 +126,12 @@ public final class Nra extends Account {
     return origNumShares;
   }
   
+  /** The book value of the position in the given stock. Zero if there is no such position. */
+  public Money bookValueOf(Stock stock) {
+    Optional<BookValue> bv = lookUpBookValue(stock);
+    return bv.isPresent() ? bv.get().getAmount() : Consts.ZERO;
+  }
+  
   /** Dividend tax credit. */
   @Override public void dividend(Money amount) {
     super.dividend(amount);
@@ -134,26 +142,31 @@ public final class Nra extends Account {
    Explicitly separated from the stock positions, in order to keep the
    stock-position logic "clean", in the sense of avoiding code of the sort: 
    "this data only applies if non-reg". This makes for some 'parallelism' in the code.
+   Indexed by the stock id, in the same way as the stock positions.
   */
-  private Set<BookValue> bookValues = new LinkedHashSet<BookValue>();
+  private Map<Integer /*stock id*/, BookValue> bookValues = new LinkedHashMap<>();
   private FederalTaxReturn taxReturn;
   private CapitalGainLoss capGainLoss;
  
   private Nra(String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, Set<BookValue> bookValues, FederalTaxReturn taxReturn, CapitalGainLoss capGainLoss) {
     super(cash, stocks, gics);
-    this.bookValues = bookValues;
+    for (BookValue bookValue : bookValues) {
+      if (this.bookValues.putIfAbsent(bookValue.getStock().id(), bookValue) != null) {
+        throw new IllegalArgumentException("The account has more than one book value for the same stock: " + bookValue.getSymbol());
+      }
+    }
     this.taxReturn = taxReturn;
     this.capGainLoss = capGainLoss;
   }
   
-  private Optional<BookValue> lookUpBookValue(String symbol) {
-    return bookValues.stream().filter(bv -> bv.getSymbol().equals(symbol)).findFirst();
+  private Optional<BookValue> lookUpBookValue(Stock stock) {
+    return Optional.ofNullable(bookValues.get(stock.id()));
   }
   
-  private void increaseBookValueBy(Money costOfAcquisition, String symbol) {
-    Optional<BookValue> bv = lookUpBookValue(symbol);
+  private void increaseBookValueBy(Money costOfAcquisition, Stock stock) {
+    Optional<BookValue> bv = lookUpBookValue(stock);
     if (bv.isEmpty()) {
-      bookValues.add(new BookValue(symbol, costOfAcquisition));
+      bookValues.put(stock.id(), new BookValue(stock, costOfAcquisition));
     }
     else {
       bv.get().increaseBy(costOfAcquisition);
@@ -31,8 +31,8 @@ import hirondelle.date4j.DateTime;
 */
 public class Rif extends Account {
 
-  public static Rif valueOf(String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, String conversionDate, String dob) {
-    return new Rif(cash, stocks, gics, taxReturn, conversionDate, dob);
+  public static Rif valueOf(String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, String conversionDate, String dob, RifLifMinima minima) {
+    return new Rif(cash, stocks, gics, taxReturn, conversionDate, dob, minima);
   }
   
   /** Not permitted. */
@@ -68,7 +68,7 @@ public class Rif extends Account {
   }
 
   @Override public String toString() {
-    return "Rif {cash:" + cash + " stocks:" + stockPositions + " GICs:" + gics + " date of birth:" + dateOfBirth + " conversion date:" + conversionDate + "}";  
+    return "Rif {cash:" + cash + " stocks:" + stockPositions.values() + " GICs:" + gics + " date of birth:" + dateOfBirth + " conversion date:" + conversionDate + "}";  
   }
   
   /** When the RSP was converted to a RIF. */
@@ -78,13 +78,13 @@ public class Rif extends Account {
   
   /** The yearly minimum you can withdraw from the account. */
   public Money withdrawalMin(Money accountValueOnJan1, Integer year) {
-    RifLifMinima min = new RifLifMinima(dateOfBirth);
-    return min.compute(accountValueOnJan1, year, conversionDate);
+    return minima.compute(accountValueOnJan1, year, conversionDate, dateOfBirth);
   }
   
-  protected Rif(String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, String rspToRifConversionDate, String dob) {
+  protected Rif(String cash, Set<StockPosition> stocks, Set<GtdInvestmentCert> gics, FederalTaxReturn taxReturn, String rspToRifConversionDate, String dob, RifLifMinima minima) {
     super(cash, stocks, gics);
     this.taxReturn = taxReturn;
+    this.minima = minima;
     this.conversionDate = new DateTime(rspToRifConversionDate);
     this.dateOfBirth = new DateTime(dob);
     validateTheConversionDate();
@@ -93,6 +93,7 @@ public class Rif extends Account {
   protected DateTime dateOfBirth;
   protected DateTime conversionDate;
   protected FederalTaxReturn taxReturn;
+  protected RifLifMinima minima;
   
   /** Provided to add access to this code from the Lif subclass. */
   protected Money baseWithdrawCash(Money grossAmount, DateTime when) {
@@ -1,9 +1,11 @@
 package endgame.account.rif;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import endgame.model.Money;
+import endgame.util.CalendarMath;
 import endgame.util.Consts;
 import hirondelle.date4j.DateTime;
 
@@ -21,12 +23,12 @@ import hirondelle.date4j.DateTime;
 public final class RifLifMinima {
   
   /** 
-   Add a row of the table that computes percentage of the account value.
-   This method must be called upon startup.
-   This data is in the scenario file.
+   Factory method.
+   @param limitPercentages the table that computes the percentage of the account value, by age. 
+   This data is in the scenario file. The table is copied.
   */
-  public static void addTableRow(Integer age, Double percent) {
-    limitPercentages.put(age, percent);
+  public static RifLifMinima valueOf(Map<Integer /*age*/, Double /*percent 0.05*/> limitPercentages) {
+    return new RifLifMinima(limitPercentages);
   }
   
   /** Applies only in the conversion year + 1. */
@@ -34,34 +36,32 @@ public final class RifLifMinima {
     return year >= conversionDate.getYear() + 1;
   }
   
-  public RifLifMinima(DateTime dob) {
-    this.dateOfBirth = dob;
-  }
-  
   /** 
    Compute the withdrawal limit for the given year.
    If the year is before conversion-year + 1, then the minimum is 0.
   */
-  public Money compute(Money accountValueOnJan1, Integer year, DateTime conversionDate) {
+  public Money compute(Money accountValueOnJan1, Integer year, DateTime conversionDate, DateTime dateOfBirth) {
     Money result = Consts.ZERO;
     if(isLimitApplicable(year, conversionDate)) {
-      result = limitFor(year, accountValueOnJan1);
+      result = limitFor(year, accountValueOnJan1, dateOfBirth);
     }
     return result;
   }
 
   @Override public String toString() {
-    return "RIF-LIF Minima date-of-birth:" + dateOfBirth + " " + limitPercentages;   
+    return "RIF-LIF Minima " + limitPercentages;   
   }
   
-  private DateTime dateOfBirth;
+  /** Immutable, so it can be shared. */
+  private final Map<Integer, Double> limitPercentages;
   
-  /** Making this static lets you avoid needing long-lived objects. */
-  private static Map<Integer, Double> limitPercentages = new LinkedHashMap<Integer, Double>();
+  private RifLifMinima(Map<Integer, Double> limitPercentages) {
+    this.limitPercentages = Collections.unmodifiableMap(new LinkedHashMap<Integer, Double>(limitPercentages));
+  }
   
   /** Compute the minimum RIF-LIF withdrawal for the given year. */
-  private Money limitFor(Integer year, Money accountValueOnJan1) {
-    Integer ageOnJan1 = year - dateOfBirth.getYear();
+  private Money limitFor(Integer year, Money accountValueOnJan1, DateTime dateOfBirth) {
+    Integer ageOnJan1 = CalendarMath.ageYearsOnly(dateOfBirth, year);
     Double fraction = 0.0D;
     //some hard-coded constants used here!
     if (ageOnJan1 < 71) {
@@ -28,7 +28,7 @@ public final class Tfsa extends Account {
   }
 
   @Override public String toString() {
-    return "TFSA {cash:" + cash + " stocks:" + stockPositions + "}";  
+    return "TFSA {cash:" + cash + " stocks:" + stockPositions.values() + "}";  
   }
 
   @Override public void depositCash(Money amount, DateTime when) {
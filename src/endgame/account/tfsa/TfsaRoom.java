@@ -1,9 +1,6 @@
 package endgame.account.tfsa;
 
-import static endgame.util.Consts.ZERO;
-
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import endgame.model.Money;
 
@@ -14,6 +11,9 @@ import endgame.model.Money;
  TFSA-contributions drain the bucket.
  Each year the bucket is topped up by a standard amount.
  It's also topped up by TFSA-withdrawals from previous years.  
+ 
+ <P>The withdrawals are aggregated by year, and all amounts are kept in cents.
+ Queries and contributions have a constant cost, no matter how many withdrawals have been made.
 */
 public final class TfsaRoom {
 
@@ -28,7 +28,7 @@ public final class TfsaRoom {
    TFSA contribution limit is (usually) meant to track inflation. 
   */
   public void yearlyIncrease() {
-    mainRoom = mainRoom.plus(yearlyLimit);
+    mainRoom += yearlyLimit;
   }
   
   /**
@@ -42,108 +42,122 @@ public final class TfsaRoom {
 
   /** Withdrawals from a TFSA increase your room, but only for future years (after the given year). */
   public void increaseFromWithdrawal(Money withdrawalAmount, Integer year) {
-    Withdrawal wd = new Withdrawal(year, withdrawalAmount);
-    pastWithdrawalsRoom.add(wd);
+    rollForwardTo(year);
+    withdrawals = grownFor(withdrawals, year);
+    withdrawals[year - firstYear] += withdrawalAmount.asCents();
+    availableNextYear += withdrawalAmount.asCents();
   }
   
   /** 
    How much you can contribute to your TFSA, for the CURRENT year.
    Every time you make a contribution to your TFSA, it cannot exceed this limit.
-   WARNING: this will not give you HISTORICAL values of your room.
+   WARNING: this will not give you HISTORICAL values of your room. The year can only go forward in time.
   */
   public Money roomFor(Integer currentYear) {
-    Money result = mainRoom;
-    for (Withdrawal pastWithdrawal : pastWithdrawalsRoom) {
-      if (currentYear > pastWithdrawal.year) {
-        result = result.plus(pastWithdrawal.amount);
-      }
-    }
-    return result;
+    rollForwardTo(currentYear);
+    return Money.fromCents(mainRoom + withdrawalsRoom);
   }
   
   @Override public String toString() {
-    return "Tfsa room " + mainRoom + " past w/d:" + pastWithdrawalsRoom;
+    StringBuilder result = new StringBuilder("Tfsa room " + Money.fromCents(mainRoom) + " past w/d:" + Money.fromCents(withdrawalsRoom) + " [");
+    if (firstYear != null) {
+      for (int idx = 0; idx < withdrawals.length; ++idx) {
+        if (withdrawals[idx] != 0) {
+          result.append("year: " + (firstYear + idx) + " amt:" + Money.fromCents(withdrawals[idx]) + " ");
+        }
+      }
+    }
+    result.append("]");
+    return result.toString();
   }
   
   // PRIVATE 
   
+  private static final int INITIAL_NUM_YEARS = 64;
+  
   /** 
-   The simple 'standard' yearly amount from the CRA.
+   The simple 'standard' yearly amount from the CRA, in cents.
    This amount doesn't depend on any actions you have taken in the past.
    This amount is used for all future years (which is a reasonable approximation).
   */
-  private Money yearlyLimit;
+  private long yearlyLimit;
   
   /**
-   The current room available for contributions, but without taking into account 
-   past withdrawals, which are handled as separate buckets attached to a year.
+   The current room available for contributions, in cents, but without taking into account 
+   past withdrawals, which are tracked separately.
   */
-  private Money mainRoom;
-  
-  private static final class Withdrawal {
-    Withdrawal(Integer year, Money amount){
-      this.year = year;
-      this.amount = amount;
-    }
-    /** The year the withdrawal is made. */
-    Integer year;
-    Money amount;
-    @Override public String toString() {
-      return "year: " + year + " amt:" + amount;
-    }
-  }
+  private long mainRoom;
   
   /**
    When you withdraw from a TFSA, that amount is added to your room. 
    But it's added in a special way: it's only added for future years, so it's not 
    immediately available when you make a withdrawal.
    
-   Metaphor: a separate bucket of water is created for each withdrawal.
-   These buckets add to your 'real' room, but only if the year-logic is satisfied. 
+   <P>Metaphor: a separate bucket of water for the withdrawals.
+   The withdrawals of a given year go into the bucket only when the next year starts.
+   The bucket is drained by contributions before the main room is.
    
-   The withdrawals are added in time-order.
-   When a bucket is emptied, it's removed from the list.
+   <P>All amounts are in cents.
   */
-  private List<Withdrawal> pastWithdrawalsRoom = new ArrayList<Withdrawal>();
+  private long withdrawalsRoom;
+  
+  /** Withdrawals made in the current year, which become room on Jan 1 of next year. */
+  private long availableNextYear;
+  
+  /** The year of the most recent call. Null until the first call. Only goes forward in time. */
+  private Integer currentYear;
+  
+  /** Index 0 of the array corresponds to this year. Null until the first withdrawal. */
+  private Integer firstYear;
+  
+  /** The total withdrawals in each year, for reporting only. Indexed by the number of years since the first year. */
+  private long[] withdrawals = new long[INITIAL_NUM_YEARS];
   
   private TfsaRoom(Money initialRoom, Money yearlyLimit) {
-    this.mainRoom = initialRoom;
-    this.yearlyLimit = yearlyLimit;
+    this.mainRoom = initialRoom.asCents();
+    this.yearlyLimit = yearlyLimit.asCents();
+  }
+  
+  /** When a new year is seen, last year's withdrawals become room. Constant cost. */
+  private void rollForwardTo(Integer year) {
+    if (currentYear == null) {
+      currentYear = year;
+    }
+    if (year < currentYear) {
+      throw new IllegalArgumentException("TFSA room for year " + year + " is asked for after year " + currentYear);
+    }
+    if (year > currentYear) {
+      withdrawalsRoom += availableNextYear;
+      availableNextYear = 0;
+      currentYear = year;
+    }
+  }
+  
+  /** The array grows if needed. */
+  private long[] grownFor(long[] array, Integer year) {
+    if (firstYear == null) {
+      firstYear = year;
+    }
+    int idx = year - firstYear;
+    return idx < array.length ? array : Arrays.copyOf(array, Math.max(idx + 1, 2 * array.length));
   }
   
   /** Progressive; if multiple contributions are made in a year, this figures out when the limit is exceeded. */
   private void reduceBecauseOfContribution(Money contribAmount, Integer year) {
-    if (contribAmount.gt(roomFor(year))) {
-      throw new IllegalArgumentException("TFSA contribution " + contribAmount + " exceeds room " + roomFor(year));
+    Money room = roomFor(year);
+    if (contribAmount.gt(room)) {
+      throw new IllegalArgumentException("TFSA contribution " + contribAmount + " exceeds room " + room);
     }
     
-    //first take away from withdrawalsRoom
-    Money remainder = contribAmount; //reduce this to 0
-    for (Withdrawal pastWithdrawal : pastWithdrawalsRoom) {
-      if (year > pastWithdrawal.year) {
-        if(remainder.lteq(pastWithdrawal.amount)) {
-          //the bucket can eat up all of what's left
-          pastWithdrawal.amount = pastWithdrawal.amount.minus(remainder);
-          remainder = ZERO;
-          break;
-        }
-        else {
-          //the bucket can't eat up all of what's left
-          remainder = remainder.minus(pastWithdrawal.amount);
-          pastWithdrawal.amount = ZERO;
-        }
-      }
-    }
-    
-    //cleanup: remove any empty withdrawal buckets; they are no longer useful
-    pastWithdrawalsRoom.removeIf(withdrawal -> withdrawal.amount.isZero());
-    
-    //now take away the remainder from mainRoom
-    mainRoom = mainRoom.minus(remainder);
+    //first take away from the room coming from past withdrawals, then from the main room
+    long amount = contribAmount.asCents();
+    long fromWithdrawals = Math.min(amount, withdrawalsRoom);
+    withdrawalsRoom -= fromWithdrawals;
+    mainRoom -= (amount - fromWithdrawals);
     
-    if (mainRoom.isMinus()) {
+    if (mainRoom < 0) {
       //this shouldn't happen if I've coded this correctly; just being defensive here
       throw new IllegalArgumentException("TFSA contribution " + contribAmount + " exceeds room for year " + year);
     }
   }
-}
\ No newline at end of file
+}
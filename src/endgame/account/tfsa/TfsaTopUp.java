@@ -35,7 +35,7 @@ public final class TfsaTopUp extends Transactional {
   
   @Override protected void execute(DateTime when, Scenario sim) {
     Money tfsaRoom = sim.tfsaRoom.roomFor(when.getYear());
-    logMe(when, "TFSA room for " + when.getYear() + " " + tfsaRoom);
+    logMe(when, () -> "TFSA room for " + when.getYear() + " " + tfsaRoom);
     Money totalTransferredSoFar = Consts.ZERO;
     //unusual: need to exit from multiple loops; using a label to do that:
     transferShares:
@@ -59,7 +59,7 @@ public final class TfsaTopUp extends Transactional {
             
             account.transferSharesOut(transfer.numShares, stock, when);
             sim.tfsa.transferSharesIn(transfer.numShares, stock, when); //this adjusts the room 
-            logMe(when, "Transfer from " + transfer.account + " " + transfer.value + " (" +  transfer.numShares + " shares) of "+ transfer.symbol + ". Room remaining " + sim.tfsaRoom.roomFor(when.getYear()));
+            logMe(when, () -> "Transfer from " + transfer.account + " " + transfer.value + " (" +  transfer.numShares + " shares) of "+ transfer.symbol + ". Room remaining " + sim.tfsaRoom.roomFor(when.getYear()));
             
             if (transfer.isPartial) {
               break transferShares; //exit the account loop
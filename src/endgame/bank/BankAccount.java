@@ -33,7 +33,7 @@ public final class BankAccount implements Cashable {
     }
     cash = cash.minus(amount);
     if (cash.lt(smallBalanceLimit)) {
-      Log.log("  Bank balance: " + cash  + " is under the small-balance limit of " + smallBalanceLimit);
+      Log.trace("  Bank balance: {} is under the small-balance limit of {}", cash, smallBalanceLimit);
     }
     return Consts.ZERO;
   }
@@ -7,6 +7,7 @@ import endgame.Scenario;
 import endgame.model.Money;
 import endgame.transaction.TransactionDates;
 import endgame.transaction.Transactional;
+import endgame.util.CalendarMath;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
 
@@ -50,10 +51,10 @@ public final class CppPayment extends Transactional {
   */
   @Override protected void execute(DateTime when, Scenario sim) {
     if (hasPaymentThisMonth(when)) {
-      Money amount = getMonthlyAmount();
-      if (survivorDate !=null && when.gteq(survivorDate)) {
-        amount = amount.plus(survivorAmt);
+      if (schedule == null || !schedule.isFor(when)) {
+        schedule = new PaymentSchedule(when.getYear(), month -> amountFor(DateTime.forDateOnly(when.getYear(), month, paymentDay)));
       }
+      Money amount = schedule.amountFor(when);
       sim.bank.depositCash(amount, when);
       sim.taxReturn.addCppIncome(amount);
       sim.yearlyCashFlows.cpp = sim.yearlyCashFlows.cpp.plus(amount);
@@ -86,6 +87,7 @@ public final class CppPayment extends Transactional {
     this.monthlyReward = monthlyReward;
     this.monthlyPenalty = monthlyPenalty;
     this.nominalStart = nominalStart;
+    this.paymentDay = payDay;
     if (chosenStartMonth.lt(earliestStart(dateOfBirth))) {
       throw new IllegalArgumentException("The earliest you can start OAS is " + earliestStart(dateOfBirth) +", but you are choosing " + chosenStartMonth);
     }
@@ -112,16 +114,19 @@ public final class CppPayment extends Transactional {
   private Integer startWindowEnd;
   private Money survivorAmt;
   private DateTime survivorDate;
+  private Integer paymentDay;
+  /** The monthly amounts for the current year. */
+  private PaymentSchedule schedule;
   
   private static final Integer FIRST_DAY_OF_THE_MONTH = 1;
   private static final String FIRST_OF_THE_MONTH = "-01";
 
   private DateTime earliestStart(DateTime dob) {
-    return Util.monthAfterYouTurn(startWindowBegin, dob);
+    return CalendarMath.monthAfterYouTurn(startWindowBegin, dob);
   }
   
   private DateTime latestStart(DateTime dob) {
-    return Util.monthAfterYouTurn(startWindowEnd, dob);
+    return CalendarMath.monthAfterYouTurn(startWindowEnd, dob);
   }
   
   /**
@@ -131,7 +136,7 @@ public final class CppPayment extends Transactional {
   private Money monthlyAmount() {
     Money result = nominalMonthlyAmount;
     //start-month is for payment; but the calc here is for the previous month, so + 1
-    int numMonths = Util.numMonthsBetween(chosenStartMonth, monthTurn65()) + 1; 
+    int numMonths = CalendarMath.numMonthsBetween(CalendarMath.epochMonth(chosenStartMonth), epochMonthTurn65()) + 1; 
     if (numMonths != 0) {
       Money adjustment = ZERO;
       if (numMonths > 0) {
@@ -146,17 +151,20 @@ public final class CppPayment extends Transactional {
     return result;
   }
 
-  /** Coerce to the first of the month. */
-  private DateTime monthTurn65() {
-    return DateTime.forDateOnly(monthOfBirth.getYear() + nominalStart, monthOfBirth.getMonth(), FIRST_DAY_OF_THE_MONTH);
+  private int epochMonthTurn65() {
+    return CalendarMath.epochMonth(monthOfBirth.getYear() + nominalStart, monthOfBirth.getMonth());
   }
   
   private boolean hasPaymentThisMonth(DateTime day) {
     return !day.lt(chosenStartMonth);
   }
 
-  /** Adjusted from the nominal amount at 65, given the chosen start month. */
-  private Money getMonthlyAmount() {
-    return monthlyAmount;
+  /** Adjusted from the nominal amount at 65, given the chosen start month. Includes the survivor benefit, if any. */
+  private Money amountFor(DateTime paymentDate) {
+    Money result = monthlyAmount;
+    if (survivorDate !=null && paymentDate.gteq(survivorDate)) {
+      result = result.plus(survivorAmt);
+    }
+    return result;
   }
 }
\ No newline at end of file
@@ -1,16 +1,9 @@
 package endgame.entitlements;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
-
 import endgame.model.Money;
 import endgame.tax.FederalTaxReturn;
 import endgame.transaction.Transactional;
 import endgame.util.Consts;
-import endgame.util.Log;
 import endgame.util.Util;
 
 /**
@@ -27,6 +20,11 @@ import endgame.util.Util;
 */
 public final class GisAmount {
   
+  /** Constructor. The table is reference data, shared by all scenarios. */
+  GisAmount(GisTable table){
+    this.table = table;
+  }
+  
   /** 
    Calculate your monthly GIS amount, if any, using numbers from last year's tax return. 
    @param netIncomeLastYear line 23600; excludes GIS, since GIS is tax-free. 
@@ -36,7 +34,7 @@ public final class GisAmount {
   */
   Money monthlyAmount(Money netIncomeLastYear, Money oasLastYear, Money employmentIncomeLastYear, Money exempt) {
     Money incomeForGis = netIncomeLastYear.minus(oasLastYear);
-    Money result = tableLookup(incomeForGis);
+    Money result = table.amountFor(incomeForGis);
     if (result.isPlus()) {
       result = result.minus(clawback(employmentIncomeLastYear, exempt));
       result = Util.nonNegative(result);
@@ -44,50 +42,11 @@ public final class GisAmount {
     return result;
   }
   
-  /** Called only once upon startup, to read the config file that specifies the GIS brackets. */
-  public static void lookupGisBrackets(String projectRoot) {
-    try {
-      Path fileLocation = Path.of(projectRoot, "input", "gis", "gis-brackets.utf8");
-      Log.log("Reading file " + fileLocation);
-      List<String> lines = Util.read(fileLocation.toString());
-      for (String line : lines) {
-        BRACKETS.add(parseLine(line));
-      }
-      BRACKET_MAX = BRACKETS.get(BRACKETS.size()-1).max;
-    }
-    catch(IOException ex) {
-      throw new RuntimeException(ex.getMessage());
-    }
-  }
-
   // PRIVATE 
   
   private static final Double HALF = 0.5;
   
-  private static List<Bracket> BRACKETS = new ArrayList<Bracket>();
-  private static Money BRACKET_MAX;
-  
-  private static final class Bracket {
-    Bracket(Money max, Money amount){
-      this.max = max;
-      this.amount = amount;
-    }
-    Money max;
-    Money amount;
-  }
-  
-  private Money tableLookup(Money incomeForGis) {
-    Money result = Consts.ZERO;
-    if (incomeForGis.lteq(BRACKET_MAX)) {
-      for(Bracket bracket : BRACKETS) {
-        if (incomeForGis.lteq(bracket.max)) {
-          result = bracket.amount;
-          break;
-        }
-      }
-    }
-    return result;
-  }
+  private GisTable table;
   
   /**
    You can have employment income up to {@link #EXEMPT}, with no penalty. 
@@ -113,22 +72,4 @@ public final class GisAmount {
     Money halfExcess = excess.times(HALF);
     return halfExcess.lt(exempt) ? halfExcess : exempt;
   }
-  
-  /*
-   Examples. First and last line of the file:
-    0.00_23.99:935.72
-    18,960.00_18,983.99:0.79
-  */ 
-  private static Bracket parseLine(String line) {
-    String[] parts = line.split(Pattern.quote(":"));
-    Money amount = new Money(noComma(parts[1]));
-    String range = parts[0];
-    String[] rangeParts = range.split(Pattern.quote("_"));
-    Money max = new Money(noComma(rangeParts[1]));
-    return new Bracket(max, amount);
-  }
-  
-  private static String noComma(String amount) {
-    return amount.replace(",", "");
-  }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package endgame.entitlements;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import endgame.model.Money;
+import endgame.util.CompiledTable;
+import endgame.util.Consts;
+import endgame.util.Log;
+
+/**
+ The table of monthly GIS amounts, one for each bracket of income.
+ Used by {@link GisAmount}.
+ 
+ <P>This class is immutable, and can be shared between threads.
+*/
+public final class GisTable {
+
+  /** Read the config file that specifies the GIS brackets, from the <code>input</code> directory. */
+  public static GisTable load(String projectRoot) {
+    Path fileLocation = Path.of(projectRoot, "input", "gis", "gis-brackets.utf8");
+    Log.log("Reading file " + fileLocation);
+    long[][] columns = CompiledTable.load(fileLocation, GisTable::parseLines);
+    return new GisTable(columns[0], columns[1]);
+  }
+  
+  /** The amount for the first bracket whose max is greater than or equal to the income. 0 if past the last bracket. */
+  Money amountFor(Money incomeForGis) {
+    Money result = Consts.ZERO;
+    long income = incomeForGis.asCents();
+    int idx = Arrays.binarySearch(bracketMaxima, income);
+    if (idx < 0) {
+      idx = -idx - 1; //the insertion point
+    }
+    if (idx < bracketMaxima.length) {
+      result = Money.fromCents(amounts[idx]);
+    }
+    return result;
+  }
+  
+  // PRIVATE 
+  
+  /** 
+   The max of each bracket, in cents, in increasing order. 
+   Parallel to {@link #amounts}, and searched with a binary search. 
+  */
+  private final long[] bracketMaxima;
+  /** The monthly GIS amount for each bracket, in cents. */
+  private final long[] amounts;
+  
+  private GisTable(long[] bracketMaxima, long[] amounts) {
+    this.bracketMaxima = bracketMaxima;
+    this.amounts = amounts;
+  }
+  
+  private static final class Bracket {
+    Bracket(Money max, Money amount){
+      this.max = max;
+      this.amount = amount;
+    }
+    Money max;
+    Money amount;
+  }
+  
+  /** Return two columns: the max of each bracket, and the corresponding monthly amount, both in cents. */
+  private static long[][] parseLines(List<String> lines) {
+    long[] maxima = new long[lines.size()];
+    long[] amounts = new long[lines.size()];
+    for (int idx = 0; idx < lines.size(); ++idx) {
+      Bracket bracket = parseLine(lines.get(idx));
+      maxima[idx] = bracket.max.asCents();
+      amounts[idx] = bracket.amount.asCents();
+      if (idx > 0 && maxima[idx] <= maxima[idx-1]) {
+        throw new IllegalArgumentException("GIS brackets must be in increasing order: " + lines.get(idx));
+      }
+    }
+    return new long[][] {maxima, amounts};
+  }
+  
+  /*
+   Examples. First and last line of the file:
+    0.00_23.99:935.72
+    18,960.00_18,983.99:0.79
+  */ 
+  private static Bracket parseLine(String line) {
+    String[] parts = line.split(Pattern.quote(":"));
+    Money amount = new Money(noComma(parts[1]));
+    String range = parts[0];
+    String[] rangeParts = range.split(Pattern.quote("_"));
+    Money max = new Money(noComma(rangeParts[1]));
+    return new Bracket(max, amount);
+  }
+  
+  private static String noComma(String amount) {
+    return amount.replace(",", "");
+  }
+}
@@ -5,6 +5,7 @@ import endgame.model.Money;
 import endgame.output.stats.yearly.TaxSummary;
 import endgame.transaction.TransactionDates;
 import endgame.transaction.Transactional;
+import endgame.util.CalendarMath;
 import endgame.util.Consts;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
@@ -49,8 +50,11 @@ public final class OasPayment extends Transactional {
   */
   @Override protected void execute(DateTime when, Scenario sim) {
     if (hasPaymentThisMonth(when)) {
-      Money oasAmount = monthlyAmountIncludingClawback(when, sim);
-      Money gisAmount = getMonthlyGisAmount(sim);
+      if (oasSchedule == null || !oasSchedule.isFor(when)) {
+        calcSchedulesFor(when.getYear(), sim);
+      }
+      Money oasAmount = oasSchedule.amountFor(when);
+      Money gisAmount = gisSchedule.amountFor(when);
       Money totalAmount = oasAmount.plus(gisAmount);
       sim.bank.depositCash(totalAmount, when);
       
@@ -92,6 +96,9 @@ public final class OasPayment extends Transactional {
     this.startWinBegin = startWinBegin;
     this.startWinEnd = startWinEnd;
     this.gisExempt = gisExempt;
+    this.paymentDay = Integer.valueOf(paymentDay);
+    //-1 because the start month is the month of first payment, not the month for which the payment calc is made
+    this.numRewardMonths = CalendarMath.numMonthsBetween(epochMonthTurn65(), CalendarMath.epochMonth(chosenStartMonth)) - 1;
     if (chosenStartMonth.lt(earliestStart(dateOfBirth))) {
       throw new IllegalArgumentException("The earliest you can start OAS is " + earliestStart(dateOfBirth) +", but you are choosing " + chosenStartMonth);
     }
@@ -116,29 +123,38 @@ public final class OasPayment extends Transactional {
   private Integer startWinEnd;
   private Money gisExempt;
   
+  private Integer paymentDay;
+  /** The number of months of delay past 65, which earn a reward. */
+  private int numRewardMonths;
+  
+  /** 
+   OAS depends only on your age and on last year's numbers, and GIS depends only on last year's numbers. 
+   So they're calculated only once per year.
+  */
+  private PaymentSchedule oasSchedule;
+  private PaymentSchedule gisSchedule;
+  
   private static final Integer FIRST_DAY_OF_THE_MONTH = 1;
   private static final String FIRST_OF_THE_MONTH = "-01";
   private static final int PER_MONTH = 12;
   
   private DateTime earliestStart(DateTime dob) {
-    return Util.monthAfterYouTurn(startWinBegin, dob);
+    return CalendarMath.monthAfterYouTurn(startWinBegin, dob);
   }
   
   private DateTime latestStart(DateTime dob) {
-    return Util.monthAfterYouTurn(startWinEnd, dob);
+    return CalendarMath.monthAfterYouTurn(startWinEnd, dob);
   }
   
   private Integer age(DateTime when) {
-    return Util.age(dateOfBirth, when);
+    return CalendarMath.age(dateOfBirth, when);
   }
   
-  private Money monthlyAmountIncludingClawback(DateTime when, Scenario sim) {
+  private Money monthlyAmountIncludingClawback(DateTime when, Money clawback) {
     Money result = monthlyAmountAt65;
     
-    //-1 because the start month is the month of first payment, not the month for which the payment calc is made
-    int numMonths = Util.numMonthsBetween(monthTurn65(), chosenStartMonth) - 1;
-    if (numMonths > 0) {
-      Money adjustment = result.times(numMonths * monthlyReward);
+    if (numRewardMonths > 0) {
+      Money adjustment = result.times(numRewardMonths * monthlyReward);
       result = result.plus(adjustment);
     }
     
@@ -146,7 +162,7 @@ public final class OasPayment extends Transactional {
       result = result.times(1.0 + boostPercent);
     }
     
-    result = result.minus(clawbackAmount(sim));
+    result = result.minus(clawback);
     return result.gt(Consts.ZERO) ? result : Consts.ZERO;
   }
 
@@ -172,24 +188,30 @@ public final class OasPayment extends Transactional {
     return result;
   }
 
-  /** Coerce to the first of the month. */
-  private DateTime monthTurn65() {
-    return DateTime.forDateOnly(monthOfBirth.getYear() + startWinBegin, monthOfBirth.getMonth(), FIRST_DAY_OF_THE_MONTH);
+  private int epochMonthTurn65() {
+    return CalendarMath.epochMonth(monthOfBirth.getYear() + startWinBegin, monthOfBirth.getMonth());
   }
   
   private boolean hasPaymentThisMonth(DateTime when) {
     return !when.lt(chosenStartMonth);
   }
   
-  private Money getMonthlyGisAmount(Scenario sim) {
+  private void calcSchedulesFor(Integer year, Scenario sim) {
+    Money clawback = clawbackAmount(sim);
+    oasSchedule = new PaymentSchedule(year, month -> monthlyAmountIncludingClawback(DateTime.forDateOnly(year, month, paymentDay), clawback));
+    Money gisMonthlyAmount = calcMonthlyGisAmount(sim);
+    gisSchedule = new PaymentSchedule(year, month -> gisMonthlyAmount);
+  }
+  
+  private Money calcMonthlyGisAmount(Scenario sim) {
     Money result = Consts.ZERO;
     if (sim.lastYearsTaxSummary != null) {
-      GisAmount gis = new GisAmount();
+      GisAmount gis = new GisAmount(sim.referenceData.gisTable());
       TaxSummary lastYear = sim.lastYearsTaxSummary;
       result = gis.monthlyAmount(lastYear.netIncome, lastYear.oas, lastYear.employmentIncome, gisExempt);
     }
     else {
-      GisAmount gis = new GisAmount();
+      GisAmount gis = new GisAmount(sim.referenceData.gisTable());
       result = gis.monthlyAmount(sim.yearZero.netIncome, sim.yearZero.oasIncome, sim.yearZero.employmentIncome, gisExempt);
     }
     return result;
@@ -0,0 +1,44 @@
+package endgame.entitlements;
+
+import java.util.function.IntFunction;
+
+import endgame.model.Money;
+import hirondelle.date4j.DateTime;
+
+/**
+ The amounts of the 12 monthly payments of an entitlement, for a single year.
+ 
+ <P>The amounts depend only on things that don't change during the year (last year's tax return, 
+ your birthday, the chosen start month), so they are calculated once, at the first payment of the year. 
+ Each monthly payment then simply reads its amount from the schedule.
+*/
+final class PaymentSchedule {
+  
+  /**
+   Constructor.
+   @param year the year of the payments
+   @param amountForMonth returns the amount of the payment for a given month (1..12)
+  */
+  PaymentSchedule(Integer year, IntFunction<Money> amountForMonth){
+    this.year = year;
+    for(int month = 1; month <= NUM_MONTHS; ++month) {
+      amounts[month - 1] = amountForMonth.apply(month);
+    }
+  }
+  
+  /** Return true only if this schedule is for the year of the given date. */
+  boolean isFor(DateTime when) {
+    return year.equals(when.getYear());
+  }
+  
+  /** The amount of the payment for the month of the given date. */
+  Money amountFor(DateTime when) {
+    return amounts[when.getMonth() - 1];
+  }
+  
+  // PRIVATE
+  
+  private static final int NUM_MONTHS = 12;
+  private final Integer year;
+  private final Money[] amounts = new Money[NUM_MONTHS];
+}
@@ -104,6 +104,8 @@ public class ScenarioParser implements ScenarioParserConstants {
     dateOfBirth();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case 53:
+    case 54:
+    case 55:
       annualTestForSurvival();
       break;
     default:
@@ -114,7 +116,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     yearZeroAmounts();
     oas();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 153:
+    case 163:
       cpp();
       break;
     default:
@@ -122,7 +124,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 115:
+    case 122:
       rifMinimumWithdrawals();
       break;
     default:
@@ -130,7 +132,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 116:
+    case 123:
       lifMaximumWithdrawals();
       break;
     default:
@@ -140,7 +142,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     federalTaxes();
     provincialTax();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 96:
+    case 98:
       stocks();
       break;
     default:
@@ -148,7 +150,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 108:
+    case 115:
       commission();
       break;
     default:
@@ -156,7 +158,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 101:
+    case 103:
       stockPricePolicy();
       break;
     default:
@@ -164,7 +166,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 112:
+    case 119:
       tfsaRoom();
       break;
     default:
@@ -173,29 +175,41 @@ public class ScenarioParser implements ScenarioParserConstants {
     }
     accounts();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 127:
-      sequentialLiquidation();
+    case 134:
+    case 139:
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case 134:
+        sequentialLiquidation();
+        break;
+      case 139:
+        taxAwareLiquidation();
+        break;
+      default:
+        jj_la1[8] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
       break;
     default:
-      jj_la1[8] = jj_gen;
+      jj_la1[9] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 132:
+    case 142:
       annualTfsaTopUp();
       break;
     default:
-      jj_la1[9] = jj_gen;
+      jj_la1[10] = jj_gen;
       ;
     }
     label_1:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 169:
+      case 179:
         ;
         break;
       default:
-        jj_la1[10] = jj_gen;
+        jj_la1[11] = jj_gen;
         break label_1;
       }
       smallPaycheck();
@@ -245,36 +259,52 @@ public class ScenarioParser implements ScenarioParserConstants {
   }
 
   final public void annualTestForSurvival() throws ParseException {
-    jj_consume_token(53);
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case 53:
+      jj_consume_token(53);
                               scenario.annualTestForSurvival = true;
+      break;
+    case 54:
+      jj_consume_token(54);
+                           scenario.sampledYearOfDeath = true;
+      break;
+    case 55:
+      jj_consume_token(55);
+                                       scenario.survivalWeightedExpectedValues = true;
+      break;
+    default:
+      jj_la1[12] = jj_gen;
+      jj_consume_token(-1);
+      throw new ParseException();
+    }
   }
 
   final public void simulationStartDate() throws ParseException {
-    jj_consume_token(54);
+    jj_consume_token(56);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM_DD);
                                                       scenario.startDate = token.image;
   }
 
   final public void simulationEndDate() throws ParseException {
-    jj_consume_token(55);
+    jj_consume_token(57);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM_DD);
                                                    scenario.endDate = token.image;
   }
 
   final public void sex() throws ParseException {
-    jj_consume_token(56);
+    jj_consume_token(58);
     jj_consume_token(EQUALS);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 57:
-      jj_consume_token(57);
+    case 59:
+      jj_consume_token(59);
       break;
-    case 58:
-      jj_consume_token(58);
+    case 60:
+      jj_consume_token(60);
       break;
     default:
-      jj_la1[11] = jj_gen;
+      jj_la1[13] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -289,51 +319,51 @@ public class ScenarioParser implements ScenarioParserConstants {
  TaxBrackets taxBrackets = null;
  TaxBrackets rifWithholdingTaxBrackets = null;
  String taxCapGainFrac=""; String stdRetAge=""; String divTaxNum=""; String divTaxDen="";
-    jj_consume_token(59);
+    jj_consume_token(61);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(60);
+    jj_consume_token(62);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                        initialYear = token.image;
-    jj_consume_token(61);
+    jj_consume_token(63);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                             personalAmt = token.image;
-    jj_consume_token(62);
+    jj_consume_token(64);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                        personalAmtAdditional = token.image;
-    jj_consume_token(63);
+    jj_consume_token(65);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY_RANGE);
                                                             personalAmtThreshold = token.image;
-    jj_consume_token(64);
+    jj_consume_token(66);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                         ageAmt = token.image;
-    jj_consume_token(65);
+    jj_consume_token(67);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                   ageAmtThreshold = token.image;
-    jj_consume_token(66);
+    jj_consume_token(68);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                 pensionIncomeMax = token.image;
     taxBrackets = taxBrackets();
     rifWithholdingTaxBrackets = rifWithholdingTaxBrackets();
-    jj_consume_token(67);
+    jj_consume_token(69);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                              stdRetAge=token.image;
-    jj_consume_token(68);
+    jj_consume_token(70);
     jj_consume_token(EQUALS);
     jj_consume_token(DOUBLE);
                                                       taxCapGainFrac=token.image;
-    jj_consume_token(69);
+    jj_consume_token(71);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                                divTaxNum=token.image;
-    jj_consume_token(70);
+    jj_consume_token(72);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                                divTaxDen=token.image;
@@ -349,7 +379,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public TaxBrackets taxBrackets() throws ParseException {
                               TaxBrackets result = new TaxBrackets(); TaxBracket tb = null;
-    jj_consume_token(71);
+    jj_consume_token(73);
     jj_consume_token(BLOCK_START);
     label_2:
     while (true) {
@@ -360,7 +390,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[12] = jj_gen;
+        jj_la1[14] = jj_gen;
         break label_2;
       }
     }
@@ -371,7 +401,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public TaxBrackets rifWithholdingTaxBrackets() throws ParseException {
                                             TaxBrackets result = new TaxBrackets(); TaxBracket tb = null;
-    jj_consume_token(72);
+    jj_consume_token(74);
     jj_consume_token(BLOCK_START);
     label_3:
     while (true) {
@@ -382,7 +412,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[13] = jj_gen;
+        jj_la1[15] = jj_gen;
         break label_3;
       }
     }
@@ -404,134 +434,112 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void provincialTax() throws ParseException {
  ProvincialTaxFields fields = new ProvincialTaxFields();
-    jj_consume_token(73);
+    jj_consume_token(75);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(74);
+    jj_consume_token(76);
     jj_consume_token(EQUALS);
     jj_consume_token(PROV_TERR);
                                          fields.jurisdiction = token.image;
     fields.taxBrackets = taxBrackets();
-    jj_consume_token(61);
+    jj_consume_token(63);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                              fields.personalAmt = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 75:
-      jj_consume_token(75);
+    case 77:
+      jj_consume_token(77);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                      fields.personalAmtSupplement = token.image;
       break;
     default:
-      jj_la1[14] = jj_gen;
+      jj_la1[16] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 63:
-      jj_consume_token(63);
+    case 65:
+      jj_consume_token(65);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                     fields.personalAmtThreshold = token.image;
       break;
     default:
-      jj_la1[15] = jj_gen;
+      jj_la1[17] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 76:
-      jj_consume_token(76);
+    case 78:
+      jj_consume_token(78);
       jj_consume_token(EQUALS);
       jj_consume_token(PERCENT);
                                                   fields.personalAmtRate = token.image;
       break;
     default:
-      jj_la1[16] = jj_gen;
+      jj_la1[18] = jj_gen;
       ;
     }
-    jj_consume_token(64);
+    jj_consume_token(66);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                         fields.ageAmt = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 65:
-      jj_consume_token(65);
+    case 67:
+      jj_consume_token(67);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                   fields.ageAmtThreshold  = token.image;
       break;
     default:
-      jj_la1[17] = jj_gen;
+      jj_la1[19] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 77:
-      jj_consume_token(77);
+    case 79:
+      jj_consume_token(79);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                fields.ageAmtSupplement  = token.image;
       break;
     default:
-      jj_la1[18] = jj_gen;
+      jj_la1[20] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 78:
-      jj_consume_token(78);
+    case 80:
+      jj_consume_token(80);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                        fields.ageAmtSupplementThreshold  = token.image;
       break;
     default:
-      jj_la1[19] = jj_gen;
+      jj_la1[21] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 79:
-      jj_consume_token(79);
+    case 81:
+      jj_consume_token(81);
       jj_consume_token(EQUALS);
       jj_consume_token(PERCENT);
                                                     fields.ageAmtSupplementRate  = token.image;
       break;
     default:
-      jj_la1[20] = jj_gen;
+      jj_la1[22] = jj_gen;
       ;
     }
-    jj_consume_token(66);
+    jj_consume_token(68);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                 fields.pensionIncomeMax = token.image;
-    jj_consume_token(80);
+    jj_consume_token(82);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                                  fields.dvdGrossUpMult = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 81:
-      jj_consume_token(81);
-      jj_consume_token(EQUALS);
-      jj_consume_token(MONEY);
-                                              fields.lowIncomeBasic = token.image;
-      break;
-    default:
-      jj_la1[21] = jj_gen;
-      ;
-    }
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 82:
-      jj_consume_token(82);
-      jj_consume_token(EQUALS);
-      jj_consume_token(MONEY);
-                                            fields.lowIncomeAge = token.image;
-      break;
-    default:
-      jj_la1[22] = jj_gen;
-      ;
-    }
-    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case 83:
       jj_consume_token(83);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                                   fields.lowIncomeThreshold = token.image;
+                                              fields.lowIncomeBasic = token.image;
       break;
     default:
       jj_la1[23] = jj_gen;
@@ -541,8 +549,8 @@ public class ScenarioParser implements ScenarioParserConstants {
     case 84:
       jj_consume_token(84);
       jj_consume_token(EQUALS);
-      jj_consume_token(PERCENT);
-                                                fields.lowIncomeRate = token.image;
+      jj_consume_token(MONEY);
+                                            fields.lowIncomeAge = token.image;
       break;
     default:
       jj_la1[24] = jj_gen;
@@ -553,7 +561,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(85);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                             fields.ageTaxCredit = token.image;
+                                                   fields.lowIncomeThreshold = token.image;
       break;
     default:
       jj_la1[25] = jj_gen;
@@ -563,8 +571,8 @@ public class ScenarioParser implements ScenarioParserConstants {
     case 86:
       jj_consume_token(86);
       jj_consume_token(EQUALS);
-      jj_consume_token(MONEY);
-                                                       fields.ageTaxCreditThreshold = token.image;
+      jj_consume_token(PERCENT);
+                                                fields.lowIncomeRate = token.image;
       break;
     default:
       jj_la1[26] = jj_gen;
@@ -575,7 +583,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(87);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                             fields.surtaxThreshold1 = token.image;
+                                             fields.ageTaxCredit = token.image;
       break;
     default:
       jj_la1[27] = jj_gen;
@@ -585,8 +593,8 @@ public class ScenarioParser implements ScenarioParserConstants {
     case 88:
       jj_consume_token(88);
       jj_consume_token(EQUALS);
-      jj_consume_token(PERCENT);
-                                          fields.surtaxRate1 = token.image;
+      jj_consume_token(MONEY);
+                                                       fields.ageTaxCreditThreshold = token.image;
       break;
     default:
       jj_la1[28] = jj_gen;
@@ -597,7 +605,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(89);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                             fields.surtaxThreshold2 = token.image;
+                                             fields.surtaxThreshold1 = token.image;
       break;
     default:
       jj_la1[29] = jj_gen;
@@ -608,7 +616,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(90);
       jj_consume_token(EQUALS);
       jj_consume_token(PERCENT);
-                                         fields.surtaxRate2 = token.image;
+                                          fields.surtaxRate1 = token.image;
       break;
     default:
       jj_la1[30] = jj_gen;
@@ -619,7 +627,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(91);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                             fields.scheduleBThreshold = token.image;
+                                             fields.surtaxThreshold2 = token.image;
       break;
     default:
       jj_la1[31] = jj_gen;
@@ -630,7 +638,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(92);
       jj_consume_token(EQUALS);
       jj_consume_token(PERCENT);
-                                          fields.scheduleBRate = token.image;
+                                         fields.surtaxRate2 = token.image;
       break;
     default:
       jj_la1[32] = jj_gen;
@@ -641,7 +649,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(93);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
-                                           fields.liveAloneAmt = token.image;
+                                             fields.scheduleBThreshold = token.image;
       break;
     default:
       jj_la1[33] = jj_gen;
@@ -652,7 +660,7 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_consume_token(94);
       jj_consume_token(EQUALS);
       jj_consume_token(PERCENT);
-                                               fields.pensionIncomeRate = token.image;
+                                          fields.scheduleBRate = token.image;
       break;
     default:
       jj_la1[34] = jj_gen;
@@ -660,12 +668,34 @@ public class ScenarioParser implements ScenarioParserConstants {
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case 95:
-      fields.healthPremiumTaxBrackets = healthPremiumTaxBrackets();
+      jj_consume_token(95);
+      jj_consume_token(EQUALS);
+      jj_consume_token(MONEY);
+                                           fields.liveAloneAmt = token.image;
       break;
     default:
       jj_la1[35] = jj_gen;
       ;
     }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case 96:
+      jj_consume_token(96);
+      jj_consume_token(EQUALS);
+      jj_consume_token(PERCENT);
+                                               fields.pensionIncomeRate = token.image;
+      break;
+    default:
+      jj_la1[36] = jj_gen;
+      ;
+    }
+    switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+    case 97:
+      fields.healthPremiumTaxBrackets = healthPremiumTaxBrackets();
+      break;
+    default:
+      jj_la1[37] = jj_gen;
+      ;
+    }
     jj_consume_token(BLOCK_END);
     scenario.provincialTaxReturn = fields.deduceFromFieldsPresent(scenario.taxReturn);
     scenario.taxReturn.setProvincialReturn(scenario.provincialTaxReturn);
@@ -673,7 +703,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public TaxBrackets healthPremiumTaxBrackets() throws ParseException {
                                            TaxBrackets result = new TaxBrackets(); TaxBracket tb = null;
-    jj_consume_token(95);
+    jj_consume_token(97);
     jj_consume_token(BLOCK_START);
     label_4:
     while (true) {
@@ -684,7 +714,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[36] = jj_gen;
+        jj_la1[38] = jj_gen;
         break label_4;
       }
     }
@@ -694,7 +724,7 @@ public class ScenarioParser implements ScenarioParserConstants {
   }
 
   final public void stocks() throws ParseException {
-    jj_consume_token(96);
+    jj_consume_token(98);
     jj_consume_token(BLOCK_START);
     label_5:
     while (true) {
@@ -703,7 +733,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[37] = jj_gen;
+        jj_la1[39] = jj_gen;
         break label_5;
       }
       stock();
@@ -716,28 +746,28 @@ public class ScenarioParser implements ScenarioParserConstants {
     jj_consume_token(QUOTED_TEXT);
                   symbol = noQuotes(token.image);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(97);
+    jj_consume_token(99);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                     price = token.image;
         dividend = dividend();
     jj_consume_token(BLOCK_END);
-    Stock stock = Stock.valueOf(symbol, price, dividend, scenario.startDate);
-    scenario.stocks.add(stock);
+    Stock stock = Stock.valueOf(scenario.stocks.size(), symbol, price, dividend, scenario.startDate);
+    scenario.addStock(stock);
     scenario.transactionals.add(new DividendPayment(stock));
   }
 
   final public Dividend dividend() throws ParseException {
                         String amount = ""; String when = ""; String growth = "";
-    jj_consume_token(98);
+    jj_consume_token(100);
     jj_consume_token(BLOCK_START);
     jj_consume_token(WHEN_CONTROL);
                      when = token.image;
-    jj_consume_token(99);
+    jj_consume_token(101);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                     amount = token.image;
-    jj_consume_token(100);
+    jj_consume_token(102);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                       growth = token.image;
@@ -748,25 +778,31 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void stockPricePolicy() throws ParseException {
                             String when = "";
-    jj_consume_token(101);
+    jj_consume_token(103);
     jj_consume_token(BLOCK_START);
     jj_consume_token(WHEN_CONTROL);
                      when = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 102:
+    case 104:
       fixedGrowthRate();
       break;
-    case 103:
+    case 105:
       rangedGrowthRate();
       break;
-    case 104:
+    case 106:
       gaussianGrowthRate();
       break;
-    case 107:
+    case 109:
       explicitGrowthList();
       break;
+    case 113:
+      correlatedGaussianGrowthRate();
+      break;
+    case 110:
+      bootstrapGrowthRate();
+      break;
     default:
-      jj_la1[38] = jj_gen;
+      jj_la1[40] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -776,7 +812,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void fixedGrowthRate() throws ParseException {
                            String percent = "";
-    jj_consume_token(102);
+    jj_consume_token(104);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                  percent = token.image;
@@ -785,7 +821,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void rangedGrowthRate() throws ParseException {
                             String lower = ""; String upper = "";
-    jj_consume_token(103);
+    jj_consume_token(105);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                  lower = token.image;
@@ -797,12 +833,12 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void gaussianGrowthRate() throws ParseException {
                               String mean = ""; String stdDev = "";
-    jj_consume_token(104);
-    jj_consume_token(105);
+    jj_consume_token(106);
+    jj_consume_token(107);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                            mean = token.image;
-    jj_consume_token(106);
+    jj_consume_token(108);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                                                                                   stdDev = token.image;
@@ -811,28 +847,93 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void explicitGrowthList() throws ParseException {
                               String percentList = "";
-    jj_consume_token(107);
+    jj_consume_token(109);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT_LIST);
                                             percentList = token.image;
     scenario.stockPrices = new ExplicitGrowthList(percentList);
   }
 
+  final public void bootstrapGrowthRate() throws ParseException {
+                               String file = ""; Integer blockSize = 0;
+    jj_consume_token(110);
+    jj_consume_token(111);
+    jj_consume_token(EQUALS);
+    jj_consume_token(QUOTED_TEXT);
+                                              file = noQuotes(token.image);
+    jj_consume_token(112);
+    jj_consume_token(EQUALS);
+    jj_consume_token(NUM);
+                                                                                                            blockSize = Integer.valueOf(token.image);
+    scenario.stockPrices = new BootstrapGrowthRate(file, blockSize);
+  }
+
+  final public void correlatedGaussianGrowthRate() throws ParseException {
+  Stock stock = null; Stock other = null;
+  Map<Stock, String> means = new LinkedHashMap<Stock, String>();
+  Map<Stock, String> stdDevs = new LinkedHashMap<Stock, String>();
+  Map<List<Stock>, String> correlations = new LinkedHashMap<List<Stock>, String>();
+    jj_consume_token(113);
+    jj_consume_token(BLOCK_START);
+    label_6:
+    while (true) {
+      jj_consume_token(QUOTED_TEXT);
+                      stock = scenario.stockFrom(noQuotes(token.image));
+      jj_consume_token(107);
+      jj_consume_token(EQUALS);
+      jj_consume_token(PERCENT);
+                                    means.put(stock, token.image);
+      jj_consume_token(108);
+      jj_consume_token(EQUALS);
+      jj_consume_token(PERCENT);
+                                       stdDevs.put(stock, token.image);
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case QUOTED_TEXT:
+        ;
+        break;
+      default:
+        jj_la1[41] = jj_gen;
+        break label_6;
+      }
+    }
+    label_7:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case 114:
+        ;
+        break;
+      default:
+        jj_la1[42] = jj_gen;
+        break label_7;
+      }
+      jj_consume_token(114);
+      jj_consume_token(QUOTED_TEXT);
+                                    stock = scenario.stockFrom(noQuotes(token.image));
+      jj_consume_token(QUOTED_TEXT);
+                      other = scenario.stockFrom(noQuotes(token.image));
+      jj_consume_token(EQUALS);
+      jj_consume_token(PERCENT);
+                             CorrelatedGaussianGrowthRate.addCorrelation(correlations, stock, other, token.image);
+    }
+    jj_consume_token(BLOCK_END);
+    scenario.stockPrices = CorrelatedGaussianGrowthRate.valueOf(scenario.stocks, means, stdDevs, correlations);
+  }
+
   final public void commission() throws ParseException {
-    jj_consume_token(108);
+    jj_consume_token(115);
     jj_consume_token(EQUALS);
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 109:
+    case 116:
       fixedPercentCommish();
       break;
-    case 110:
+    case 117:
       fixedAmountCommish();
       break;
-    case 111:
+    case 118:
       customCommish();
       break;
     default:
-      jj_la1[39] = jj_gen;
+      jj_la1[43] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -840,7 +941,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void fixedPercentCommish() throws ParseException {
                                String percent = "";
-    jj_consume_token(109);
+    jj_consume_token(116);
     jj_consume_token(PERCENT);
                                 percent = token.image;
     scenario.commission = new FixedPercentCommish(percent);
@@ -848,7 +949,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void fixedAmountCommish() throws ParseException {
                               String amount = "";
-    jj_consume_token(110);
+    jj_consume_token(117);
     jj_consume_token(MONEY);
                              amount = token.image;
     scenario.commission = new FixedAmountCommish(amount);
@@ -856,19 +957,19 @@ public class ScenarioParser implements ScenarioParserConstants {
 
 /* This requires custom coding. Updated the class specified below.*/
   final public void customCommish() throws ParseException {
-    jj_consume_token(111);
+    jj_consume_token(118);
     scenario.commission = new CustomCommish();
   }
 
   final public void tfsaRoom() throws ParseException {
                     String initialRoom = ""; String yearlyLimit = "";
-    jj_consume_token(112);
+    jj_consume_token(119);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(113);
+    jj_consume_token(120);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                          initialRoom = token.image;
-    jj_consume_token(114);
+    jj_consume_token(121);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                           yearlyLimit = token.image;
@@ -877,53 +978,57 @@ public class ScenarioParser implements ScenarioParserConstants {
   }
 
   final public void rifMinimumWithdrawals() throws ParseException {
-    jj_consume_token(115);
+                                 Map<Integer, Double> table = new LinkedHashMap<Integer, Double>();
+    jj_consume_token(122);
     jj_consume_token(BLOCK_START);
-    label_6:
+    label_8:
     while (true) {
-      rifLifMinimumWithdrawal();
+      rifLifMinimumWithdrawal(table);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case NUM:
         ;
         break;
       default:
-        jj_la1[40] = jj_gen;
-        break label_6;
+        jj_la1[44] = jj_gen;
+        break label_8;
       }
     }
     jj_consume_token(BLOCK_END);
+    scenario.rifLifMinima = RifLifMinima.valueOf(table);
   }
 
-  final public void rifLifMinimumWithdrawal() throws ParseException {
-                                  String age = ""; String percent = "";
+  final public void rifLifMinimumWithdrawal(Map<Integer, Double> table) throws ParseException {
+                                                            String age = ""; String percent = "";
     jj_consume_token(NUM);
           age = token.image;
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                                   percent = token.image;
-   RifLifMinima.addTableRow(Integer.valueOf(age), Util.percentFrom(percent));
+   table.put(Integer.valueOf(age), Util.percentFrom(percent));
   }
 
   final public void lifMaximumWithdrawals() throws ParseException {
-    jj_consume_token(116);
+                                 Map<String, Map<Integer, Double>> table = new LinkedHashMap<String, Map<Integer, Double>>();
+    jj_consume_token(123);
     jj_consume_token(BLOCK_START);
-    label_7:
+    label_9:
     while (true) {
-      lifMaximumWithdrawal();
+      lifMaximumWithdrawal(table);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case NUM:
         ;
         break;
       default:
-        jj_la1[41] = jj_gen;
-        break label_7;
+        jj_la1[45] = jj_gen;
+        break label_9;
       }
     }
     jj_consume_token(BLOCK_END);
+    scenario.lifMaxima = LifMaxima.valueOf(table);
   }
 
-  final public void lifMaximumWithdrawal() throws ParseException {
-                                Integer age = 0; String percentCA=""; String percentMN=""; String percentAB="";
+  final public void lifMaximumWithdrawal(Map<String, Map<Integer, Double>> table) throws ParseException {
+                                                                       Integer age = 0; String percentCA=""; String percentMN=""; String percentAB="";
     jj_consume_token(NUM);
          age = Integer.valueOf(token.image);
     jj_consume_token(PERCENT);
@@ -933,14 +1038,14 @@ public class ScenarioParser implements ScenarioParserConstants {
              percentMN = token.image;
     jj_consume_token(PERCENT);
              percentAB = token.image;
-   LifMaxima.addTableRow(LifMaxima.CA_ETC, age, Util.percentFrom(percentCA));
-   LifMaxima.addTableRow(LifMaxima.MN_ETC, age, Util.percentFrom(percentMN));
-   LifMaxima.addTableRow(LifMaxima.AB_ETC, age, Util.percentFrom(percentAB));
+   LifMaxima.addTableRow(table, LifMaxima.CA_ETC, age, Util.percentFrom(percentCA));
+   LifMaxima.addTableRow(table, LifMaxima.MN_ETC, age, Util.percentFrom(percentMN));
+   LifMaxima.addTableRow(table, LifMaxima.AB_ETC, age, Util.percentFrom(percentAB));
   }
 
   final public void accounts() throws ParseException {
                     BankAccount bank = null; Tfsa tfsa = null; Rif rif = null; Nra nra = null; Lif lif = null;
-    jj_consume_token(117);
+    jj_consume_token(124);
     jj_consume_token(BLOCK_START);
     bank = bank();
                     scenario.bank = bank;
@@ -950,7 +1055,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                    scenario.rif = rif;
       break;
     default:
-      jj_la1[42] = jj_gen;
+      jj_la1[46] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -959,7 +1064,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                    scenario.lif = lif;
       break;
     default:
-      jj_la1[43] = jj_gen;
+      jj_la1[47] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -968,7 +1073,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                       scenario.tfsa = tfsa;
       break;
     default:
-      jj_la1[44] = jj_gen;
+      jj_la1[48] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -977,7 +1082,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                     scenario.nra = nra;
       break;
     default:
-      jj_la1[45] = jj_gen;
+      jj_la1[49] = jj_gen;
       ;
     }
     jj_consume_token(BLOCK_END);
@@ -987,11 +1092,11 @@ public class ScenarioParser implements ScenarioParserConstants {
                        String cash = ""; String limit = "";
     jj_consume_token(BANK);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(118);
+    jj_consume_token(125);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                   cash = token.image;
-    jj_consume_token(119);
+    jj_consume_token(126);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                  limit = token.image;
@@ -1006,32 +1111,32 @@ public class ScenarioParser implements ScenarioParserConstants {
    Set<GtdInvestmentCert> gicPositions = new LinkedHashSet<GtdInvestmentCert>();
     jj_consume_token(RIF);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(120);
+    jj_consume_token(127);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM_DD);
                                                   conversionDate = token.image;
-    jj_consume_token(118);
+    jj_consume_token(125);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                    cash = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 122:
+    case 129:
       stockPositions = stockPositions();
       break;
     default:
-      jj_la1[46] = jj_gen;
+      jj_la1[50] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 124:
+    case 131:
       gicPositions = gicPositions();
       break;
     default:
-      jj_la1[47] = jj_gen;
+      jj_la1[51] = jj_gen;
       ;
     }
     jj_consume_token(BLOCK_END);
-     result = Rif.valueOf(cash, stockPositions, gicPositions, scenario.taxReturn, conversionDate, scenario.dateOfBirth);
+     result = Rif.valueOf(cash, stockPositions, gicPositions, scenario.taxReturn, conversionDate, scenario.dateOfBirth, scenario.rifLifMinima);
      scenario.rifValueJan1 = result.value();
      {if (true) return result;}
     throw new Error("Missing return statement in function");
@@ -1044,36 +1149,36 @@ public class ScenarioParser implements ScenarioParserConstants {
    String jurisdiction = "";
     jj_consume_token(LIF);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(121);
+    jj_consume_token(128);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM_DD);
                                                    conversionDate = token.image;
-    jj_consume_token(74);
+    jj_consume_token(76);
     jj_consume_token(EQUALS);
     jj_consume_token(PROV_TERR);
                                            jurisdiction=token.image;
-    jj_consume_token(118);
+    jj_consume_token(125);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                    cash = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 122:
+    case 129:
       stockPositions = stockPositions();
       break;
     default:
-      jj_la1[48] = jj_gen;
+      jj_la1[52] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 124:
+    case 131:
       gicPositions = gicPositions();
       break;
     default:
-      jj_la1[49] = jj_gen;
+      jj_la1[53] = jj_gen;
       ;
     }
     jj_consume_token(BLOCK_END);
-     result = Lif.valueOf(cash, stockPositions, gicPositions, scenario.taxReturn, conversionDate, jurisdiction, scenario.dateOfBirth);
+     result = Lif.valueOf(cash, stockPositions, gicPositions, scenario.taxReturn, conversionDate, jurisdiction, scenario.dateOfBirth, scenario.rifLifMinima, scenario.lifMaxima);
      scenario.lifValueJan1 = result.value();
      {if (true) return result;}
     throw new Error("Missing return statement in function");
@@ -1084,24 +1189,24 @@ public class ScenarioParser implements ScenarioParserConstants {
   Set<GtdInvestmentCert> gicPositions = new LinkedHashSet<GtdInvestmentCert>();
     jj_consume_token(TFSA);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(118);
+    jj_consume_token(125);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                    cash = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 122:
+    case 129:
       stockPositions = stockPositions();
       break;
     default:
-      jj_la1[50] = jj_gen;
+      jj_la1[54] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 124:
+    case 131:
       gicPositions = gicPositions();
       break;
     default:
-      jj_la1[51] = jj_gen;
+      jj_la1[55] = jj_gen;
       ;
     }
     jj_consume_token(BLOCK_END);
@@ -1116,24 +1221,24 @@ public class ScenarioParser implements ScenarioParserConstants {
   Set<BookValue> bookValues = new LinkedHashSet<BookValue>();
     jj_consume_token(NRA);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(118);
+    jj_consume_token(125);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                    cash = token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 122:
+    case 129:
       stockPositions = stockPositions();
       break;
     default:
-      jj_la1[52] = jj_gen;
+      jj_la1[56] = jj_gen;
       ;
     }
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 124:
+    case 131:
       gicPositions = gicPositions();
       break;
     default:
-      jj_la1[53] = jj_gen;
+      jj_la1[57] = jj_gen;
       ;
     }
     bookValues = bookValues();
@@ -1144,9 +1249,9 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public Set<StockPosition> stockPositions() throws ParseException {
                                        String symbol = ""; String shares = ""; Set<StockPosition> result = new LinkedHashSet<StockPosition>();
-    jj_consume_token(122);
+    jj_consume_token(129);
     jj_consume_token(BLOCK_START);
-    label_8:
+    label_10:
     while (true) {
       jj_consume_token(NUM);
                 shares = token.image;
@@ -1158,8 +1263,8 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[54] = jj_gen;
-        break label_8;
+        jj_la1[58] = jj_gen;
+        break label_10;
       }
     }
     jj_consume_token(BLOCK_END);
@@ -1169,22 +1274,22 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public Set<BookValue> bookValues() throws ParseException {
                                String symbol = ""; String amount = ""; Set<BookValue> result = new LinkedHashSet<BookValue>();
-    jj_consume_token(123);
+    jj_consume_token(130);
     jj_consume_token(BLOCK_START);
-    label_9:
+    label_11:
     while (true) {
       jj_consume_token(MONEY);
                   amount = token.image;
       jj_consume_token(QUOTED_TEXT);
                         symbol = noQuotes(token.image);
-        result.add(BookValue.valueOf(symbol, amount));
+        result.add(BookValue.valueOf(scenario.stockFrom(symbol), amount));
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case MONEY:
         ;
         break;
       default:
-        jj_la1[55] = jj_gen;
-        break label_9;
+        jj_la1[59] = jj_gen;
+        break label_11;
       }
     }
     jj_consume_token(BLOCK_END);
@@ -1195,9 +1300,9 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public Set<GtdInvestmentCert> gicPositions() throws ParseException {
   String principal=""; String soldBy=""; String interestRate=""; String term=""; String redemptionDate="";
   Set<GtdInvestmentCert> result = new LinkedHashSet<GtdInvestmentCert>();
-    jj_consume_token(124);
+    jj_consume_token(131);
     jj_consume_token(BLOCK_START);
-    label_10:
+    label_12:
     while (true) {
       jj_consume_token(QUOTED_TEXT);
                     soldBy = noQuotes(token.image);
@@ -1207,8 +1312,8 @@ public class ScenarioParser implements ScenarioParserConstants {
                 interestRate = token.image;
       jj_consume_token(NUM);
             term = token.image;
-      jj_consume_token(125);
-      jj_consume_token(126);
+      jj_consume_token(132);
+      jj_consume_token(133);
       jj_consume_token(YYYY_MM_DD);
                              redemptionDate = token.image;
       result.add(GtdInvestmentCert.fromRedemptionDate(principal, soldBy, interestRate, redemptionDate, term));
@@ -1217,8 +1322,8 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[56] = jj_gen;
-        break label_10;
+        jj_la1[60] = jj_gen;
+        break label_12;
       }
     }
     jj_consume_token(BLOCK_END);
@@ -1229,15 +1334,15 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void sequentialLiquidation() throws ParseException {
    List<Account> accounts = new ArrayList<Account>(); List<Stock> stocks = new ArrayList<Stock>();
    String avoid=""; String when=""; String amount=""; String percent="";
-    jj_consume_token(127);
+    jj_consume_token(134);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(128);
+    jj_consume_token(135);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                              avoid = token.image;
-    jj_consume_token(129);
+    jj_consume_token(136);
     jj_consume_token(EQUALS);
-    label_11:
+    label_13:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case NRA:
@@ -1257,7 +1362,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                                               accounts.add(scenario.tfsa);
         break;
       default:
-        jj_la1[57] = jj_gen;
+        jj_la1[61] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1266,7 +1371,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         jj_consume_token(COMMA);
         break;
       default:
-        jj_la1[58] = jj_gen;
+        jj_la1[62] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1277,19 +1382,19 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[59] = jj_gen;
-        break label_11;
+        jj_la1[63] = jj_gen;
+        break label_13;
       }
     }
-    jj_consume_token(130);
+    jj_consume_token(137);
     jj_consume_token(EQUALS);
     jj_consume_token(QUOTED_TEXT);
                                                    for(String ticker : Util.chopList(noQuotes(token.image))) {
                                               stocks.add(scenario.stockFrom(ticker));
                                           }
-    label_12:
+    label_14:
     while (true) {
-      jj_consume_token(131);
+      jj_consume_token(138);
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case MONEY:
         jj_consume_token(MONEY);
@@ -1300,7 +1405,7 @@ public class ScenarioParser implements ScenarioParserConstants {
                                                                        percent=token.image;amount="";
         break;
       default:
-        jj_la1[60] = jj_gen;
+        jj_la1[64] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1308,12 +1413,89 @@ public class ScenarioParser implements ScenarioParserConstants {
                                                                                                                         when=token.image;
           scenario.transactionals.add(SequentialLiquidation.valueOf(avoid,accounts,stocks,amount,percent,when));
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 131:
+      case 138:
         ;
         break;
       default:
-        jj_la1[61] = jj_gen;
-        break label_12;
+        jj_la1[65] = jj_gen;
+        break label_14;
+      }
+    }
+    jj_consume_token(BLOCK_END);
+  }
+
+  final public void taxAwareLiquidation() throws ParseException {
+   List<Account> accounts = new ArrayList<Account>(); List<Stock> stocks = new ArrayList<Stock>();
+   String when=""; String amount="";
+    jj_consume_token(139);
+    jj_consume_token(BLOCK_START);
+    jj_consume_token(140);
+    jj_consume_token(EQUALS);
+    label_15:
+    while (true) {
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case NRA:
+        jj_consume_token(NRA);
+                                            accounts.add(scenario.nra);
+        break;
+      case RIF:
+        jj_consume_token(RIF);
+                                            accounts.add(scenario.rif);
+        break;
+      case LIF:
+        jj_consume_token(LIF);
+                                            accounts.add(scenario.lif);
+        break;
+      case TFSA:
+        jj_consume_token(TFSA);
+                                             accounts.add(scenario.tfsa);
+        break;
+      default:
+        jj_la1[66] = jj_gen;
+        jj_consume_token(-1);
+        throw new ParseException();
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case COMMA:
+        jj_consume_token(COMMA);
+        break;
+      default:
+        jj_la1[67] = jj_gen;
+        ;
+      }
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case RIF:
+      case LIF:
+      case TFSA:
+      case NRA:
+        ;
+        break;
+      default:
+        jj_la1[68] = jj_gen;
+        break label_15;
+      }
+    }
+    jj_consume_token(137);
+    jj_consume_token(EQUALS);
+    jj_consume_token(QUOTED_TEXT);
+                                                   for(String ticker : Util.chopList(noQuotes(token.image))) {
+                                              stocks.add(scenario.stockFrom(ticker));
+                                          }
+    label_16:
+    while (true) {
+      jj_consume_token(141);
+      jj_consume_token(MONEY);
+                             amount=token.image;
+      jj_consume_token(WHEN_CONTROL);
+                                                                  when=token.image;
+          scenario.transactionals.add(TaxAwareLiquidation.valueOf(accounts,stocks,amount,when));
+      switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
+      case 141:
+        ;
+        break;
+      default:
+        jj_la1[69] = jj_gen;
+        break label_16;
       }
     }
     jj_consume_token(BLOCK_END);
@@ -1322,11 +1504,11 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void annualTfsaTopUp() throws ParseException {
    List<Account> accounts = new ArrayList<Account>(); List<Stock> stocks = new ArrayList<Stock>();
    String when= ""; Transactional tfsaTopUp = null;
-    jj_consume_token(132);
+    jj_consume_token(142);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(129);
+    jj_consume_token(136);
     jj_consume_token(EQUALS);
-    label_13:
+    label_17:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case NRA:
@@ -1342,7 +1524,7 @@ public class ScenarioParser implements ScenarioParserConstants {
               accounts.add(scenario.lif);
         break;
       default:
-        jj_la1[62] = jj_gen;
+        jj_la1[70] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1351,7 +1533,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         jj_consume_token(COMMA);
         break;
       default:
-        jj_la1[63] = jj_gen;
+        jj_la1[71] = jj_gen;
         ;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
@@ -1361,11 +1543,11 @@ public class ScenarioParser implements ScenarioParserConstants {
         ;
         break;
       default:
-        jj_la1[64] = jj_gen;
-        break label_13;
+        jj_la1[72] = jj_gen;
+        break label_17;
       }
     }
-    jj_consume_token(130);
+    jj_consume_token(137);
     jj_consume_token(EQUALS);
     jj_consume_token(QUOTED_TEXT);
                                                   for(String ticker : Util.chopList(noQuotes(token.image))) {
@@ -1380,61 +1562,61 @@ public class ScenarioParser implements ScenarioParserConstants {
 
 /* In this case, items inside the transaction block can come in any order. */
   final public void transactions() throws ParseException {
-    jj_consume_token(133);
-    label_14:
+    jj_consume_token(143);
+    label_18:
     while (true) {
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
       case SPEND_BANK_BALANCE_ABOVE:
-      case 134:
-      case 135:
-      case 159:
-      case 160:
-      case 162:
-      case 163:
-      case 164:
-      case 165:
-      case 168:
+      case 144:
+      case 145:
+      case 169:
       case 170:
-      case 171:
+      case 172:
+      case 173:
+      case 174:
+      case 175:
+      case 178:
+      case 180:
+      case 181:
         ;
         break;
       default:
-        jj_la1[65] = jj_gen;
-        break label_14;
+        jj_la1[73] = jj_gen;
+        break label_18;
       }
       switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-      case 134:
-      case 135:
+      case 144:
+      case 145:
         bankDepositWithdrawal();
         break;
       case SPEND_BANK_BALANCE_ABOVE:
         spendBankBalanceAbove();
         break;
-      case 159:
-      case 160:
+      case 169:
+      case 170:
         buySellStock();
         break;
-      case 162:
+      case 172:
         buyGic();
         break;
-      case 163:
-      case 164:
+      case 173:
+      case 174:
         transferStock();
         break;
-      case 165:
+      case 175:
         moveStock();
         break;
-      case 168:
+      case 178:
         moveCash();
         break;
-      case 170:
+      case 180:
         annuityPayment();
         break;
-      case 171:
+      case 181:
         stockSplit();
         break;
       default:
-        jj_la1[66] = jj_gen;
+        jj_la1[74] = jj_gen;
         jj_consume_token(-1);
         throw new ParseException();
       }
@@ -1464,7 +1646,7 @@ public class ScenarioParser implements ScenarioParserConstants {
            account = scenario.nra;
       break;
     default:
-      jj_la1[67] = jj_gen;
+      jj_la1[75] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1496,7 +1678,7 @@ public class ScenarioParser implements ScenarioParserConstants {
            cashable=scenario.bank;
       break;
     default:
-      jj_la1[68] = jj_gen;
+      jj_la1[76] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1507,18 +1689,18 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void bankDepositWithdrawal() throws ParseException {
                                 String deposit =""; String withdrawal=""; String when="";
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 134:
-      jj_consume_token(134);
+    case 144:
+      jj_consume_token(144);
       jj_consume_token(MONEY);
                              deposit = token.image;
       break;
-    case 135:
-      jj_consume_token(135);
+    case 145:
+      jj_consume_token(145);
       jj_consume_token(MONEY);
                                                                                     withdrawal = token.image;
       break;
     default:
-      jj_la1[69] = jj_gen;
+      jj_la1[77] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1541,21 +1723,21 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void yearZeroAmounts() throws ParseException {
                           String netIncBefAdj=""; String netInc=""; String oasInc=""; String empInc=""; String tfsaRoom="";
-    jj_consume_token(136);
+    jj_consume_token(146);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(137);
+    jj_consume_token(147);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                        netIncBefAdj=token.image;
-    jj_consume_token(138);
+    jj_consume_token(148);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                     netInc=token.image;
-    jj_consume_token(139);
+    jj_consume_token(149);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                     oasInc=token.image;
-    jj_consume_token(140);
+    jj_consume_token(150);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                            empInc=token.image;
@@ -1567,49 +1749,49 @@ public class ScenarioParser implements ScenarioParserConstants {
   String amt = ""; String start = ""; String paymentDay = "";
   String monthlyRew=""; String boostAge=""; String boostPercent=""; String clawThres=""; String clawPercent="";
   String exempt = ""; String startWinBegin=""; String startWinEnd="";
-    jj_consume_token(141);
+    jj_consume_token(151);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(142);
+    jj_consume_token(152);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                   amt = token.image;
-    jj_consume_token(143);
+    jj_consume_token(153);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM);
                                            start = token.image;
-    jj_consume_token(144);
+    jj_consume_token(154);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                         paymentDay = token.image;
-    jj_consume_token(145);
+    jj_consume_token(155);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                              clawThres=token.image;
-    jj_consume_token(146);
+    jj_consume_token(156);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                             clawPercent=token.image;
-    jj_consume_token(147);
+    jj_consume_token(157);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                           monthlyRew=token.image;
-    jj_consume_token(148);
+    jj_consume_token(158);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                  boostAge=token.image;
-    jj_consume_token(149);
+    jj_consume_token(159);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                           boostPercent=token.image;
-    jj_consume_token(150);
+    jj_consume_token(160);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                           startWinBegin=token.image;
-    jj_consume_token(151);
+    jj_consume_token(161);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                         startWinEnd=token.image;
-    jj_consume_token(152);
+    jj_consume_token(162);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                  exempt=token.image;
@@ -1625,53 +1807,53 @@ public class ScenarioParser implements ScenarioParserConstants {
   String nominalAmt = ""; String start = ""; String paymentDay = "";
   String monReward=""; String monPenalty=""; String nominalStart=""; String startWinBeg=""; String startWinEnd="";
   String survivorAmt=""; String survivorDate="";
-    jj_consume_token(153);
+    jj_consume_token(163);
     jj_consume_token(BLOCK_START);
-    jj_consume_token(154);
+    jj_consume_token(164);
     jj_consume_token(EQUALS);
     jj_consume_token(MONEY);
                                                     nominalAmt = token.image;
-    jj_consume_token(143);
+    jj_consume_token(153);
     jj_consume_token(EQUALS);
     jj_consume_token(YYYY_MM);
                                            start = token.image;
-    jj_consume_token(144);
+    jj_consume_token(154);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                         paymentDay = token.image;
-    jj_consume_token(147);
+    jj_consume_token(157);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                           monReward=token.image;
-    jj_consume_token(155);
+    jj_consume_token(165);
     jj_consume_token(EQUALS);
     jj_consume_token(PERCENT);
                                            monPenalty=token.image;
-    jj_consume_token(150);
+    jj_consume_token(160);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                           startWinBeg=token.image;
-    jj_consume_token(156);
+    jj_consume_token(166);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                      nominalStart=token.image;
-    jj_consume_token(151);
+    jj_consume_token(161);
     jj_consume_token(EQUALS);
     jj_consume_token(NUM);
                                         startWinEnd=token.image;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 157:
-      jj_consume_token(157);
+    case 167:
+      jj_consume_token(167);
       jj_consume_token(EQUALS);
       jj_consume_token(MONEY);
                                                   survivorAmt=token.image;
-      jj_consume_token(158);
+      jj_consume_token(168);
       jj_consume_token(EQUALS);
       jj_consume_token(YYYY_MM_DD);
                                                       survivorDate=token.image;
       break;
     default:
-      jj_la1[70] = jj_gen;
+      jj_la1[78] = jj_gen;
       ;
     }
     jj_consume_token(BLOCK_END);
@@ -1685,14 +1867,14 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void buySellStock() throws ParseException {
   Account account = null; String action=""; String numShares=""; String symbol=""; String when="";
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 159:
-      jj_consume_token(159);
+    case 169:
+      jj_consume_token(169);
       break;
-    case 160:
-      jj_consume_token(160);
+    case 170:
+      jj_consume_token(170);
       break;
     default:
-      jj_la1[71] = jj_gen;
+      jj_la1[79] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1700,7 +1882,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     account = nonBankAccount();
     jj_consume_token(NUM);
            numShares=token.image;
-    jj_consume_token(161);
+    jj_consume_token(171);
     jj_consume_token(QUOTED_TEXT);
                  symbol=noQuotes(token.image);
     jj_consume_token(WHEN_CONTROL);
@@ -1712,7 +1894,7 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void buyGic() throws ParseException {
   Account account=null; String soldBy=""; String principal=""; String interestRate="";
   String term=""; String date="";
-    jj_consume_token(162);
+    jj_consume_token(172);
     account = nonBankAccount();
     jj_consume_token(QUOTED_TEXT);
                  soldBy = noQuotes(token.image);
@@ -1722,7 +1904,7 @@ public class ScenarioParser implements ScenarioParserConstants {
              interestRate = token.image;
     jj_consume_token(NUM);
          term = token.image;
-    jj_consume_token(125);
+    jj_consume_token(132);
     jj_consume_token(COLON);
     jj_consume_token(YYYY_MM_DD);
                         date = token.image;
@@ -1732,14 +1914,14 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void transferStock() throws ParseException {
   Account account = null; String action=""; String numShares=""; String symbol=""; String when=""; String amount=null;
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
-    case 163:
-      jj_consume_token(163);
+    case 173:
+      jj_consume_token(173);
       break;
-    case 164:
-      jj_consume_token(164);
+    case 174:
+      jj_consume_token(174);
       break;
     default:
-      jj_la1[72] = jj_gen;
+      jj_la1[80] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1749,14 +1931,14 @@ public class ScenarioParser implements ScenarioParserConstants {
     case NUM:
       jj_consume_token(NUM);
             numShares=token.image;
-      jj_consume_token(161);
+      jj_consume_token(171);
       break;
     case MONEY:
       jj_consume_token(MONEY);
                                                         amount=token.image;
       break;
     default:
-      jj_la1[73] = jj_gen;
+      jj_la1[81] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1775,23 +1957,23 @@ public class ScenarioParser implements ScenarioParserConstants {
   final public void moveStock() throws ParseException {
   Account from=null; Account to=null; String numShares=""; String symbol="";
   String when=""; String amount=null;
-    jj_consume_token(165);
-    jj_consume_token(166);
+    jj_consume_token(175);
+    jj_consume_token(176);
     from = nonBankAccount();
-    jj_consume_token(167);
+    jj_consume_token(177);
     to = nonBankAccount();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case NUM:
       jj_consume_token(NUM);
            numShares=token.image;
-      jj_consume_token(161);
+      jj_consume_token(171);
       break;
     case MONEY:
       jj_consume_token(MONEY);
                                                        amount=token.image;
       break;
     default:
-      jj_la1[74] = jj_gen;
+      jj_la1[82] = jj_gen;
       jj_consume_token(-1);
       throw new ParseException();
     }
@@ -1809,10 +1991,10 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void moveCash() throws ParseException {
   Cashable from=null; Cashable to=null; String when=""; String amount=null;
-    jj_consume_token(168);
-    jj_consume_token(166);
+    jj_consume_token(178);
+    jj_consume_token(176);
     from = account();
-    jj_consume_token(167);
+    jj_consume_token(177);
     to = account();
     switch ((jj_ntk==-1)?jj_ntk():jj_ntk) {
     case MONEY:
@@ -1820,7 +2002,7 @@ public class ScenarioParser implements ScenarioParserConstants {
             amount=token.image;
       break;
     default:
-      jj_la1[75] = jj_gen;
+      jj_la1[83] = jj_gen;
       ;
     }
     jj_consume_token(WHEN_CONTROL);
@@ -1839,7 +2021,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 */
   final public void smallPaycheck() throws ParseException {
    String grossAmount=""; String when="";
-    jj_consume_token(169);
+    jj_consume_token(179);
     jj_consume_token(MONEY);
                              grossAmount=token.image;
     jj_consume_token(WHEN_CONTROL);
@@ -1849,7 +2031,7 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void annuityPayment() throws ParseException {
   String amount=""; String when="";
-    jj_consume_token(170);
+    jj_consume_token(180);
     jj_consume_token(MONEY);
                               amount=token.image;
     jj_consume_token(WHEN_CONTROL);
@@ -1859,10 +2041,10 @@ public class ScenarioParser implements ScenarioParserConstants {
 
   final public void stockSplit() throws ParseException {
   String when=""; String factor=""; Set<String> tickers = new LinkedHashSet<String>();
-    jj_consume_token(171);
+    jj_consume_token(181);
     jj_consume_token(NUM);
           factor=token.image;
-    jj_consume_token(172);
+    jj_consume_token(182);
     jj_consume_token(QUOTED_TEXT);
      for(String ticker : Util.chopList(noQuotes(token.image))) {
         tickers.add(ticker);
@@ -1881,7 +2063,7 @@ public class ScenarioParser implements ScenarioParserConstants {
   public Token jj_nt;
   private int jj_ntk;
   private int jj_gen;
-  final private int[] jj_la1 = new int[76];
+  final private int[] jj_la1 = new int[84];
   static private int[] jj_la1_0;
   static private int[] jj_la1_1;
   static private int[] jj_la1_2;
@@ -1897,22 +2079,22 @@ public class ScenarioParser implements ScenarioParserConstants {
       jj_la1_init_5();
    }
    private static void jj_la1_init_0() {
-      jj_la1_0 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,};
+      jj_la1_0 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000000,0x80000000,0x0,};
    }
    private static void jj_la1_init_1() {
-      jj_la1_1 = new int[] {0x200000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x6000000,0x2,0x2,0x0,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x100,0x0,0x0,0x0,0x0,0x400,0x800,0x1000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x100,0x3c00,0x0,0x3c00,0xa,0x0,0x2c00,0x0,0x2c00,0x8000,0x8000,0x3c00,0x3e00,0x0,0x0,0x0,0x0,0x8,0x8,0x8,};
+      jj_la1_1 = new int[] {0xe00000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xe00000,0x18000000,0x2,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x400,0x800,0x1000,0x2000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x100,0x3c00,0x0,0x3c00,0xa,0x0,0x3c00,0x0,0x3c00,0x0,0x2c00,0x0,0x2c00,0x8000,0x8000,0x3c00,0x3e00,0x0,0x0,0x0,0x0,0x8,0x8,0x8,};
    }
    private static void jj_la1_init_2() {
-      jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x800,0x0,0x1000,0x2,0x2000,0x4000,0x8000,0x20000,0x40000,0x80000,0x100000,0x200000,0x400000,0x800000,0x1000000,0x2000000,0x4000000,0x8000000,0x10000000,0x20000000,0x40000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2000,0x2,0x4000,0x8,0x8000,0x10000,0x20000,0x80000,0x100000,0x200000,0x400000,0x800000,0x1000000,0x2000000,0x4000000,0x8000000,0x10000000,0x20000000,0x40000000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_3() {
-      jj_la1_3 = new int[] {0x0,0x0,0x80000,0x100000,0x1,0x1000,0x20,0x10000,0x80000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x9c0,0xe000,0x0,0x0,0x0,0x0,0x0,0x0,0x4000000,0x10000000,0x4000000,0x10000000,0x4000000,0x10000000,0x4000000,0x10000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
+      jj_la1_3 = new int[] {0x0,0x0,0x4000000,0x8000000,0x4,0x80000,0x80,0x800000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x1,0x2,0x0,0x0,0x26700,0x0,0x40000,0x700000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_4() {
-      jj_la1_4 = new int[] {0x0,0x2000000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x8,0x0,0x0,0x0,0x800000c0,0x800000c0,0x0,0x0,0xc0,0x20000000,0x80000000,0x0,0x0,0x0,0x0,};
+      jj_la1_4 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x840,0x840,0x4000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x8,0x2,0x8,0x2,0x8,0x2,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x0,0x0,0x2000,0x0,0x0,0x0,0x30000,0x30000,0x0,0x0,0x30000,0x0,0x0,0x0,0x0,0x0,0x0,};
    }
    private static void jj_la1_init_5() {
-      jj_la1_5 = new int[] {0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xd3d,0xd3d,0x0,0x0,0x0,0x0,0x1,0x18,0x0,0x0,0x0,};
+      jj_la1_5 = new int[] {0x0,0x8,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80000,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x34f600,0x34f600,0x0,0x0,0x0,0x80,0x600,0x6000,0x0,0x0,0x0,};
    }
 
   /** Constructor with InputStream. */
@@ -1926,7 +2108,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -1940,7 +2122,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   /** Constructor. */
@@ -1950,7 +2132,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -1960,7 +2142,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   /** Constructor with generated Token Manager. */
@@ -1969,7 +2151,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   /** Reinitialise. */
@@ -1978,7 +2160,7 @@ public class ScenarioParser implements ScenarioParserConstants {
     token = new Token();
     jj_ntk = -1;
     jj_gen = 0;
-    for (int i = 0; i < 76; i++) jj_la1[i] = -1;
+    for (int i = 0; i < 84; i++) jj_la1[i] = -1;
   }
 
   private Token jj_consume_token(int kind) throws ParseException {
@@ -2029,12 +2211,12 @@ public class ScenarioParser implements ScenarioParserConstants {
   /** Generate ParseException. */
   public ParseException generateParseException() {
     jj_expentries.clear();
-    boolean[] la1tokens = new boolean[173];
+    boolean[] la1tokens = new boolean[183];
     if (jj_kind >= 0) {
       la1tokens[jj_kind] = true;
       jj_kind = -1;
     }
-    for (int i = 0; i < 76; i++) {
+    for (int i = 0; i < 84; i++) {
       if (jj_la1[i] == jj_gen) {
         for (int j = 0; j < 32; j++) {
           if ((jj_la1_0[i] & (1<<j)) != 0) {
@@ -2058,7 +2240,7 @@ public class ScenarioParser implements ScenarioParserConstants {
         }
       }
     }
-    for (int i = 0; i < 173; i++) {
+    for (int i = 0; i < 183; i++) {
       if (la1tokens[i]) {
         jj_expentry = new int[1];
         jj_expentry[0] = i;
@@ -156,6 +156,8 @@ public interface ScenarioParserConstants {
     "\"number-of-iterations\"",
     "\"date-of-birth\"",
     "\"annual-test-for-survival\"",
+    "\"sampled-year-of-death\"",
+    "\"survival-weighted-expected-values\"",
     "\"simulation-start-date\"",
     "\"simulation-end-date\"",
     "\"sex\"",
@@ -210,6 +212,11 @@ public interface ScenarioParserConstants {
     "\"mean\"",
     "\"std-dev\"",
     "\"explicit-list\"",
+    "\"bootstrap\"",
+    "\"file\"",
+    "\"block-size\"",
+    "\"correlated-gaussian\"",
+    "\"correlation\"",
     "\"stock-commission\"",
     "\"fixed-percent\"",
     "\"fixed-amount\"",
@@ -234,6 +241,9 @@ public interface ScenarioParserConstants {
     "\"account-sequence\"",
     "\"stock-sequence\"",
     "\"sell\"",
+    "\"tax-aware-liquidation\"",
+    "\"account-choices\"",
+    "\"net-cash\"",
     "\"annual-tfsa-top-up\"",
     "\"transactions {\"",
     "\"bank-deposit\"",
@@ -38,31 +38,31 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
    switch (pos)
    {
       case 0:
-         if ((active1 & 0x4000000000000L) != 0L || (active2 & 0x100L) != 0L)
+         if ((active1 & 0x200000000000000L) != 0L || (active2 & 0x40000L) != 0L)
             return 19;
-         if ((active1 & 0x340800000000000L) != 0L || (active2 & 0x2060000L) != 0L)
+         if ((active1 & 0xa046000000000000L) != 0L || (active2 & 0x818000001L) != 0L)
             return 21;
-         if ((active0 & 0x20000000000000L) != 0L || (active1 & 0x2000080060e003L) != 0L || (active2 & 0x40000000013L) != 0L)
+         if ((active0 & 0x20000000000000L) != 0L || (active1 & 0x100000200183800cL) != 0L || (active2 & 0x10000000005180L) != 0L)
             return 16;
-         if ((active2 & 0x2800L) != 0L)
+         if ((active2 & 0xa00000L) != 0L)
             return 122;
-         if ((active0 & 0x40L) != 0L || (active1 & 0x2000000000000000L) != 0L || (active2 & 0x100000000000L) != 0L)
+         if ((active0 & 0x40L) != 0L || (active2 & 0x40000000000010L) != 0L)
             return 443;
-         if ((active0 & 0x1c1800000000000L) != 0L || (active1 & 0x8c8014211f800008L) != 0L || (active2 & 0xa0370c0800cL) != 0L)
+         if ((active0 & 0x7c1800000000000L) != 0L || (active1 & 0x400810847e000020L) != 0L || (active2 & 0x280dc302000646L) != 0L)
             return 14;
-         if ((active0 & 0xe000000000000000L) != 0L || (active1 & 0x240001a04L) != 0L || (active2 & 0x10000L) != 0L)
+         if ((active0 & 0x8000000000000000L) != 0L || (active1 & 0x900006813L) != 0L || (active2 & 0x4000000L) != 0L)
             return 8;
-         if ((active0 & 0x200000000000000L) != 0L || (active1 & 0x4000020000000000L) != 0L || (active2 & 0x12008084000L) != 0L)
+         if ((active0 & 0x800000000000000L) != 0L || (active1 & 0x80000000000L) != 0L || (active2 & 0x4802021000020L) != 0L)
             return 12;
-         if ((active0 & 0x8200000000000L) != 0L || (active2 & 0x4000600L) != 0L)
+         if ((active0 & 0x8200000000000L) != 0L || (active2 & 0x1000182000L) != 0L)
             return 24;
          if ((active0 & 0x4000L) != 0L)
             return 6;
-         if ((active0 & 0x20000000000L) != 0L || (active2 & 0x4803000c0L) != 0L)
+         if ((active0 & 0x20000000000L) != 0L || (active1 & 0x1400000000000L) != 0L || (active2 & 0x1200c0030000L) != 0L)
             return 10;
          return -1;
       case 1:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40000040001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x2000000100006013L) != 0L)
          {
             jjmatchedKind = 46;
             jjmatchedPos = 1;
@@ -70,7 +70,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 2:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40000040001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x2000000100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -81,7 +81,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 3:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40000040001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x2000000100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -92,7 +92,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 4:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -103,7 +103,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 5:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -114,7 +114,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 6:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -125,7 +125,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 7:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -136,7 +136,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 8:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -147,7 +147,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 9:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -158,7 +158,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 10:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -169,7 +169,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 11:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -180,7 +180,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 12:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -191,7 +191,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 13:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -202,7 +202,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 14:
-         if ((active0 & 0xe008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8008000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -213,7 +213,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 15:
-         if ((active0 & 0xc008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -224,7 +224,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 16:
-         if ((active0 & 0xc008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -235,7 +235,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 17:
-         if ((active0 & 0xc008000000000000L) != 0L || (active1 & 0x40001804L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x100006013L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -246,7 +246,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 18:
-         if ((active0 & 0xc008000000000000L) != 0L || (active1 & 0x40001800L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x100006003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -257,7 +257,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 19:
-         if ((active0 & 0xc008000000000000L) != 0L || (active1 & 0x1800L) != 0L)
+         if ((active0 & 0x8000000000000L) != 0L || (active1 & 0x6003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -268,7 +268,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 20:
-         if ((active0 & 0xc000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -279,7 +279,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 21:
-         if ((active0 & 0xc000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -290,7 +290,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 22:
-         if ((active0 & 0xc000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -301,7 +301,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 23:
-         if ((active0 & 0xc000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -312,7 +312,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 24:
-         if ((active0 & 0xc000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2003L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -323,7 +323,7 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1,
          }
          return -1;
       case 25:
-         if ((active0 & 0x4000000000000000L) != 0L || (active1 & 0x800L) != 0L)
+         if ((active1 & 0x2001L) != 0L)
          {
             if (jjmatchedPos < 1)
             {
@@ -357,7 +357,7 @@ private int jjMoveStringLiteralDfa0_0()
          return jjStopAtPos(0, 8);
       case 45:
          jjmatchedKind = 6;
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x2000000000000000L, 0x100000000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x40000000000010L);
       case 58:
          return jjStopAtPos(0, 7);
       case 61:
@@ -366,64 +366,64 @@ private int jjMoveStringLiteralDfa0_0()
          return jjStopAtPos(0, 10);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa1_0(0x20000000000000L, 0x2000080060e003L, 0x40000000013L);
+         return jjMoveStringLiteralDfa1_0(0x20000000000000L, 0x100000200183800cL, 0x10000000005180L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa1_0(0x20000000000L, 0x0L, 0x4803000c0L);
+         return jjMoveStringLiteralDfa1_0(0x20000000000L, 0x1400000000000L, 0x1200c0030000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x340800000000000L, 0x2060000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0xa046000000000000L, 0x818000001L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa1_0(0x14000000000000L, 0x400010060L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x14000000000000L, 0x1000040180L, 0x0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x80000000000L, 0x1000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x200000000000L, 0x400000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa1_0(0xc00000000000000L, 0x604000000000L, 0x4000000000L);
+         return jjMoveStringLiteralDfa1_0(0x3000000000000000L, 0x30810000000000L, 0x1000000000000L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x1000011000000000L, 0x1000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x44000000000L, 0x400000008L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x80000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x200000000L, 0x0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa1_0(0x1000000000000000L, 0x2000000000000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x4000000000000000L, 0x100000000000000L, 0x0L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x400L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x1000L, 0x0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa1_0(0x80000000000L, 0x100000201e0000L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x80000000000L, 0x800000080780000L, 0x0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa1_0(0x200000000000000L, 0x4000020000000000L, 0x12008084000L);
+         return jjMoveStringLiteralDfa1_0(0x800000000000000L, 0x80000000000L, 0x4802021000020L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa1_0(0x8200000000000L, 0x0L, 0x4000600L);
+         return jjMoveStringLiteralDfa1_0(0x8200000000000L, 0x0L, 0x1000182000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0x2800L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x0L, 0xa00000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0xe000000000000000L, 0x240001a04L, 0x10000L);
+         return jjMoveStringLiteralDfa1_0(0x8000000000000000L, 0x900006813L, 0x4000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa1_0(0x40000000000L, 0x8008000000100L, 0x0L);
+         return jjMoveStringLiteralDfa1_0(0x40000000000L, 0x400020000000400L, 0x0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa1_0(0x1c1800000000000L, 0x8c8014211f800008L, 0xa0370c0800cL);
+         return jjMoveStringLiteralDfa1_0(0x7c1800000000000L, 0x400810847e000020L, 0x280dc302000646L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa1_0(0x100000000000L, 0x1000000000090L, 0x9800000020L);
+         return jjMoveStringLiteralDfa1_0(0x100000000000L, 0x80000000000240L, 0x2600000008800L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa1_0(0x2000000000000L, 0x0L, 0x0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x4000000000000L, 0x100L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x200000000000000L, 0x40000L);
       case 123:
          return jjStopAtPos(0, 11);
       case 125:
@@ -445,60 +445,60 @@ private int jjMoveStringLiteralDfa1_0(long active0, long active1, long active2)
          return jjMoveStringLiteralDfa2_0(active0, 0x2000000000000L, active1, 0L, active2, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa2_0(active0, 0x210020000000000L, active1, 0x4040018000000090L, active2, 0x128c0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x850020000000000L, active1, 0x2000060000000240L, active2, 0x4a30820L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x20000018000000L, active2, 0x2L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x1000000060000000L, active2, 0x1100L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa2_0(active0, 0xed04000000000000L, active1, 0x80040200c0001804L, active2, 0x100000708L);
+         return jjMoveStringLiteralDfa2_0(active0, 0xb404000000000000L, active1, 0x200080300006013L, active2, 0x400001c2440L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa2_0(active0, 0x100000000000L, active1, 0x1000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x100000000000L, active1, 0x80000000000000L, active2, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x60e003L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x183800cL, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x200000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x80000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa2_0(active0, 0xc00c0000000000L, active1, 0x1018604420010160L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x3000c0000000000L, active1, 0xc30811080040580L, active2, 0x400000008L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x60000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x1000000000000L, active2, 0x18000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000800000000L, active2, 0x20000001000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x4000002000000000L, active2, 0x8000000400000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa2_0(active0, 0x1020000000000000L, active1, 0x2000000000000L, active2, 0x40000000010L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x4020000000000000L, active1, 0x100000000000000L, active2, 0x10000000004000L);
       case 79:
       case 111:
-         if ((active2 & 0x8000000000L) != 0L)
-            return jjStopAtPos(1, 167);
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x3000000001e0000L, active2, 0x1200c384000L);
+         if ((active2 & 0x2000000000000L) != 0L)
+            return jjStopAtPos(1, 177);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8006400000780000L, active2, 0x48030e1000001L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa2_0(active0, 0x800000000000L, active1, 0L, active2, 0x2000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x800000000000L, active1, 0L, active2, 0x800000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa2_0(active0, 0x200000000000L, active1, 0x1200000200L, active2, 0x5800000020L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x200000000000L, active1, 0x4800000800L, active2, 0x1600000008000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0xc00142100000008L, active2, 0x180010c08004L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x8108400000020L, active2, 0x60004302000206L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa2_0(active0, 0x8000000000000L, active1, 0x800007800400L, active2, 0x4e0000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x88000000000000L, active1, 0x4000001e001000L, active2, 0x138000000000L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x1L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0L, active2, 0x80L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x200000000000L, active2, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa2_0(active0, 0x1000000000000L, active1, 0x2000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa2_0(active0, 0x1000000000000L, active1, 0L, active2, 0x10L);
       default :
          break;
    }
@@ -521,16 +521,16 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 97:
          if ((active0 & 0x200000000000L) != 0L)
             return jjStopAtPos(2, 45);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x84020080000008L, active2, 0x21a10c68120L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x4200080200000020L, active2, 0x868431a048000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1020000000000000L, active2, 0x2L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1000000000000000L, active2, 0x1108L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000000000000L, active1, 0x40000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x2000000000000000L, active1, 0x100000000000L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa3_0(active0, 0x800000000000L, active1, 0x200000000060e003L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000000000L, active1, 0x183800cL, active2, 0x10L);
       case 70:
       case 102:
          if ((active0 & 0x40000000000L) != 0L)
@@ -543,64 +543,64 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
             jjmatchedKind = 43;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x18000000000100L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0xc00000000000400L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x18000000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x60000000L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa3_0(active0, 0x1000000000000000L, active1, 0x2000200000000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4000000000000000L, active1, 0x100000800000000L, active2, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa3_0(active0, 0x200000000000000L, active1, 0L, active2, 0x100000008L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x800000000000000L, active1, 0x800000000000L, active2, 0x40000000400L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa3_0(active0, 0x4c8000000000000L, active1, 0L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x1348000000000000L, active1, 0L, active2, 0x1000000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa3_0(active0, 0x21020000000000L, active1, 0x300008040000004L, active2, 0x400080840d0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x21020000000000L, active1, 0x8000020100000010L, active2, 0x10002021034001L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0xc00103900000200L, active2, 0x184000300005L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x940e400000800L, active2, 0x610000c0000286L);
       case 80:
       case 112:
-         if ((active2 & 0x2000000L) != 0L)
-            return jjStopAtPos(2, 153);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000000000L, active2, 0x1000L);
+         if ((active2 & 0x800000000L) != 0L)
+            return jjStopAtPos(2, 163);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x200000000000L, active2, 0x400000L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x40L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa3_0(active0, 0xe000000000000000L, active1, 0x7801c00L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x8080000000000000L, active1, 0x600001e007003L, active2, 0x18000000000L);
       case 83:
       case 115:
-         if ((active2 & 0x2000L) != 0L)
+         if ((active2 & 0x800000L) != 0L)
          {
-            jjmatchedKind = 141;
+            jjmatchedKind = 151;
             jjmatchedPos = 2;
          }
-         return jjMoveStringLiteralDfa3_0(active0, 0x4100000000000L, active1, 0x41800000000000L, active2, 0x1000800L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x4100000000000L, active1, 0x20c0000000000000L, active2, 0x400200000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa3_0(active0, 0x10000000000000L, active1, 0x4000000000000000L, active2, 0x600L);
+         return jjMoveStringLiteralDfa3_0(active0, 0x10000000000000L, active1, 0L, active2, 0x182020L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x10000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40000000000L, active2, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x420010060L, active2, 0x12000000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1080040180L, active2, 0x4800000000000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x1e0000L, active2, 0L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x780000L, active2, 0L);
       case 88:
       case 120:
-         if ((active0 & 0x100000000000000L) != 0L)
-            return jjStopAtPos(2, 56);
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x604000000090L, active2, 0L);
+         if ((active0 & 0x400000000000000L) != 0L)
+            return jjStopAtPos(2, 58);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x30010000000240L, active2, 0x800L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x480010000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0L, active2, 0x120004000000L);
       default :
          break;
    }
@@ -618,7 +618,7 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x10180400007e0183L, active2, 0x100481000e00L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0xc00100001f8060cL, active2, 0x40120400382808L);
       case 48:
          return jjMoveStringLiteralDfa4_0(active0, 0x2000000000000L, active1, 0L, active2, 0L);
       case 65:
@@ -628,29 +628,31 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
             jjmatchedKind = 44;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0x400000000000000L, active1, 0x200100000000e010L, active2, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x1000000000000000L, active1, 0x80000000038040L, active2, 0x10L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa4_0(active0, 0x8000000000000L, active1, 0L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa4_0(active0, 0x4000000000000L, active1, 0xc00102300000000L, active2, 0x80000000004L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4000000000000L, active1, 0x9008c00000000L, active2, 0x20000000000206L);
       case 69:
       case 101:
-         if ((active0 & 0x200000000000000L) != 0L)
-            return jjStopAtPos(3, 57);
-         return jjMoveStringLiteralDfa4_0(active0, 0x810000000000000L, active1, 0x604038000000L, active2, 0x12000000000L);
+         if ((active0 & 0x800000000000000L) != 0L)
+            return jjStopAtPos(3, 59);
+         else if ((active1 & 0x800000000000L) != 0L)
+            return jjStopAtPos(3, 111);
+         return jjMoveStringLiteralDfa4_0(active0, 0x2010000000000000L, active1, 0x300100e0000000L, active2, 0x4800000000000L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x8000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x20000000000L, active2, 0L);
       case 72:
       case 104:
-         if ((active1 & 0x40000000000000L) != 0L)
-            return jjStopAtPos(3, 118);
+         if ((active1 & 0x2000000000000000L) != 0L)
+            return jjStopAtPos(3, 125);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x400010460L, active2, 0x4000001L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1000041180L, active2, 0x1000000080L);
       case 75:
       case 107:
          if ((active0 & 0x20000000000L) != 0L)
@@ -658,46 +660,49 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
             jjmatchedKind = 41;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0xc0L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x30000L);
       case 76:
       case 108:
-         if ((active2 & 0x8L) != 0L)
+         if ((active2 & 0x400L) != 0L)
          {
-            jjmatchedKind = 131;
+            jjmatchedKind = 138;
             jjmatchedPos = 3;
          }
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x80080080000000L, active2, 0x20100001000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x4000200200000000L, active2, 0x8040000400000L);
       case 77:
       case 109:
-         if ((active2 & 0x4000000000L) != 0L)
-            return jjStopAtPos(3, 166);
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x10000L);
+         if ((active2 & 0x1000000000000L) != 0L)
+            return jjStopAtPos(3, 176);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0L, active2, 0x4000000L);
       case 78:
       case 110:
-         if ((active1 & 0x20000000000L) != 0L)
-            return jjStopAtPos(3, 105);
-         return jjMoveStringLiteralDfa4_0(active0, 0x800000000000L, active1, 0x8L, active2, 0x1800000020L);
+         if ((active1 & 0x80000000000L) != 0L)
+            return jjStopAtPos(3, 107);
+         return jjMoveStringLiteralDfa4_0(active0, 0x800000000000L, active1, 0x20L, active2, 0x600000008000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x20000000000000L, active2, 0x2L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1000000000000000L, active2, 0x1100L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa4_0(active0, 0x40000000000000L, active1, 0L, active2, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x4000000000000L, active2, 0x210c08100L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x206000000000000L, active2, 0x84302040000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa4_0(active0, 0xe000000000000000L, active1, 0x10040001804L, active2, 0x300000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x8000000000000000L, active1, 0x40100006013L, active2, 0xc0000000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa4_0(active0, 0x1001000000000000L, active1, 0x2800007800000L, active2, 0x8084000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x4001000000000000L, active1, 0x14040001e000000L, active2, 0x2021000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa4_0(active0, 0xe0000000000000L, active1, 0xc000000800000000L, active2, 0x40000000010L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x320000000000000L, active1, 0x2000000000L, active2, 0x10000000004060L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x300000000000200L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0x80000000000000L, active1, 0x8000000000000800L, active2, 0x18000000001L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x1000000000L, active2, 0x60000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x4000000000L, active2, 0x18000000L);
       default :
          break;
    }
@@ -715,78 +720,81 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa5_0(active0, 0x10000000000000L, active1, 0x1000020000000L, active2, 0x121000001c0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x10000000000000L, active1, 0x80000080000000L, active2, 0x4840000070000L);
       case 46:
          return jjMoveStringLiteralDfa5_0(active0, 0x2000000000000L, active1, 0L, active2, 0L);
       case 49:
-         if ((active2 & 0x100000000000L) != 0L)
-            return jjStopAtPos(4, 172);
+         if ((active2 & 0x40000000000000L) != 0L)
+            return jjStopAtPos(4, 182);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa5_0(active0, 0x21000000000000L, active1, 0x7800003L, active2, 0x10L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x21000000000000L, active1, 0x1e00000cL, active2, 0x4800L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x90L, active2, 0x60000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x240L, active2, 0x18000000L);
+      case 67:
+      case 99:
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x2000L);
       case 68:
       case 100:
-         if ((active1 & 0x4000000000L) != 0L)
+         if ((active1 & 0x10000000000L) != 0L)
          {
-            jjmatchedKind = 102;
+            jjmatchedKind = 104;
             jjmatchedPos = 4;
          }
-         return jjMoveStringLiteralDfa5_0(active0, 0x800000000000L, active1, 0x640418010068L, active2, 0x1L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x800000000000L, active1, 0x301010600401a0L, active2, 0x80L);
       case 69:
       case 101:
-         if ((active1 & 0x200000000L) != 0L)
-            return jjStopAtPos(4, 97);
-         else if ((active1 & 0x8000000000L) != 0L)
-            return jjStopAtPos(4, 103);
-         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000000L, active1, 0x8300000000000000L, active2, 0x201010000L);
+         if ((active1 & 0x800000000L) != 0L)
+            return jjStopAtPos(4, 99);
+         else if ((active1 & 0x20000000000L) != 0L)
+            return jjStopAtPos(4, 105);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000000L, active1, 0x8006000000000000L, active2, 0x80404000041L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x400000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x100000000000L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x8084000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x2021000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_0(active0, 0x1000000000000000L, active1, 0x20800401e0204L, active2, 0x40060000e00L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x4080000000000000L, active1, 0x100200100780810L, active2, 0x10018000380000L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0xc00102100000000L, active2, 0x80000000004L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x9008400000000L, active2, 0x20000000000206L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa5_0(active0, 0x4c0000000000000L, active1, 0x84000000000000L, active2, 0x20000000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x1340000000000000L, active1, 0x4200000000000000L, active2, 0x8000000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1800000000e000L, active2, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0xc00000000038000L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x800000000L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x2000000000L, active2, 0x1000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa5_0(active0, 0xe000000000000000L, active1, 0x800000001800L, active2, 0x1000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0x8000000000000000L, active1, 0x40000000006003L, active2, 0x400000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0L, active2, 0x8L);
       case 82:
       case 114:
-         if ((active1 & 0x2000000000000000L) != 0L)
-            return jjStopAtPos(4, 125);
-         return jjMoveStringLiteralDfa5_0(active0, 0x804000000000000L, active1, 0x4000000000000000L, active2, 0L);
+         if ((active2 & 0x10L) != 0L)
+            return jjStopAtPos(4, 132);
+         return jjMoveStringLiteralDfa5_0(active0, 0x2004000000000000L, active1, 0L, active2, 0x20L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x10000000400L, active2, 0x1880000020L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x440000001000L, active2, 0x620000008000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1080600000L, active2, 0x10f08000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x4201800000L, active2, 0x43c2000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x20000000000000L, active2, 0x2L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x1000000000000000L, active2, 0x1100L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x400L, active2, 0L);
       default :
          break;
    }
@@ -804,81 +812,81 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa6_0(active0, 0x800000000000L, active1, 0xc80702000000000L, active2, 0xa0010f08005L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x800000000000L, active1, 0x4039008000000000L, active2, 0x280043c2000286L);
       case 48:
          if ((active0 & 0x2000000000000L) != 0L)
             return jjStopAtPos(5, 49);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa6_0(active0, 0x18c0000000000000L, active1, 0x12000020600008L, active2, 0x4060020L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x6300000000000000L, active1, 0x900000081800020L, active2, 0x101800a000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x80000000000L, active2, 0x10000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000000000L, active2, 0x4000000000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x400L, active2, 0x40L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x1000L, active2, 0x10000L);
       case 69:
       case 101:
-         if ((active0 & 0x400000000000000L) != 0L)
-            return jjStopAtPos(5, 58);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x4000040400010060L, active2, 0L);
+         if ((active0 & 0x1000000000000000L) != 0L)
+            return jjStopAtPos(5, 60);
+         return jjMoveStringLiteralDfa6_0(active0, 0x40000000000000L, active1, 0x101000040180L, active2, 0x20L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x1800000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x600000000000L);
       case 72:
       case 104:
-         if ((active1 & 0x1000000000L) != 0L)
-            return jjStopAtPos(5, 100);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         if ((active1 & 0x4000000000L) != 0L)
+            return jjStopAtPos(5, 102);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa6_0(active0, 0x4000000000000L, active1, 0x8010000000100L, active2, 0x400000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x4000000000000L, active1, 0x400040000000400L, active2, 0x100000000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa6_0(active0, 0x20000000000000L, active1, 0x10L, active2, 0x8084010L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x20000000000000L, active1, 0x6000000000040L, active2, 0x2021004000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x800000000003L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x4000000000000cL, active2, 0x400000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa6_0(active0, 0xe000000000000000L, active1, 0x80200000001e1a00L, active2, 0x10e02L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x8000000000000000L, active1, 0x1000000000786803L, active2, 0x4381140L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa6_0(active0, 0x10000000000000L, active1, 0x1000000040000004L, active2, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x10000000000000L, active1, 0x100000010L, active2, 0x8L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa6_0(active0, 0x8000000000000L, active1, 0x301000000000080L, active2, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x8000000000000L, active1, 0x8080000000000200L, active2, 0x1L);
       case 83:
       case 115:
-         if ((active1 & 0x100000000L) != 0L)
-            return jjStopAtPos(5, 96);
-         else if ((active2 & 0x200000000L) != 0L)
-            return jjStopAtPos(5, 161);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x2100000000L);
+         if ((active1 & 0x400000000L) != 0L)
+            return jjStopAtPos(5, 98);
+         else if ((active2 & 0x80000000000L) != 0L)
+            return jjStopAtPos(5, 171);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x840000000000L);
       case 84:
       case 116:
-         if ((active1 & 0x800000000L) != 0L)
-            return jjStopAtPos(5, 99);
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0xe000L, active2, 0x40080000000L);
+         if ((active1 & 0x2000000000L) != 0L)
+            return jjStopAtPos(5, 101);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x400000038000L, active2, 0x10020000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x18000000L, active2, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x60000000L, active2, 0L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x80000000000000L, active1, 0L, active2, 0x18000000000L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x80L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x20800L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa6_0(active0, 0x1000000000000L, active1, 0x7800000L, active2, 0L);
+         return jjMoveStringLiteralDfa6_0(active0, 0x1000000000000L, active1, 0x1e000000L, active2, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x4000000000000L, active2, 0x1000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x200000000000000L, active2, 0x400000L);
       case 90:
       case 122:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x100L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0L, active2, 0x40000L);
       default :
          break;
    }
@@ -896,70 +904,70 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa7_0(active0, 0x29000000000000L, active1, 0x4800087800000L, active2, 0x10L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x29000000000000L, active1, 0x24000021e000000L, active2, 0x4000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa7_0(active0, 0xe000000000000000L, active1, 0x410000001880L, active2, 0x10000100000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x8080000000000000L, active1, 0x26040000006203L, active2, 0x4000040000800L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa7_0(active0, 0x800000000000L, active1, 0x880000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x800000000000L, active1, 0x4000000000000000L, active2, 0x4L);
       case 67:
       case 99:
-         if ((active2 & 0x400000000L) != 0L)
-            return jjStopAtPos(6, 162);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000001e0200L, active2, 0x60e20L);
+         if ((active2 & 0x100000000000L) != 0L)
+            return jjStopAtPos(6, 172);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x8000000780800L, active2, 0x18388000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x1L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x40000000000000L, active1, 0L, active2, 0x80L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x10L, active2, 0x1800000140L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x40L, active2, 0x600000050000L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa7_0(active0, 0x10000000000000L, active1, 0L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x80000000400L, active2, 0x80L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x200000001000L, active2, 0x20000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa7_0(active0, 0x1800000000000000L, active1, 0x2000038000000L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x6000000000000000L, active1, 0x1000000e0000000L, active2, 0x1000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x9000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x2400000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x8000440010064L, active2, 0x10000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x400001100040190L, active2, 0x4000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000000003L, active2, 0xe0000000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x8000000000000cL, active2, 0x38000000000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa7_0(active0, 0x4000000000000L, active1, 0x400202000000000L, active2, 0x20001200000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x4000000000000L, active1, 0x10008000000000L, active2, 0x8000480000002L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x8L, active2, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x400000000020L, active2, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x4000000000000000L) != 0L)
-            return jjStopAtPos(6, 126);
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x100000000000e000L, active2, 0x80000000004L);
+         if ((active2 & 0x20L) != 0L)
+            return jjStopAtPos(6, 133);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x1000000038000L, active2, 0x20000000002208L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa7_0(active0, 0xc0000000000000L, active1, 0x8320000000000100L, active2, 0x2100010002L);
+         return jjMoveStringLiteralDfa7_0(active0, 0x300000000000000L, active1, 0x9000000000000400L, active2, 0x840004001141L);
       case 86:
       case 118:
-         if ((active1 & 0x40000000000L) != 0L)
-            return jjStopAtPos(6, 106);
+         if ((active1 & 0x100000000000L) != 0L)
+            return jjStopAtPos(6, 108);
          break;
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0xc00000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x300000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x10000000600000L, active2, 0L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0x800000001800000L, active2, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x40008084000L);
+         return jjMoveStringLiteralDfa7_0(active0, 0L, active1, 0L, active2, 0x10002021000000L);
       default :
          break;
    }
@@ -977,67 +985,69 @@ private int jjMoveStringLiteralDfa7_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa8_0(active0, 0x1810000000000000L, active1, 0x302000040600014L, active2, 0x4000c094002L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x6050000000000000L, active1, 0x8100000101800050L, active2, 0x10003025001101L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa8_0(active0, 0x800000000000L, active1, 0x80000000000000L, active2, 0x20000000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x800000000000L, active1, 0x4000400000000000L, active2, 0x8000000000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x480L, active2, 0x80000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x1200L, active2, 0x20000000000L);
       case 68:
       case 100:
-         if ((active1 & 0x400000000L) != 0L)
+         if ((active1 & 0x1000000000L) != 0L)
          {
-            jjmatchedKind = 98;
+            jjmatchedKind = 100;
             jjmatchedPos = 7;
          }
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10068L, active2, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x401a0L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x200018000000L, active2, 0x201004L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x10000060000000L, active2, 0x80400200L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x100000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x40000000L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x100L, active2, 0L);
+         if ((active2 & 0x2000L) != 0L)
+            return jjStopAtPos(7, 141);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x400L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa8_0(active0, 0xc0000000000000L, active1, 0x9018000000000200L, active2, 0xc00000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x300000000000000L, active1, 0xc01000000000800L, active2, 0x300000048L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x60000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0L, active2, 0x18000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa8_0(active0, 0xe000000000000000L, active1, 0x4000000001800L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x8080000000000000L, active1, 0x200000000006003L, active2, 0x400000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x400000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x20000000000000L, active2, 0L);
       case 78:
       case 110:
-         if ((active1 & 0x10000000000L) != 0L)
-            return jjStopAtPos(7, 104);
+         if ((active1 & 0x40000000000L) != 0L)
+            return jjStopAtPos(7, 106);
          break;
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa8_0(active0, 0x8000000000000L, active1, 0xc011000201e0000L, active2, 0x2110008e01L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x8000000000000L, active1, 0x88000080780000L, active2, 0x844002380086L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x80000000L, active2, 0x80000000040L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x200000000L, active2, 0x20000000010000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x2005000000L, active2, 0x1860000100L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x8014000000L, active2, 0x618000040800L);
       case 83:
       case 115:
-         if ((active1 & 0x20000000000000L) != 0L)
-            return jjStopAtPos(7, 117);
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x800000000000L, active2, 0x10000000000L);
+         if ((active1 & 0x1000000000000000L) != 0L)
+            return jjStopAtPos(7, 124);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x40000000000000L, active2, 0x4000000000000L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa8_0(active0, 0x24000000000000L, active1, 0x80002800000L, active2, 0xb0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0x24000000000000L, active1, 0x620000a000000L, active2, 0x2c000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0xe003L, active2, 0L);
+         return jjMoveStringLiteralDfa8_0(active0, 0L, active1, 0x3800cL, active2, 0L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa8_0(active0, 0x1000000000000L, active1, 0L, active2, 0L);
@@ -1058,75 +1068,80 @@ private int jjMoveStringLiteralDfa8_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa9_0(active0, 0xe000000000000000L, active1, 0x80018011868L, active2, 0x1860060000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x8080000000000000L, active1, 0x2000600461a3L, active2, 0x618018000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8000000005000200L, active2, 0x4000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x14000800L, active2, 0x1000040L);
       case 66:
       case 98:
          return jjMoveStringLiteralDfa9_0(active0, 0x10000000000000L, active1, 0L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x800000600010L, active2, 0x2100000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x40000001800040L, active2, 0x840000001000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x10000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x4000000L);
       case 69:
       case 101:
-         if ((active2 & 0x100000L) != 0L)
-            return jjStopAtPos(8, 148);
-         return jjMoveStringLiteralDfa9_0(active0, 0x21000000000000L, active1, 0L, active2, 0L);
+         if ((active2 & 0x40000000L) != 0L)
+            return jjStopAtPos(8, 158);
+         return jjMoveStringLiteralDfa9_0(active0, 0x21000000000000L, active1, 0x2000000000000L, active2, 0x800L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa9_0(active0, 0x8000000000000L, active1, 0L, active2, 0x10L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x8000000000000L, active1, 0L, active2, 0x4000L);
       case 72:
       case 104:
-         if ((active2 & 0x10000000000L) != 0L)
-            return jjStopAtPos(8, 168);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x2800100L, active2, 0x80L);
+         if ((active2 & 0x4000000000000L) != 0L)
+            return jjStopAtPos(8, 178);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0xa000400L, active2, 0x20000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa9_0(active0, 0x4000000000000L, active1, 0x4002040000004L, active2, 0x20L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x4000000000000L, active1, 0x204008100000010L, active2, 0x8000L);
       case 75:
       case 107:
-         if ((active2 & 0x80000000L) != 0L)
-            return jjStopAtPos(8, 159);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x80L, active2, 0L);
+         if ((active2 & 0x20000000000L) != 0L)
+            return jjStopAtPos(8, 169);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x200L, active2, 0L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x280000000000000L, active2, 0x80000000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x4000000000000000L, active2, 0x20000000000001L);
       case 77:
       case 109:
-         if ((active1 & 0x1000000000000L) != 0L)
-            return jjStopAtPos(8, 112);
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x181000001e0000L, active2, 0x14000e00L);
+         if ((active1 & 0x80000000000000L) != 0L)
+            return jjStopAtPos(8, 119);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0xc08000000780000L, active2, 0x5000380000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa9_0(active0, 0x800000000000L, active1, 0x20000003L, active2, 0xc09000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x800000000000L, active1, 0x8000000cL, active2, 0x302400000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa9_0(active0, 0xc0000000000000L, active1, 0x800400000000000L, active2, 0x1000140L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x300000000000000L, active1, 0x20000000000000L, active2, 0x400050004L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0xe000L, active2, 0x40008000000L);
+         if ((active1 & 0x400000000000L) != 0L)
+            return jjStopAtPos(8, 110);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x38000L, active2, 0x10002000000000L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x4L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x200L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x102200080000000L, active2, 0x280000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x8110000200000000L, active2, 0xa0000000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x400000000000000L, active2, 0x2L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x102L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa9_0(active0, 0x800000000000000L, active1, 0x1000000000000400L, active2, 0L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x2000000000000000L, active1, 0x1000L, active2, 0x8L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x1L);
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0L, active2, 0x80L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa9_0(active0, 0x1000000000000000L, active1, 0L, active2, 0x20000000000L);
+         return jjMoveStringLiteralDfa9_0(active0, 0x4040000000000000L, active1, 0L, active2, 0x8000000000000L);
+      case 90:
+      case 122:
+         return jjMoveStringLiteralDfa9_0(active0, 0L, active1, 0x1000000000000L, active2, 0L);
       default :
          break;
    }
@@ -1144,80 +1159,85 @@ private int jjMoveStringLiteralDfa9_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000000L, active1, 0L, active2, 0x100L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x8000000000000L, active1, 0L, active2, 0x40800L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa10_0(active0, 0xe800000000000000L, active1, 0x80000000001810L, active2, 0x40000010000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0xa000000000000000L, active1, 0x4000000000006043L, active2, 0x10000004000000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x18000000L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x60000000L, active2, 0x18000000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x202000000000L, active2, 0x20000200000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x10008000000000L, active2, 0x8000080000000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0xc00080L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x2000000000000L, active2, 0x300020000L);
       case 69:
       case 101:
-         if ((active2 & 0x400L) != 0L)
+         if ((active1 & 0x1000000000000L) != 0L)
+            return jjStopAtPos(9, 112);
+         else if ((active2 & 0x100000L) != 0L)
          {
-            jjmatchedKind = 138;
+            jjmatchedKind = 148;
             jjmatchedPos = 9;
          }
-         else if ((active2 & 0x800L) != 0L)
-            return jjStopAtPos(9, 139);
-         return jjMoveStringLiteralDfa10_0(active0, 0x1000000000000000L, active1, 0xa01e0080L, active2, 0x8080202L);
+         else if ((active2 & 0x200000L) != 0L)
+            return jjStopAtPos(9, 149);
+         return jjMoveStringLiteralDfa10_0(active0, 0x4040000000000000L, active1, 0x280780200L, active2, 0x2020080100L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x10000L, active2, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x40000L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x800000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x40000000000000L, active2, 0x1000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa10_0(active0, 0x10000000000000L, active1, 0x1600000000000400L, active2, 0x80010000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x10000000000000L, active1, 0x1000L, active2, 0x2000400000000bL);
       case 75:
       case 107:
-         if ((active2 & 0x100000000L) != 0L)
-            return jjStopAtPos(9, 160);
-         else if ((active2 & 0x2000000000L) != 0L)
-            return jjStopAtPos(9, 165);
-         return jjMoveStringLiteralDfa10_0(active0, 0x800000000000L, active1, 0x800000000000000L, active2, 0L);
+         if ((active2 & 0x40000000000L) != 0L)
+            return jjStopAtPos(9, 170);
+         else if ((active2 & 0x800000000000L) != 0L)
+            return jjStopAtPos(9, 175);
+         return jjMoveStringLiteralDfa10_0(active0, 0x800000000000L, active1, 0L, active2, 0x4L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x8000080000000200L, active2, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x200000000800L, active2, 0x40L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x4100000000000L, active2, 0x4000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x208000000000000L, active2, 0x1000000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa10_0(active0, 0xc0000000000000L, active1, 0x40000004L, active2, 0x1L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x300000000000000L, active1, 0x100000010L, active2, 0x80L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa10_0(active0, 0x4000000000000L, active1, 0x2000000000100L, active2, 0x4000020L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x4000000000000L, active1, 0x104000000000400L, active2, 0x1000008000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0xe000L, active2, 0x40000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x38000L, active2, 0x10000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa10_0(active0, 0x1000000000000L, active1, 0x2e00008L, active2, 0L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x1000000000000L, active1, 0xb800020L, active2, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa10_0(active0, 0x20000000000000L, active1, 0x100000000000000L, active2, 0x1800000050L);
+         return jjMoveStringLiteralDfa10_0(active0, 0x20000000000000L, active1, 0x8000000000000000L, active2, 0x600000014000L);
       case 84:
       case 116:
-         if ((active1 & 0x1L) != 0L)
+         if ((active1 & 0x4L) != 0L)
          {
-            jjmatchedKind = 64;
+            jjmatchedKind = 66;
             jjmatchedPos = 9;
          }
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x5000062L, active2, 0x29000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x14000188L, active2, 0xa400000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0x18400000000000L, active2, 0x4L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0xc20000000000000L, active2, 0x200L);
+      case 87:
+      case 119:
+         return jjMoveStringLiteralDfa10_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa10_0(active0, 0L, active1, 0L, active2, 0x400000000L);
       default :
          break;
    }
@@ -1235,68 +1255,70 @@ private int jjMoveStringLiteralDfa10_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa11_0(active0, 0xc0800000000000L, active1, 0x88000000381e0202L, active2, 0x1200L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x300800000000000L, active1, 0x20000e0780808L, active2, 0x480044L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa11_0(active0, 0x1000000000000000L, active1, 0x60L, active2, 0x110L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x4040000000000000L, active1, 0x180L, active2, 0x44000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x40000004L, active2, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100000010L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0xa02007e00008L, active2, 0x60240004L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x80000000000000L, active1, 0x5000801f800020L, active2, 0x18090000200L);
       case 72:
       case 104:
-         if ((active2 & 0x8000L) != 0L)
-            return jjStopAtPos(10, 143);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x20000020000L);
+         if ((active2 & 0x2000000L) != 0L)
+            return jjStopAtPos(10, 153);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x8000008000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000L, active1, 0x4180000000000L, active2, 0x40L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000L, active1, 0x208200000000000L, active2, 0x10000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0xe100L, active2, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x38400L, active2, 0x800L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa11_0(active0, 0xe000000000000000L, active1, 0x18000080001800L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x8000000000000000L, active1, 0xc00000200006003L, active2, 0x400000000L);
       case 78:
       case 110:
          if ((active0 & 0x4000000000000L) != 0L)
             return jjStopAtPos(10, 50);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x80400000000000L, active2, 0x1c000020L);
+         else if ((active1 & 0x4000000000000L) != 0L)
+            return jjStopAtPos(10, 114);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x4020000000000000L, active2, 0x7000008000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x1002000000000400L, active2, 0xc04000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100000000001000L, active2, 0x301001008L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x100000000000010L, active2, 0L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0x8000000000000040L, active2, 0L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x2L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x100L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa11_0(active0, 0x10000000000000L, active1, 0x200000000010000L, active2, 0x80L);
+         return jjMoveStringLiteralDfa11_0(active0, 0x10000000000000L, active1, 0x40000L, active2, 0x20001L);
       case 83:
       case 115:
          return jjMoveStringLiteralDfa11_0(active0, 0x1000000000000L, active1, 0L, active2, 0L);
       case 84:
       case 116:
-         if ((active2 & 0x80000000000L) != 0L)
-            return jjStopAtPos(10, 171);
-         return jjMoveStringLiteralDfa11_0(active0, 0x20000000000000L, active1, 0x400000000000080L, active2, 0x1800000001L);
+         if ((active2 & 0x20000000000000L) != 0L)
+            return jjStopAtPos(10, 181);
+         return jjMoveStringLiteralDfa11_0(active0, 0x20000000000000L, active1, 0x200L, active2, 0x600000000082L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x80000L);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x20000000L);
       case 88:
       case 120:
-         if ((active0 & 0x800000000000000L) != 0L)
-            return jjStopAtPos(10, 59);
+         if ((active0 & 0x2000000000000000L) != 0L)
+            return jjStopAtPos(10, 61);
          break;
       case 89:
       case 121:
-         if ((active2 & 0x10000L) != 0L)
-            return jjStopAtPos(10, 144);
-         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x40000000000L);
+         if ((active2 & 0x4000000L) != 0L)
+            return jjStopAtPos(10, 154);
+         return jjMoveStringLiteralDfa11_0(active0, 0L, active1, 0L, active2, 0x10000000000000L);
       default :
          break;
    }
@@ -1314,72 +1336,75 @@ private int jjMoveStringLiteralDfa11_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa12_0(active0, 0x20000000000000L, active1, 0x118002005000000L, active2, 0x10L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x20000000000000L, active1, 0x8c00008014000000L, active2, 0x4000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x200000020040000L, active2, 0x18080080L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x80100000L, active2, 0x6020020001L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa12_0(active0, 0x800000000000L, active1, 0x20000L, active2, 0x200L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x800000000000L, active1, 0x80000L, active2, 0x80000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x80000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x4000000000000000L, active2, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x800000600100L, active2, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x40000001800400L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa12_0(active0, 0x80000000000000L, active1, 0xe000L, active2, 0x20001000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x200000000000000L, active1, 0x38000L, active2, 0x8000400000000L);
+      case 71:
+      case 103:
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x2000000000000L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa12_0(active0, 0x1000000000000L, active1, 0x400000080000010L, active2, 0x1000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x81000000000000L, active1, 0x200000040L, active2, 0x401802L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x40L);
       case 77:
       case 109:
-         if ((active1 & 0x2000000000000L) != 0L)
-            return jjStopAtPos(11, 113);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x40000000100L);
+         if ((active1 & 0x100000000000000L) != 0L)
+            return jjStopAtPos(11, 120);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x10000000040000L);
       case 78:
       case 110:
-         if ((active1 & 0x400L) != 0L)
-            return jjStopAtPos(11, 74);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x1000200000000000L, active2, 0x60200004L);
+         if ((active1 & 0x1000L) != 0L)
+            return jjStopAtPos(11, 76);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x10000000000000L, active2, 0x18080000208L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa12_0(active0, 0xe000000000000000L, active1, 0x40011804L, active2, 0x1800000000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0x8000000000000000L, active1, 0x100046013L, active2, 0x600000000000L);
       case 82:
       case 114:
-         if ((active0 & 0x1000000000000000L) != 0L)
-            return jjStopAtPos(11, 60);
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x10100000L, active2, 0x60000L);
+         if ((active0 & 0x4000000000000000L) != 0L)
+            return jjStopAtPos(11, 62);
+         return jjMoveStringLiteralDfa12_0(active0, 0x40000000000000L, active1, 0x40400000L, active2, 0x18000000L);
       case 83:
       case 115:
-         if ((active1 & 0x80L) != 0L)
-            return jjStopAtPos(11, 71);
-         return jjMoveStringLiteralDfa12_0(active0, 0x40000000000000L, active1, 0x180002800000L, active2, 0x20L);
+         if ((active1 & 0x200L) != 0L)
+            return jjStopAtPos(11, 73);
+         return jjMoveStringLiteralDfa12_0(active0, 0x100000000000000L, active1, 0x820000a000000L, active2, 0x8000L);
       case 84:
       case 116:
-         if ((active1 & 0x400000000000L) != 0L)
-            return jjStopAtPos(11, 110);
-         else if ((active1 & 0x4000000000000L) != 0L)
-            return jjStopAtPos(11, 114);
-         else if ((active2 & 0x40L) != 0L)
-            return jjStopAtPos(11, 134);
-         return jjMoveStringLiteralDfa12_0(active0, 0x18000000000000L, active1, 0x808020aL, active2, 0x4000000L);
+         if ((active1 & 0x20000000000000L) != 0L)
+            return jjStopAtPos(11, 117);
+         else if ((active1 & 0x200000000000000L) != 0L)
+            return jjStopAtPos(11, 121);
+         else if ((active2 & 0x10000L) != 0L)
+            return jjStopAtPos(11, 144);
+         return jjMoveStringLiteralDfa12_0(active0, 0x18000000000000L, active1, 0x20200828L, active2, 0x1000000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x4003L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x1000180L);
       case 86:
       case 118:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x800000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x4L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0xc00000L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0L, active2, 0x300000000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x60L, active2, 0L);
+         return jjMoveStringLiteralDfa12_0(active0, 0L, active1, 0x180L, active2, 0L);
       default :
          break;
    }
@@ -1397,80 +1422,83 @@ private int jjMoveStringLiteralDfa12_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 32:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x20L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x8000L);
       case 45:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x200000000000060L, active2, 0xc00000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x40000000000000L, active1, 0x180L, active2, 0x300000001L);
       case 49:
-         if ((active1 & 0x1000000L) != 0L)
-            return jjStopAtPos(12, 88);
-         break;
-      case 50:
          if ((active1 & 0x4000000L) != 0L)
             return jjStopAtPos(12, 90);
          break;
+      case 50:
+         if ((active1 & 0x10000000L) != 0L)
+            return jjStopAtPos(12, 92);
+         break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa13_0(active0, 0x800000000000L, active1, 0x800000010120200L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x800000000000L, active1, 0x2000040480800L, active2, 0x4L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x21800040004L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x8600010001200L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa13_0(active0, 0x8000000000000L, active1, 0x80000000000000L, active2, 0x40060020202L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x8000000000000L, active1, 0x4000000000000000L, active2, 0x10018008080100L);
       case 70:
       case 102:
          return jjMoveStringLiteralDfa13_0(active0, 0x20000000000000L, active1, 0L, active2, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x40000L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x80000000000000L, active1, 0x100000L, active2, 0L);
       case 72:
       case 104:
          if ((active0 & 0x10000000000000L) != 0L)
             return jjStopAtPos(12, 52);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0xa880002L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x2a200008L, active2, 0x1000000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x8000000000600108L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x1800420L, active2, 0x40L);
       case 76:
       case 108:
-         if ((active2 & 0x10000000L) != 0L)
-            return jjStopAtPos(12, 156);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x8000000L);
+         if ((active2 & 0x4000000000L) != 0L)
+            return jjStopAtPos(12, 166);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x2000000000L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x6000e004L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x180038010L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa13_0(active0, 0x80000000000000L, active1, 0L, active2, 0x1005000L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x200000000000000L, active1, 0L, active2, 0x401400000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa13_0(active0, 0x1000000000000L, active1, 0x400000000000000L, active2, 0x100L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x1000000000000L, active1, 0L, active2, 0x40002L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x2000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x8000000000L, active2, 0L);
+      case 81:
+      case 113:
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x800L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x80001L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0L, active2, 0x20000080L);
       case 83:
       case 115:
-         if ((active1 & 0x1000000000000000L) != 0L)
-            return jjStopAtPos(12, 124);
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x100000010000L, active2, 0L);
+         if ((active2 & 0x8L) != 0L)
+            return jjStopAtPos(12, 131);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x8000000040000L, active2, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x80000000000L) != 0L)
-            return jjStopAtPos(12, 107);
-         else if ((active1 & 0x200000000000L) != 0L)
+         if ((active1 & 0x200000000000L) != 0L)
             return jjStopAtPos(12, 109);
-         else if ((active2 & 0x200000L) != 0L)
-            return jjStopAtPos(12, 149);
-         return jjMoveStringLiteralDfa13_0(active0, 0x40000000000000L, active1, 0x100000000000010L, active2, 0x10L);
+         else if ((active1 & 0x10000000000000L) != 0L)
+            return jjStopAtPos(12, 116);
+         else if ((active2 & 0x80000000L) != 0L)
+            return jjStopAtPos(12, 159);
+         return jjMoveStringLiteralDfa13_0(active0, 0x100000000000000L, active1, 0x8000000000000040L, active2, 0x4000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa13_0(active0, 0xe000000000000000L, active1, 0x800080001800L, active2, 0L);
+         return jjMoveStringLiteralDfa13_0(active0, 0x8000000000000000L, active1, 0x40000200006003L, active2, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0x18000000000000L, active2, 0x80L);
+         return jjMoveStringLiteralDfa13_0(active0, 0L, active1, 0xc00000000000000L, active2, 0x20000L);
       default :
          break;
    }
@@ -1488,81 +1516,84 @@ private int jjMoveStringLiteralDfa13_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x80000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x4000000000000000L, active2, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa14_0(active0, 0x40000000000000L, active1, 0x10L, active2, 0x80L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x100000000000000L, active1, 0x40L, active2, 0x20000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x400000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x100000000L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x60L, active2, 0x1000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x180L, active2, 0x400000L);
       case 68:
       case 100:
-         if ((active2 & 0x80000L) != 0L)
-            return jjStopAtPos(13, 147);
-         return jjMoveStringLiteralDfa14_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
+         if ((active2 & 0x20000000L) != 0L)
+            return jjStopAtPos(13, 157);
+         return jjMoveStringLiteralDfa14_0(active0, 0x200000000000000L, active1, 0L, active2, 0L);
       case 69:
       case 101:
-         if ((active1 & 0x40000L) != 0L)
-            return jjStopAtPos(13, 82);
-         else if ((active2 & 0x4L) != 0L)
-            return jjStopAtPos(13, 130);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x4000e004L, active2, 0x840000L);
+         if ((active1 & 0x100000L) != 0L)
+            return jjStopAtPos(13, 84);
+         else if ((active2 & 0x200L) != 0L)
+            return jjStopAtPos(13, 137);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x100038010L, active2, 0x210001000L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x60000200L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x18000080000L);
+      case 72:
+      case 104:
+         return jjMoveStringLiteralDfa14_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x18100000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0xc08000000000000L, active2, 0L);
       case 75:
       case 107:
-         if ((active2 & 0x20000000000L) != 0L)
-            return jjStopAtPos(13, 169);
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x1800000000L);
+         if ((active2 & 0x8000000000000L) != 0L)
+            return jjStopAtPos(13, 179);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x600000000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa14_0(active0, 0x800000000000L, active1, 0x800800000000000L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x800000000000L, active1, 0x40000000000000L, active2, 0x1000000004L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 78:
       case 110:
          if ((active0 & 0x1000000000000L) != 0L)
             return jjStopAtPos(13, 48);
-         return jjMoveStringLiteralDfa14_0(active0, 0xe000000000000000L, active1, 0x400000000001900L, active2, 0x40000000003L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x8000000000000000L, active1, 0x6403L, active2, 0x10000000000182L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa14_0(active0, 0x20000000000000L, active1, 0x100002022800000L, active2, 0x10L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x60000000000000L, active1, 0x800000808a000000L, active2, 0x4000L);
       case 81:
       case 113:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x40L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa14_0(active0, 0x8000000000000L, active1, 0x808000aL, active2, 0L);
+         return jjMoveStringLiteralDfa14_0(active0, 0x8000000000000L, active1, 0x20200028L, active2, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x30000L, active2, 0x20000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0xc0000L, active2, 0x8000000L);
       case 84:
       case 116:
-         if ((active1 & 0x200000L) != 0L)
+         if ((active1 & 0x800000L) != 0L)
          {
-            jjmatchedKind = 85;
+            jjmatchedKind = 87;
             jjmatchedPos = 13;
          }
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x200000010500000L, active2, 0x9004000L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x41400000L, active2, 0x2401000001L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0L, active2, 0x100L);
+         return jjMoveStringLiteralDfa14_0(active0, 0L, active1, 0x2000000000000L, active2, 0x40800L);
       case 88:
       case 120:
-         if ((active1 & 0x200L) != 0L)
-            return jjStopAtPos(13, 73);
+         if ((active1 & 0x800L) != 0L)
+            return jjStopAtPos(13, 75);
          break;
       case 123:
-         if ((active2 & 0x20L) != 0L)
-            return jjStopAtPos(13, 133);
+         if ((active2 & 0x8000L) != 0L)
+            return jjStopAtPos(13, 143);
          break;
       default :
          break;
@@ -1581,71 +1612,76 @@ private int jjMoveStringLiteralDfa14_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa15_0(active0, 0x80000000000000L, active1, 0x1000000c0410004L, active2, 0x1801004001L);
+         return jjMoveStringLiteralDfa15_0(active0, 0x200000000000000L, active1, 0x8000000301040010L, active2, 0x600401000080L);
       case 65:
       case 97:
          return jjMoveStringLiteralDfa15_0(active0, 0x8800000000000L, active1, 0L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x2L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x100L);
       case 69:
       case 101:
-         if ((active1 & 0x100000L) != 0L)
-            return jjStopAtPos(14, 84);
-         else if ((active1 & 0x10000000L) != 0L)
-            return jjStopAtPos(14, 92);
-         else if ((active1 & 0x800000000000L) != 0L)
-            return jjStopAtPos(14, 111);
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x808000aL, active2, 0x400000L);
+         if ((active1 & 0x400000L) != 0L)
+            return jjStopAtPos(14, 86);
+         else if ((active1 & 0x40000000L) != 0L)
+            return jjStopAtPos(14, 94);
+         else if ((active1 & 0x40000000000000L) != 0L)
+            return jjStopAtPos(14, 118);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x20200028L, active2, 0x100000000L);
+      case 70:
+      case 102:
+         return jjMoveStringLiteralDfa15_0(active0, 0x40000000000000L, active1, 0L, active2, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x400L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x20000L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x8000000L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x20000L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x80000L, active2, 0x18000000800L);
       case 76:
       case 108:
-         if ((active2 & 0x80L) != 0L)
-            return jjStopAtPos(14, 135);
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x80002002800010L, active2, 0L);
+         if ((active2 & 0x20000L) != 0L)
+            return jjStopAtPos(14, 145);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x400000800a000040L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0xe000L, active2, 0x840100L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x38000L, active2, 0x210040000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x200100000000000L, active2, 0x1200L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x8000000000000L, active2, 0x480001L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x10L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x4000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa15_0(active0, 0x60000000000000L, active1, 0x60L, active2, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0x120000000000000L, active1, 0x180L, active2, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x400000000000000L) != 0L)
-            return jjStopAtPos(14, 122);
-         break;
+         if ((active2 & 0x2L) != 0L)
+            return jjStopAtPos(14, 129);
+         else if ((active2 & 0x1000L) != 0L)
+            return jjStopAtPos(14, 140);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x2000000000000L, active2, 0L);
       case 84:
       case 116:
-         if ((active0 & 0x2000000000000000L) != 0L)
+         if ((active0 & 0x8000000000000000L) != 0L)
          {
-            jjmatchedKind = 61;
+            jjmatchedKind = 63;
             jjmatchedPos = 14;
          }
-         else if ((active2 & 0x40000000000L) != 0L)
-            return jjStopAtPos(14, 170);
-         return jjMoveStringLiteralDfa15_0(active0, 0xc000000000000000L, active1, 0x18000000001800L, active2, 0L);
+         else if ((active2 & 0x10000000000000L) != 0L)
+            return jjStopAtPos(14, 180);
+         return jjMoveStringLiteralDfa15_0(active0, 0x80000000000000L, active1, 0xc00000000006003L, active2, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x8800000020000000L, active2, 0L);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0x80000000L, active2, 0x44L);
       case 89:
       case 121:
-         if ((active2 & 0x8000000L) != 0L)
-            return jjStopAtPos(14, 155);
-         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x4000000L);
+         if ((active2 & 0x2000000000L) != 0L)
+            return jjStopAtPos(14, 165);
+         return jjMoveStringLiteralDfa15_0(active0, 0L, active1, 0L, active2, 0x1000000000L);
       default :
          break;
    }
@@ -1663,67 +1699,67 @@ private int jjMoveStringLiteralDfa15_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa16_0(active0, 0xc020000000000000L, active1, 0x200000000001910L, active2, 0x4000010L);
+         return jjMoveStringLiteralDfa16_0(active0, 0x60000000000000L, active1, 0x6443L, active2, 0x1000004001L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x4000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x1000000L);
       case 67:
       case 99:
-         if ((active1 & 0x20000L) != 0L)
-            return jjStopAtPos(15, 81);
+         if ((active1 & 0x80000L) != 0L)
+            return jjStopAtPos(15, 83);
          break;
       case 68:
       case 100:
-         if ((active2 & 0x800000L) != 0L)
-            return jjStopAtPos(15, 151);
-         return jjMoveStringLiteralDfa16_0(active0, 0x80000000000000L, active1, 0x2800000L, active2, 0L);
+         if ((active2 & 0x200000000L) != 0L)
+            return jjStopAtPos(15, 161);
+         return jjMoveStringLiteralDfa16_0(active0, 0x200000000000000L, active1, 0xa000000L, active2, 0x800L);
       case 69:
       case 101:
-         if ((active2 & 0x2L) != 0L)
-            return jjStopAtPos(15, 129);
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x800000000000060L, active2, 0x1000000L);
+         if ((active2 & 0x100L) != 0L)
+            return jjStopAtPos(15, 136);
+         return jjMoveStringLiteralDfa16_0(active0, 0x80000000000000L, active1, 0x180L, active2, 0x400000004L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x400000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x100000000L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x18000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0xc00000000000000L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x8080002000000000L, active2, 0x800000000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x4000008000000000L, active2, 0x200000000040L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0xcL, active2, 0x1000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x30L, active2, 0x400000L);
       case 78:
       case 110:
-         if ((active1 & 0x100000000000L) != 0L)
-            return jjStopAtPos(15, 108);
-         return jjMoveStringLiteralDfa16_0(active0, 0x800000000000L, active1, 0x20000000L, active2, 0L);
+         if ((active1 & 0x8000000000000L) != 0L)
+            return jjStopAtPos(15, 115);
+         return jjMoveStringLiteralDfa16_0(active0, 0x800000000000L, active1, 0x80000000L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x1000020000L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x400008000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x100000040000000L, active2, 0x200L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x8000000100000000L, active2, 0x80000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x8080002L, active2, 0L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x2000020200008L, active2, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x2000L) != 0L)
+         if ((active1 & 0x8000L) != 0L)
          {
-            jjmatchedKind = 77;
+            jjmatchedKind = 79;
             jjmatchedPos = 15;
          }
-         else if ((active2 & 0x40000L) != 0L)
-            return jjStopAtPos(15, 146);
-         return jjMoveStringLiteralDfa16_0(active0, 0x48000000000000L, active1, 0x8040c000L, active2, 0x60000100L);
+         else if ((active2 & 0x10000000L) != 0L)
+            return jjStopAtPos(15, 156);
+         return jjMoveStringLiteralDfa16_0(active0, 0x108000000000000L, active1, 0x201030000L, active2, 0x18000040000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x10000L, active2, 0L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0x40000L, active2, 0L);
       case 89:
       case 121:
-         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x1L);
+         return jjMoveStringLiteralDfa16_0(active0, 0L, active1, 0L, active2, 0x80L);
       default :
          break;
    }
@@ -1741,65 +1777,65 @@ private int jjMoveStringLiteralDfa16_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa17_0(active0, 0x40000000000000L, active1, 0x2800000L, active2, 0x60000000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0x100000000000000L, active1, 0xa000000L, active2, 0x18000000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa17_0(active0, 0x4080000000000000L, active1, 0xc0000004L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0x200000000000000L, active1, 0x300000011L, active2, 0x1000000800L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa17_0(active0, 0x800000000000L, active1, 0x2000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0x800000000000L, active1, 0x8000000000L, active2, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x8018000000000060L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0xc0000000000000L, active1, 0xc00000000000180L, active2, 0x40L);
       case 69:
       case 101:
-         if ((active2 & 0x1000L) != 0L)
-            return jjStopAtPos(16, 140);
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x8L, active2, 0x201L);
+         if ((active2 & 0x400000L) != 0L)
+            return jjStopAtPos(16, 150);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x20L, active2, 0x80080L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x8480002L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x21200008L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa17_0(active0, 0x8000000000000L, active1, 0x100000000000000L, active2, 0x400000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0x8000000000000L, active1, 0x8002000000000000L, active2, 0x100000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x200000000000000L, active2, 0x20000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x8000001L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x80000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x4000000000000000L, active2, 0L);
       case 78:
       case 110:
-         if ((active2 & 0x800000000L) != 0L)
-            return jjStopAtPos(16, 163);
+         if ((active2 & 0x200000000000L) != 0L)
+            return jjStopAtPos(16, 173);
          break;
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x10000L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x40000L, active2, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x9000L, active2, 0L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x24000L, active2, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x800000000000000L) != 0L)
-            return jjStopAtPos(16, 123);
-         else if ((active2 & 0x100L) != 0L)
-            return jjStopAtPos(16, 136);
-         return jjMoveStringLiteralDfa17_0(active0, 0x20000000000000L, active1, 0x800L, active2, 0L);
+         if ((active2 & 0x4L) != 0L)
+            return jjStopAtPos(16, 130);
+         else if ((active2 & 0x40000L) != 0L)
+            return jjStopAtPos(16, 146);
+         return jjMoveStringLiteralDfa17_0(active0, 0x20000000000000L, active1, 0x2000L, active2, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x20000000L) != 0L)
-            return jjStopAtPos(16, 93);
-         return jjMoveStringLiteralDfa17_0(active0, 0x8000000000000000L, active1, 0x4100L, active2, 0x4000L);
+         if ((active1 & 0x80000000L) != 0L)
+            return jjStopAtPos(16, 95);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0x10402L, active2, 0x1000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x1000000010L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x400000004000L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa17_0(active0, 0L, active1, 0L, active2, 0x400000000L);
       default :
          break;
    }
@@ -1817,76 +1853,76 @@ private int jjMoveStringLiteralDfa17_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x10000L, active2, 0x4200L);
+         return jjMoveStringLiteralDfa18_0(active0, 0x80000000000000L, active1, 0x40000L, active2, 0x1080000L);
       case 49:
-         if ((active1 & 0x800000L) != 0L)
-            return jjStopAtPos(17, 87);
-         break;
-      case 50:
          if ((active1 & 0x2000000L) != 0L)
             return jjStopAtPos(17, 89);
          break;
+      case 50:
+         if ((active1 & 0x8000000L) != 0L)
+            return jjStopAtPos(17, 91);
+         break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x8000000000009110L, active2, 0x20000001L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x2000000024440L, active2, 0x80000000c0L);
       case 68:
       case 100:
-         if ((active2 & 0x20000L) != 0L)
-            return jjStopAtPos(17, 145);
-         return jjMoveStringLiteralDfa18_0(active0, 0x4040000000000000L, active1, 0L, active2, 0L);
+         if ((active2 & 0x8000000L) != 0L)
+            return jjStopAtPos(17, 155);
+         return jjMoveStringLiteralDfa18_0(active0, 0x100000000000000L, active1, 0x1L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa18_0(active0, 0x800000000000L, active1, 0L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0x40800000000000L, active1, 0L, active2, 0x400000000L);
       case 70:
       case 102:
-         if ((active1 & 0x100000000000000L) != 0L)
-            return jjStopAtPos(17, 120);
+         if ((active1 & 0x8000000000000000L) != 0L)
+            return jjStopAtPos(17, 127);
          break;
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa18_0(active0, 0x8000000000000000L, active1, 0x4000L, active2, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x10002L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x280000000000060L, active2, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x4000000000000180L, active2, 0x1L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0x1000000000L);
       case 78:
       case 110:
-         if ((active2 & 0x400000L) != 0L)
-            return jjStopAtPos(17, 150);
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x8L, active2, 0L);
+         if ((active2 & 0x100000000L) != 0L)
+            return jjStopAtPos(17, 160);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x20L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa18_0(active0, 0x8000000000000L, active1, 0x8080002L, active2, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0x8000000000000L, active1, 0x20200008L, active2, 0L);
       case 80:
       case 112:
-         if ((active2 & 0x10L) != 0L)
-            return jjStopAtPos(17, 132);
+         if ((active2 & 0x4000L) != 0L)
+            return jjStopAtPos(17, 142);
          break;
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x18000000400000L, active2, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0xc00000001000000L, active2, 0L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0x40000000L);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0L, active2, 0x10000000000L);
       case 84:
       case 116:
-         if ((active2 & 0x1000000000L) != 0L)
-            return jjStopAtPos(17, 164);
-         return jjMoveStringLiteralDfa18_0(active0, 0x80000000000000L, active1, 0x40000000L, active2, 0L);
+         if ((active2 & 0x400000000000L) != 0L)
+            return jjStopAtPos(17, 174);
+         return jjMoveStringLiteralDfa18_0(active0, 0x200000000000000L, active1, 0x100000000L, active2, 0x800L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa18_0(active0, 0x20000000000000L, active1, 0x800L, active2, 0L);
+         return jjMoveStringLiteralDfa18_0(active0, 0x20000000000000L, active1, 0x2000L, active2, 0L);
       case 88:
       case 120:
-         if ((active1 & 0x4L) != 0L)
-            return jjStopAtPos(17, 66);
-         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         if ((active1 & 0x10L) != 0L)
+            return jjStopAtPos(17, 68);
+         return jjMoveStringLiteralDfa18_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 89:
       case 121:
-         if ((active1 & 0x2000000000L) != 0L)
-            return jjStopAtPos(17, 101);
+         if ((active1 & 0x8000000000L) != 0L)
+            return jjStopAtPos(17, 103);
          break;
       default :
          break;
@@ -1905,56 +1941,58 @@ private int jjMoveStringLiteralDfa18_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa19_0(active0, 0x800000000000L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0x800000000000L, active1, 0x200000000L, active2, 0L);
       case 54:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0x4000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0x1000000L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa19_0(active0, 0x40000000000000L, active1, 0x18000000000000L, active2, 0x200L);
+         return jjMoveStringLiteralDfa19_0(active0, 0x140000000000000L, active1, 0xc00000000000000L, active2, 0x80000L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa19_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x1L, active2, 0L);
       case 69:
       case 101:
-         if ((active0 & 0x80000000000000L) != 0L)
-            return jjStopAtPos(18, 55);
-         else if ((active1 & 0x40000000L) != 0L)
-            return jjStopAtPos(18, 94);
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x400000L, active2, 0L);
+         if ((active0 & 0x200000000000000L) != 0L)
+            return jjStopAtPos(18, 57);
+         else if ((active1 & 0x100000000L) != 0L)
+            return jjStopAtPos(18, 96);
+         return jjMoveStringLiteralDfa19_0(active0, 0x80000000000000L, active1, 0x1000000L, active2, 0L);
       case 70:
       case 102:
-         if ((active1 & 0x200000000000000L) != 0L)
-            return jjStopAtPos(18, 121);
+         if ((active2 & 0x1L) != 0L)
+            return jjStopAtPos(18, 128);
          break;
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x40L, active2, 0x800L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x8080002L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x20200008L, active2, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x10000L, active2, 0x21000000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x40000L, active2, 0x8400000000L);
       case 78:
       case 110:
+         if ((active1 & 0x2000000000000L) != 0L)
+            return jjStopAtPos(18, 113);
          return jjMoveStringLiteralDfa19_0(active0, 0x8000000000000L, active1, 0L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0L, active2, 0x1000000000L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x800L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x2000L, active2, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa19_0(active0, 0x8020000000000000L, active1, 0x4000L, active2, 0x1L);
+         return jjMoveStringLiteralDfa19_0(active0, 0x20000000000000L, active1, 0x10002L, active2, 0x80L);
       case 84:
       case 116:
-         if ((active1 & 0x80000000000000L) != 0L)
-            return jjStopAtPos(18, 119);
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x8000000000009068L, active2, 0x40000000L);
+         if ((active1 & 0x4000000000000000L) != 0L)
+            return jjStopAtPos(18, 126);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x241a0L, active2, 0x10000000040L);
       case 88:
       case 120:
-         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa19_0(active0, 0L, active1, 0x400L, active2, 0L);
       default :
          break;
    }
@@ -1972,64 +2010,67 @@ private int jjMoveStringLiteralDfa19_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x168L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x5a0L, active2, 0L);
       case 53:
-         if ((active2 & 0x4000L) != 0L)
-            return jjStopAtPos(19, 142);
+         if ((active2 & 0x1000000L) != 0L)
+            return jjStopAtPos(19, 152);
          break;
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa20_0(active0, 0x800000000000L, active1, 0L, active2, 0x40000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0x800000000000L, active1, 0L, active2, 0x10000000000L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 68:
       case 100:
-         if ((active1 & 0x2L) != 0L)
-            return jjStopAtPos(19, 65);
-         else if ((active1 & 0x80000L) != 0L)
-            return jjStopAtPos(19, 83);
-         else if ((active1 & 0x8000000L) != 0L)
-            return jjStopAtPos(19, 91);
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0x200L);
+         if ((active1 & 0x8L) != 0L)
+            return jjStopAtPos(19, 67);
+         else if ((active1 & 0x200000L) != 0L)
+            return jjStopAtPos(19, 85);
+         else if ((active1 & 0x20000000L) != 0L)
+            return jjStopAtPos(19, 93);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0x80000L);
       case 69:
       case 101:
-         if ((active1 & 0x1000L) != 0L)
-            return jjStopAtPos(19, 76);
-         else if ((active1 & 0x8000L) != 0L)
-            return jjStopAtPos(19, 79);
-         return jjMoveStringLiteralDfa20_0(active0, 0x8000000000000000L, active1, 0x4000L, active2, 0L);
+         if ((active1 & 0x4000L) != 0L)
+            return jjStopAtPos(19, 78);
+         else if ((active1 & 0x20000L) != 0L)
+            return jjStopAtPos(19, 81);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x10002L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa20_0(active0, 0x4000000000000000L, active1, 0x8000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x1L, active2, 0x40L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0x20000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0L, active2, 0x8000000800L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x800L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x2000L, active2, 0x400000000L);
       case 83:
       case 115:
          if ((active0 & 0x8000000000000L) != 0L)
             return jjStopAtPos(19, 51);
-         else if ((active2 & 0x1L) != 0L)
-            return jjStopAtPos(19, 128);
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x400000L, active2, 0L);
+         else if ((active2 & 0x80L) != 0L)
+            return jjStopAtPos(19, 135);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x1000000L, active2, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa20_0(active0, 0x40000000000000L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0x140000000000000L, active1, 0L, active2, 0L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x10000L, active2, 0x4000000L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x40000L, active2, 0x1000000000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa20_0(active0, 0x20000000000000L, active1, 0L, active2, 0L);
       case 87:
       case 119:
-         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0x18000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa20_0(active0, 0L, active1, 0xc00000000000000L, active2, 0L);
+      case 88:
+      case 120:
+         return jjMoveStringLiteralDfa20_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       default :
          break;
    }
@@ -2047,51 +2088,58 @@ private int jjMoveStringLiteralDfa20_0(long old0, long active0, long old1, long
    switch(curChar)
    {
       case 45:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x18000000000008L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0xc00000000000020L, active2, 0L);
       case 66:
       case 98:
-         return jjMoveStringLiteralDfa21_0(active0, 0x800000000000L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0x800000000000L, active1, 0x400L, active2, 0L);
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x40L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x100L, active2, 0L);
       case 69:
       case 101:
-         if ((active0 & 0x40000000000000L) != 0L)
-            return jjStopAtPos(20, 54);
+         if ((active0 & 0x100000000000000L) != 0L)
+            return jjStopAtPos(20, 56);
          break;
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x400000L, active2, 0L);
+         if ((active0 & 0x40000000000000L) != 0L)
+            return jjStopAtPos(20, 54);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x1000000L, active2, 0L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa21_0(active0, 0x20000000000000L, active1, 0L, active2, 0L);
       case 74:
       case 106:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x200L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x80000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x10800L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x42000L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x20L, active2, 0x4000000L);
+         if ((active2 & 0x800L) != 0L)
+            return jjStopAtPos(20, 139);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x80L, active2, 0x1000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x8000000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x40L);
+      case 80:
+      case 112:
+         return jjMoveStringLiteralDfa21_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x80000000L, active2, 0x40000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x200000000L, active2, 0x10000000000L);
       case 83:
       case 115:
-         return jjMoveStringLiteralDfa21_0(active0, 0x8000000000000000L, active1, 0x4000L, active2, 0L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x10002L, active2, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa21_0(active0, 0x4000000000000000L, active1, 0L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0x1L, active2, 0x400000000L);
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x20000000L);
+         return jjMoveStringLiteralDfa21_0(active0, 0L, active1, 0L, active2, 0x8000000000L);
       default :
          break;
    }
@@ -2110,48 +2158,48 @@ private int jjMoveStringLiteralDfa21_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x840L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0x80000000000000L, active1, 0x2100L, active2, 0L);
       case 70:
       case 102:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x8L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x20L, active2, 0L);
       case 72:
       case 104:
-         return jjMoveStringLiteralDfa22_0(active0, 0x8000000000000000L, active1, 0x4000L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x10002L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa22_0(active0, 0x4000000000000000L, active1, 0L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x1L, active2, 0x400000000L);
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x18000000000000L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0xc00000000000000L, active2, 0L);
       case 78:
       case 110:
-         if ((active1 & 0x8000000000000000L) != 0L)
-            return jjStopAtPos(21, 127);
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0L, active2, 0x20000000L);
+         if ((active2 & 0x40L) != 0L)
+            return jjStopAtPos(21, 134);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0L, active2, 0x8000000000L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa22_0(active0, 0x800000000000L, active1, 0x400000L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0x800000000000L, active1, 0x1000000L, active2, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x400L, active2, 0L);
       case 84:
       case 116:
-         if ((active1 & 0x10000L) != 0L)
-            return jjStopAtPos(21, 80);
-         else if ((active2 & 0x4000000L) != 0L)
-            return jjStopAtPos(21, 154);
-         else if ((active2 & 0x40000000L) != 0L)
-            return jjStopAtPos(21, 158);
+         if ((active1 & 0x40000L) != 0L)
+            return jjStopAtPos(21, 82);
+         else if ((active2 & 0x1000000000L) != 0L)
+            return jjStopAtPos(21, 164);
+         else if ((active2 & 0x10000000000L) != 0L)
+            return jjStopAtPos(21, 168);
          break;
       case 85:
       case 117:
-         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x20L, active2, 0x200L);
+         return jjMoveStringLiteralDfa22_0(active0, 0L, active1, 0x80L, active2, 0x80000L);
       case 86:
       case 118:
          return jjMoveStringLiteralDfa22_0(active0, 0x20000000000000L, active1, 0L, active2, 0L);
@@ -2173,41 +2221,41 @@ private int jjMoveStringLiteralDfa22_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa23_0(active0, 0x20000000000000L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0x20000000000000L, active1, 0x400L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0x80000000000000L, active1, 0x200000000L, active2, 0L);
       case 69:
       case 101:
-         if ((active1 & 0x8L) != 0L)
-            return jjStopAtPos(22, 67);
+         if ((active1 & 0x20L) != 0L)
+            return jjStopAtPos(22, 69);
          break;
       case 76:
       case 108:
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x400000L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x1000000L, active2, 0L);
       case 77:
       case 109:
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x820L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x2080L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x40L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x100L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa23_0(active0, 0xc000000000000000L, active1, 0x4000L, active2, 0x1000000L);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x10003L, active2, 0x400000000L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x8000000000000L) != 0L)
-            return jjStopAtPos(22, 115);
-         else if ((active1 & 0x10000000000000L) != 0L)
-            return jjStopAtPos(22, 116);
-         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0L, active2, 0x200L);
+         if ((active1 & 0x400000000000000L) != 0L)
+            return jjStopAtPos(22, 122);
+         else if ((active1 & 0x800000000000000L) != 0L)
+            return jjStopAtPos(22, 123);
+         return jjMoveStringLiteralDfa23_0(active0, 0L, active1, 0L, active2, 0x80000L);
       case 84:
       case 116:
-         if ((active2 & 0x20000000L) != 0L)
-            return jjStopAtPos(22, 157);
+         if ((active2 & 0x8000000000L) != 0L)
+            return jjStopAtPos(22, 167);
          break;
       case 86:
       case 118:
@@ -2230,39 +2278,39 @@ private int jjMoveStringLiteralDfa23_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x400L, active2, 0L);
       case 68:
       case 100:
-         if ((active1 & 0x400000L) != 0L)
-            return jjStopAtPos(23, 86);
+         if ((active1 & 0x1000000L) != 0L)
+            return jjStopAtPos(23, 88);
          break;
       case 69:
       case 101:
          if ((active0 & 0x800000000000L) != 0L)
             return jjStopAtPos(23, 47);
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x820L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x2080L, active2, 0L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x200000000L, active2, 0L);
       case 76:
       case 108:
          if ((active0 & 0x20000000000000L) != 0L)
             return jjStopAtPos(23, 53);
-         return jjMoveStringLiteralDfa24_0(active0, 0x8000000000000000L, active1, 0x4000L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x10002L, active2, 0L);
       case 78:
       case 110:
-         if ((active2 & 0x1000000L) != 0L)
-            return jjStopAtPos(23, 152);
-         return jjMoveStringLiteralDfa24_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L);
+         if ((active2 & 0x400000000L) != 0L)
+            return jjStopAtPos(23, 162);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x1L, active2, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x40L, active2, 0L);
+         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0x100L, active2, 0L);
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa24_0(active0, 0L, active1, 0L, active2, 0x200L);
+         return jjMoveStringLiteralDfa24_0(active0, 0x80000000000000L, active1, 0L, active2, 0x80000L);
       default :
          break;
    }
@@ -2281,35 +2329,35 @@ private int jjMoveStringLiteralDfa24_0(long old0, long active0, long old1, long
    {
       case 65:
       case 97:
-         return jjMoveStringLiteralDfa25_0(active0, 0x4000000000000000L, active1, 0L, active2, 0L);
+         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x1L, active2, 0L);
       case 67:
       case 99:
-         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 68:
       case 100:
-         if ((active0 & 0x8000000000000000L) != 0L)
-            return jjStopAtPos(24, 63);
-         else if ((active1 & 0x4000L) != 0L)
-            return jjStopAtPos(24, 78);
+         if ((active1 & 0x2L) != 0L)
+            return jjStopAtPos(24, 65);
+         else if ((active1 & 0x10000L) != 0L)
+            return jjStopAtPos(24, 80);
          break;
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x80000000L, active2, 0L);
+         return jjMoveStringLiteralDfa25_0(active0, 0x80000000000000L, active1, 0x200000000L, active2, 0L);
       case 75:
       case 107:
-         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x400L, active2, 0L);
       case 77:
       case 109:
-         if ((active1 & 0x40L) != 0L)
-            return jjStopAtPos(24, 70);
-         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0L, active2, 0x200L);
+         if ((active1 & 0x100L) != 0L)
+            return jjStopAtPos(24, 72);
+         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0L, active2, 0x80000L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x800L, active2, 0L);
+         return jjMoveStringLiteralDfa25_0(active0, 0L, active1, 0x2000L, active2, 0L);
       case 82:
       case 114:
-         if ((active1 & 0x20L) != 0L)
-            return jjStopAtPos(24, 69);
+         if ((active1 & 0x80L) != 0L)
+            return jjStopAtPos(24, 71);
          break;
       default :
          break;
@@ -2327,19 +2375,22 @@ private int jjMoveStringLiteralDfa25_0(long old0, long active0, long old1, long
    }
    switch(curChar)
    {
+      case 68:
+      case 100:
+         return jjMoveStringLiteralDfa26_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 69:
       case 101:
-         return jjMoveStringLiteralDfa26_0(active0, 0L, active1, 0x100L, active2, 0x200L);
+         return jjMoveStringLiteralDfa26_0(active0, 0L, active1, 0x400L, active2, 0x80000L);
       case 76:
       case 108:
-         if ((active0 & 0x4000000000000000L) != 0L)
-            return jjStopAtPos(25, 62);
+         if ((active1 & 0x1L) != 0L)
+            return jjStopAtPos(25, 64);
          break;
       case 84:
       case 116:
-         if ((active1 & 0x800L) != 0L)
-            return jjStopAtPos(25, 75);
-         return jjMoveStringLiteralDfa26_0(active0, 0L, active1, 0x80000010L, active2, 0L);
+         if ((active1 & 0x2000L) != 0L)
+            return jjStopAtPos(25, 77);
+         return jjMoveStringLiteralDfa26_0(active0, 0L, active1, 0x200000040L, active2, 0L);
       default :
          break;
    }
@@ -2351,82 +2402,168 @@ private int jjMoveStringLiteralDfa26_0(long old0, long active0, long old1, long
       return jjStartNfa_0(24, old0, old1, old2);
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(25, 0L, active1, active2);
+      jjStopStringLiteralDfa_0(25, active0, active1, active2);
       return 26;
    }
    switch(curChar)
    {
+      case 45:
+         return jjMoveStringLiteralDfa27_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa27_0(active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa27_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 78:
       case 110:
-         return jjMoveStringLiteralDfa27_0(active1, 0L, active2, 0x200L);
+         return jjMoveStringLiteralDfa27_0(active0, 0L, active1, 0L, active2, 0x80000L);
       case 83:
       case 115:
-         if ((active1 & 0x80000000L) != 0L)
-            return jjStopAtPos(26, 95);
+         if ((active1 & 0x200000000L) != 0L)
+            return jjStopAtPos(26, 97);
          break;
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa27_0(active1, 0x100L, active2, 0L);
+         return jjMoveStringLiteralDfa27_0(active0, 0L, active1, 0x400L, active2, 0L);
       default :
          break;
    }
-   return jjStartNfa_0(25, 0L, active1, active2);
+   return jjStartNfa_0(25, active0, active1, active2);
 }
-private int jjMoveStringLiteralDfa27_0(long old1, long active1, long old2, long active2)
+private int jjMoveStringLiteralDfa27_0(long old0, long active0, long old1, long active1, long old2, long active2)
 {
-   if (((active1 &= old1) | (active2 &= old2)) == 0L)
-      return jjStartNfa_0(25, 0L, old1, old2);
+   if (((active0 &= old0) | (active1 &= old1) | (active2 &= old2)) == 0L)
+      return jjStartNfa_0(25, old0, old1, old2);
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(26, 0L, active1, active2);
+      jjStopStringLiteralDfa_0(26, active0, active1, active2);
       return 27;
    }
    switch(curChar)
    {
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa28_0(active1, 0x10L, active2, 0L);
+         return jjMoveStringLiteralDfa28_0(active0, 0L, active1, 0x40L, active2, 0L);
       case 83:
       case 115:
-         if ((active1 & 0x100L) != 0L)
-            return jjStopAtPos(27, 72);
+         if ((active1 & 0x400L) != 0L)
+            return jjStopAtPos(27, 74);
          break;
       case 84:
       case 116:
-         return jjMoveStringLiteralDfa28_0(active1, 0L, active2, 0x200L);
+         return jjMoveStringLiteralDfa28_0(active0, 0L, active1, 0L, active2, 0x80000L);
+      case 86:
+      case 118:
+         return jjMoveStringLiteralDfa28_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       default :
          break;
    }
-   return jjStartNfa_0(26, 0L, active1, active2);
+   return jjStartNfa_0(26, active0, active1, active2);
 }
-private int jjMoveStringLiteralDfa28_0(long old1, long active1, long old2, long active2)
+private int jjMoveStringLiteralDfa28_0(long old0, long active0, long old1, long active1, long old2, long active2)
 {
-   if (((active1 &= old1) | (active2 &= old2)) == 0L)
-      return jjStartNfa_0(26, 0L, old1, old2);
+   if (((active0 &= old0) | (active1 &= old1) | (active2 &= old2)) == 0L)
+      return jjStartNfa_0(26, old0, old1, old2);
    try { curChar = input_stream.readChar(); }
    catch(java.io.IOException e) {
-      jjStopStringLiteralDfa_0(27, 0L, active1, active2);
+      jjStopStringLiteralDfa_0(27, active0, active1, active2);
       return 28;
    }
    switch(curChar)
    {
+      case 65:
+      case 97:
+         return jjMoveStringLiteralDfa29_0(active0, 0x80000000000000L, active1, 0L, active2, 0L);
       case 78:
       case 110:
-         if ((active1 & 0x10L) != 0L)
-            return jjStopAtPos(28, 68);
+         if ((active1 & 0x40L) != 0L)
+            return jjStopAtPos(28, 70);
+         break;
+      case 83:
+      case 115:
+         if ((active2 & 0x80000L) != 0L)
+            return jjStopAtPos(28, 147);
+         break;
+      default :
+         break;
+   }
+   return jjStartNfa_0(27, active0, active1, active2);
+}
+private int jjMoveStringLiteralDfa29_0(long old0, long active0, long old1, long active1, long old2, long active2)
+{
+   if (((active0 &= old0) | (active1 &= old1) | (active2 &= old2)) == 0L)
+      return jjStartNfa_0(27, old0, old1, old2);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(28, active0, 0L, 0L);
+      return 29;
+   }
+   switch(curChar)
+   {
+      case 76:
+      case 108:
+         return jjMoveStringLiteralDfa30_0(active0, 0x80000000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(28, active0, 0L, 0L);
+}
+private int jjMoveStringLiteralDfa30_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(28, old0, 0L, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(29, active0, 0L, 0L);
+      return 30;
+   }
+   switch(curChar)
+   {
+      case 85:
+      case 117:
+         return jjMoveStringLiteralDfa31_0(active0, 0x80000000000000L);
+      default :
          break;
+   }
+   return jjStartNfa_0(29, active0, 0L, 0L);
+}
+private int jjMoveStringLiteralDfa31_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(29, old0, 0L, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(30, active0, 0L, 0L);
+      return 31;
+   }
+   switch(curChar)
+   {
+      case 69:
+      case 101:
+         return jjMoveStringLiteralDfa32_0(active0, 0x80000000000000L);
+      default :
+         break;
+   }
+   return jjStartNfa_0(30, active0, 0L, 0L);
+}
+private int jjMoveStringLiteralDfa32_0(long old0, long active0)
+{
+   if (((active0 &= old0)) == 0L)
+      return jjStartNfa_0(30, old0, 0L, 0L);
+   try { curChar = input_stream.readChar(); }
+   catch(java.io.IOException e) {
+      jjStopStringLiteralDfa_0(31, active0, 0L, 0L);
+      return 32;
+   }
+   switch(curChar)
+   {
       case 83:
       case 115:
-         if ((active2 & 0x200L) != 0L)
-            return jjStopAtPos(28, 137);
+         if ((active0 & 0x80000000000000L) != 0L)
+            return jjStopAtPos(32, 55);
          break;
       default :
          break;
    }
-   return jjStartNfa_0(27, 0L, active1, active2);
+   return jjStartNfa_0(31, active0, 0L, 0L);
 }
 private int jjStartNfaWithStates_0(int pos, int kind, int state)
 {
@@ -4398,14 +4535,15 @@ null, null, null, null, null, null, null, null, null, null, null, null, null, nu
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, null, };
+null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
+null, null, null, };
 
 /** Lexer state names. */
 public static final String[] lexStateNames = {
    "DEFAULT",
 };
 static final long[] jjtoToken = {
-   0xffffff1fc7c07dc1L, 0xffffffffffffffffL, 0x1fffffffffffL, 
+   0xffffff1fc7c07dc1L, 0xffffffffffffffffL, 0x7fffffffffffffL, 
 };
 static final long[] jjtoSkip = {
    0x3eL, 0x0L, 0x0L, 
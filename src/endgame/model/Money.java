@@ -347,6 +347,22 @@ public final class Money implements Comparable<Money>, Serializable {
     return amount.doubleValue();
   }
   
+  /**
+  * The amount in the smallest unit of the currency (cents, for dollars).
+  * Useful for compact storage in primitive arrays.
+  * Any extra decimal places are rounded using the rounding style.
+  */
+  public long asCents() {
+    return amount.setScale(getNumDecimalsForCurrency(), rounding).unscaledValue().longValueExact();
+  }
+
+  /**
+  * The reverse of {@link #asCents()}, using the default currency and rounding style.
+  */
+  public static Money fromCents(long cents) {
+    return new Money(BigDecimal.valueOf(cents, DEFAULT_CURRENCY.getDefaultFractionDigits()));
+  }
+
   /** Floor the result, and return as an Integer.*/
   public Integer flooredDiv(double divisor) {
     Double value = Math.floor(amount.doubleValue() / divisor);
@@ -374,6 +390,35 @@ public final class Money implements Comparable<Money>, Serializable {
     return amount.toPlainString();
   }
   
+  /**
+  * Append the same text as {@link #toString()} to the given builder.
+  * 
+  * <P>Useful when writing large numbers of amounts to a file: in the usual case, no 
+  * intermediate <code>String</code> is created.
+  */
+  public void appendTo(StringBuilder builder){
+    int scale = amount.scale();
+    if (scale < 0 || scale >= POWERS_OF_TEN.length || amount.precision() >= POWERS_OF_TEN.length) {
+      builder.append(amount.toPlainString()); //rare
+    }
+    else {
+      long unscaled = amount.unscaledValue().longValue();
+      if (unscaled < 0) {
+        builder.append('-');
+      }
+      long abs = Math.abs(unscaled);
+      builder.append(abs / POWERS_OF_TEN[scale]);
+      if (scale > 0) {
+        builder.append('.');
+        long fraction = abs % POWERS_OF_TEN[scale];
+        for(int digits = scale - 1; digits > 0 && fraction < POWERS_OF_TEN[digits]; --digits) {
+          builder.append('0'); //leading zeros of the fraction
+        }
+        builder.append(fraction);
+      }
+    }
+  }
+  
   /**
   * Like {@link BigDecimal#equals(java.lang.Object)}, this <code>equals</code> method 
   * is also sensitive to scale.
@@ -453,6 +498,15 @@ public final class Money implements Comparable<Money>, Serializable {
   */ 
   private static RoundingMode DEFAULT_ROUNDING = RoundingMode.HALF_EVEN;
   
+  /** 10^0 to 10^18. All of these fit in a long. */
+  private static final long[] POWERS_OF_TEN = new long[19];
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for(int i = 1; i < POWERS_OF_TEN.length; ++i){
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i-1] * 10;
+    }
+  }
+  
   private Object[] getSigFields() {
     return new Object[] {amount, currency, rounding};
   }
@@ -99,8 +99,8 @@ public final class AccountSnapshot {
     
     Set<StockPosition> stockPositions = new LinkedHashSet<StockPosition>();
     String start = "2021-08-03";
-    Stock enb = Stock.valueOf("ENB", "49.50", null, start);
-    Stock cm = Stock.valueOf("CM", "114.20", null, start);
+    Stock enb = Stock.valueOf(0, "ENB", "49.50", null, start);
+    Stock cm = Stock.valueOf(1, "CM", "114.20", null, start);
     stockPositions.add(StockPosition.valueOf(enb, "3400"));
     stockPositions.add(StockPosition.valueOf(cm, "1310"));
     
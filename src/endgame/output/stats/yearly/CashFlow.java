@@ -85,7 +85,23 @@ public final class CashFlow {
     return result;
   }
   
-  
+  /**
+   All data items multiplied by the given weight.
+   Used for expected values, where the weight is the probability that this cash flow actually happens.
+  */
+  public CashFlow weightedBy(double weight) {
+    CashFlow result = new CashFlow();
+    result.cashSwept = cashSwept.times(weight);
+    result.cpp = cpp.times(weight);
+    result.oas = oas.times(weight);
+    result.gis = gis.times(weight);
+    result.pension = pension.times(weight);
+    result.dividends = dividends.times(weight);
+    result.liquidationProceeds = liquidationProceeds.times(weight);
+    result.interest = interest.times(weight);
+    return result;
+  }
+
   /** Suitable for reporting. */
   @Override public String toString() {
     StringBuilder result = new StringBuilder("Cash generated" + NL);
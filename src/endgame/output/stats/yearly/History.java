@@ -9,6 +9,7 @@ import endgame.bank.BankAccount;
 import endgame.model.Money;
 import endgame.security.stock.StockPosition;
 import endgame.tax.FederalTaxReturn;
+import endgame.util.Consts;
 import hirondelle.date4j.DateTime;
 
 /** 
@@ -30,6 +31,35 @@ public final class History {
     return result;
   }
   
+  /** The total after-tax cash flow, over all years: the cash flow, minus the tax payable. */
+  public Money netCash() {
+    Money result = Consts.ZERO;
+    for (Integer year : cashFlow.keySet()) {
+      result = result.plus(cashFlow.get(year).cashFlow()).minus(taxSummary.get(year).taxPayable);
+    }
+    return result;
+  }
+  
+  /**
+   Return a new history whose cash flows and tax summaries are multiplied by the weight for their year.
+   The account snapshots are shared with this history, and are not weighted; 
+   an expected value for the net worth isn't meaningful, since the estate remains after death.
+   @param weights a weight for each year in this history
+  */
+  public History weightedBy(Map<Integer /*year*/, Double /*weight*/> weights) {
+    History result = new History();
+    for (Integer year : cashFlow.keySet()) {
+      Double weight = weights.get(year);
+      if (weight == null) {
+        throw new IllegalArgumentException("No weight for the year " + year);
+      }
+      result.cashFlow.put(year, cashFlow.get(year).weightedBy(weight));
+      result.taxSummary.put(year, taxSummary.get(year).weightedBy(weight));
+      result.accountSet.put(year, accountSet.get(year));
+    }
+    return result;
+  }
+
   /** Take a snapshot of all accounts at the end of the year. */
   public void takeSnapshotOf(List<Account> investmentAccts, BankAccount bank, DateTime when) {
     AccountSet acctSet = new AccountSet();
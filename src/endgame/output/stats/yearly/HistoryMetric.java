@@ -0,0 +1,66 @@
+package endgame.output.stats.yearly;
+
+import endgame.model.Money;
+
+/**
+ The yearly amounts that are reported for each history, when a scenario is run many times.
+
+ <P>Each metric has a value for each year of a history.
+ The value is null for the years after a history has ended (for example, after the sampled year of death).
+*/
+public enum HistoryMetric {
+
+  NET_CASH("net-cash") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.cashFlow().minus(taxSummary.taxPayable); }
+  },
+  TAX_PAYABLE("tax-payable") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return taxSummary.taxPayable; }
+  },
+  GROSS_CASH("gross-cash") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.cashFlow(); }
+  },
+  CPP("cpp") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.cpp; }
+  },
+  OAS("oas") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.oas; }
+  },
+  GIS("gis") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.gis; }
+  },
+  DIVIDENDS("dividends") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.dividends; }
+  },
+  LIQUIDATION("liquidation") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.liquidationProceeds; }
+  },
+  INTEREST("interest") {
+    @Override Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary) { return cashFlow.interest; }
+  };
+
+  /** Used in the names of the output files. */
+  public String fileName() {
+    return fileName;
+  }
+
+  /** Return the value of this metric in the given year of the history, or null if the history has no such year. */
+  public Money valueFor(History history, Integer year) {
+    Money result = null;
+    CashFlow cashFlow = history.cashFlow.get(year);
+    if (cashFlow != null) {
+      result = valueFrom(cashFlow, history.taxSummary.get(year));
+    }
+    return result;
+  }
+
+  /** The value of this metric, given the cash flow and tax summary of a single year. */
+  abstract Money valueFrom(CashFlow cashFlow, TaxSummary taxSummary);
+
+  // PRIVATE
+
+  private final String fileName;
+
+  private HistoryMetric(String fileName) {
+    this.fileName = fileName;
+  }
+}
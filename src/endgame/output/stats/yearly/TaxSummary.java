@@ -85,6 +85,28 @@ public final class TaxSummary {
     return result;
   }
 
+  /**
+   All monetary items multiplied by the given weight. The year is unchanged.
+   Used for expected values, where the weight is the probability that this tax return is actually filed.
+  */
+  public TaxSummary weightedBy(double weight) {
+    TaxSummary result = new TaxSummary();
+    result.year = year;
+    result.balanceOwing = balanceOwing.times(weight);
+    result.dividendTaxCredit = dividendTaxCredit.times(weight);
+    result.federalTax = federalTax.times(weight);
+    result.installments = installments.times(weight);
+    result.provincialTax = provincialTax.times(weight);
+    result.taxableIncome = taxableIncome.times(weight);
+    result.taxPayable = taxPayable.times(weight);
+    result.netIncome = netIncome.times(weight);
+    result.netIncomeBeforeAdjustments = netIncomeBeforeAdjustments.times(weight);
+    result.oas = oas.times(weight);
+    result.employmentIncome = employmentIncome.times(weight);
+    result.rifLifIncome = rifLifIncome.times(weight);
+    return result;
+  }
+
   /** This toString is used for human-readable reporting. */
   @Override public String toString() {
     StringBuilder result = new StringBuilder();
@@ -0,0 +1,124 @@
+package endgame.output.stats.yearly.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import endgame.model.Money;
+
+/**
+ Read a file written by {@link HistoryStore}: the yearly values of a single metric, for all histories.
+
+ <P>The file is memory-mapped, so opening it is fast, and only the parts actually read are loaded from disk.
+ Nothing is copied up front, no matter how many histories are in the file.
+ This object is immutable, so it can be shared between threads.
+
+ <P>Example, for the median net cash in each year:
+ <pre>
+ HistoryMatrix matrix = HistoryMatrix.open(Paths.get("scenario/101.6/101.6-histories-net-cash.bin"));
+ for (int year = matrix.firstYear(); year &lt;= matrix.lastYear(); ++year) {
+   long[] values = matrix.valuesFor(year);
+   Arrays.sort(values);
+   ...
+ }
+ </pre>
+
+ <P>Histories are numbered starting at 1, as in the rest of the simulation.
+*/
+public final class HistoryMatrix {
+
+  /** The value stored for a year that comes after the end of a history: {@value}. */
+  public static final long NO_VALUE = Long.MIN_VALUE;
+
+  /** Map the given file into memory, and check its header. */
+  public static HistoryMatrix open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      //the mapping stays valid after the channel is closed
+      return new HistoryMatrix(file, buffer);
+    }
+  }
+
+  public int firstYear() { return firstYear; }
+  public int lastYear() { return firstYear + numYears - 1; }
+  public int numYears() { return numYears; }
+  public int numHistories() { return numHistories; }
+
+  /** Return true only if the history has a value for the given year. */
+  public boolean hasValue(int year, int history) {
+    return cents(year, history) != NO_VALUE;
+  }
+
+  /** The value for the given year and history, in cents. Returns {@link #NO_VALUE} if the history had ended. */
+  public long cents(int year, int history) {
+    return values.get(indexOf(year, history));
+  }
+
+  /** The value for the given year and history. Returns null if the history had ended. */
+  public Money money(int year, int history) {
+    long cents = cents(year, history);
+    return cents == NO_VALUE ? null : Money.fromCents(cents);
+  }
+
+  /** Return a copy of the values for all histories in the given year, in cents. The first history is at index 0. */
+  public long[] valuesFor(int year) {
+    long[] result = new long[numHistories];
+    values.get(indexOf(year, 1), result, 0, numHistories);
+    return result;
+  }
+
+  @Override public String toString() {
+    return "HISTORY-MATRIX " + file + " years:" + firstYear() + ".." + lastYear() + " histories:" + numHistories;
+  }
+
+  // PRIVATE
+
+  /* Shared with HistoryStore. */
+  static final int MAGIC = 0x454E4448; // 'ENDH'
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 6 * Integer.BYTES;
+  static final String EXTENSION = ".bin";
+
+  private final Path file;
+  private final int firstYear;
+  private final int numYears;
+  private final int numHistories;
+  private final LongBuffer values;
+
+  private HistoryMatrix(Path file, ByteBuffer buffer) {
+    this.file = file;
+    if (buffer.capacity() < HEADER_SIZE) {
+      throw new IllegalArgumentException("Not a history file (too short): " + file);
+    }
+    if (buffer.getInt() != MAGIC) {
+      throw new IllegalArgumentException("Not a history file (unknown magic number): " + file);
+    }
+    int version = buffer.getInt();
+    if (version != VERSION) {
+      throw new IllegalArgumentException("Unknown version of the history file: " + version + " " + file);
+    }
+    this.firstYear = buffer.getInt();
+    this.numYears = buffer.getInt();
+    this.numHistories = buffer.getInt();
+    buffer.getInt(); //unused
+    long expectedSize = HEADER_SIZE + (long)numYears * numHistories * Long.BYTES;
+    if (buffer.capacity() != expectedSize) {
+      throw new IllegalArgumentException("History file has the wrong size. Expected " + expectedSize + " bytes, but it has " + buffer.capacity() + ": " + file);
+    }
+    this.values = buffer.slice().asLongBuffer();
+  }
+
+  private int indexOf(int year, int history) {
+    if (year < firstYear || year > lastYear()) {
+      throw new IllegalArgumentException("Year " + year + " isn't in " + this);
+    }
+    if (history < 1 || history > numHistories) {
+      throw new IllegalArgumentException("History " + history + " isn't in " + this);
+    }
+    return (year - firstYear) * numHistories + (history - 1);
+  }
+}
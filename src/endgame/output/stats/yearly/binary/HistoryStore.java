@@ -0,0 +1,118 @@
+package endgame.output.stats.yearly.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import endgame.Scenario;
+import endgame.model.Money;
+import endgame.output.stats.yearly.History;
+import endgame.output.stats.yearly.HistoryMetric;
+import endgame.util.Log;
+import hirondelle.date4j.DateTime;
+
+/**
+ Save the yearly results of all histories in a compact binary form, with one file per {@link HistoryMetric}.
+
+ <P>Each file holds a matrix of amounts in cents, with a row for each year and a column for each history.
+ A scenario file named '101.6-blah.ini' results in files named '101.6-histories-net-cash.bin', and so on,
+ in the same directory as the scenario file.
+ The files are read with {@link HistoryMatrix}.
+
+ <P>This output is optional. It's turned on with the system property <em>endgame.historyStore</em>
+ ('-Dendgame.historyStore=true'). It's useful when there are many histories, since the equivalent .csv
+ files are slow to write and read, and very large.
+
+ <P>Layout of each file (big-endian):
+ <pre>
+ int magic number
+ int format version
+ int first year
+ int number of years
+ int number of histories
+ int (unused, so that the values start on an 8-byte boundary)
+ long[] the values for the first year, one for each history, in order
+ long[] the values for the second year
+ ...
+ </pre>
+ A year after the end of a history has the value {@link HistoryMatrix#NO_VALUE}.
+*/
+public final class HistoryStore {
+
+  /** Return true only if the system property for this output is set to true. */
+  public static boolean isEnabled() {
+    return Boolean.getBoolean(HISTORY_STORE_PROPERTY);
+  }
+
+  /** Save one file for each metric. */
+  public void save(Scenario sim, Map<Integer, History> histories, String configFile) {
+    History[] inOrder = new History[histories.size()];
+    for(int iteration = 1; iteration <= inOrder.length; ++iteration) {
+      inOrder[iteration - 1] = histories.get(iteration);
+    }
+    File scenarioFile = new File(configFile);
+    for(HistoryMetric metric : HistoryMetric.values()) {
+      Path file = fileBesideThe(scenarioFile, metric);
+      Log.log("Writing binary report to " + file);
+      try {
+        save(file, metric, inOrder, sim);
+      }
+      catch(IOException ex) {
+        Log.error("Can't write to file.", ex);
+      }
+    }
+  }
+
+  // PRIVATE
+
+  private static final String HISTORY_STORE_PROPERTY = "endgame.historyStore";
+
+  /* The values are written in chunks of about this size, in bytes. */
+  private static final int CHUNK_SIZE = 64 * 1024;
+
+  private void save(Path file, HistoryMetric metric, History[] histories, Scenario sim) throws IOException {
+    int firstYear = new DateTime(sim.startDate).getYear();
+    int lastYear = new DateTime(sim.endDate).getYear();
+    int numYears = lastYear - firstYear + 1;
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      ByteBuffer buffer = ByteBuffer.allocate(Math.max(CHUNK_SIZE, HistoryMatrix.HEADER_SIZE));
+      buffer.putInt(HistoryMatrix.MAGIC);
+      buffer.putInt(HistoryMatrix.VERSION);
+      buffer.putInt(firstYear);
+      buffer.putInt(numYears);
+      buffer.putInt(histories.length);
+      buffer.putInt(0);
+      for(Integer year = firstYear; year <= lastYear; ++year) {
+        for(History history : histories) {
+          if (buffer.remaining() < Long.BYTES) {
+            writeAll(buffer, channel);
+          }
+          Money value = metric.valueFor(history, year);
+          buffer.putLong(value == null ? HistoryMatrix.NO_VALUE : value.asCents());
+        }
+      }
+      writeAll(buffer, channel);
+    }
+  }
+
+  private void writeAll(ByteBuffer buffer, FileChannel channel) throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  /** '101.6-histories-net-cash.bin', in the same directory as the scenario file. */
+  private Path fileBesideThe(File scenarioFile, HistoryMetric metric) {
+    String shortScenarioFileName = scenarioFile.getName();
+    int firstDash = shortScenarioFileName.indexOf("-");
+    String shortFileName = shortScenarioFileName.substring(0, firstDash) + "-histories-" + metric.fileName() + HistoryMatrix.EXTENSION;
+    return Paths.get(scenarioFile.getParent(), shortFileName);
+  }
+}
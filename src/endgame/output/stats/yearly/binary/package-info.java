@@ -0,0 +1,7 @@
+/** 
+ Binary, columnar reports with yearly results/stats, for scenarios having a large number of histories.
+ 
+ <P>These reports are an alternative to the CSV reports for multiple histories. 
+ They're faster to write and read, and much smaller, but they need a small program to read them (see {@link endgame.output.stats.yearly.binary.HistoryMatrix}).
+*/
+package endgame.output.stats.yearly.binary;
@@ -2,6 +2,7 @@ package endgame.output.stats.yearly.csv;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -30,26 +31,43 @@ final class CsvCashAndTaxSummary {
    A scenario file named 101.6-blah.ini results in a file named 101.6-net-gross-tax-networth.csv.
   */
   void saveToCsv(History history, File scenarioFile, Scenario sim) {
+    saveToCsv(history, scenarioFile, sim, FILE_NAME, true);
+  }
+  
+  /** 
+   As above, but with a different conventional file name.
+   @param withNetWorth if false, the Net Worth column is left out
+  */
+  void saveToCsv(History history, File scenarioFile, Scenario sim, String fileName, boolean withNetWorth) {
     List<String> lines = new ArrayList<>();
     int startYear = new DateTime(sim.startDate).getYear();
     int numYears = history.numYears();
-    CsvFile csv = new CsvFile(FILE_NAME, scenarioFile);
+    CsvFile csv = new CsvFile(fileName, scenarioFile);
     Map<Integer, Double> relProbSurvival = relativeProbOfSurvival(sim);    
-    lines.add(csv.lineFrom("Year", "Age", "Net Cash", "Cash Generated", "Taxable Income", "Tax Payable", "Net Worth", "Survival Chances"));
+    List<Object> header = new ArrayList<>(Arrays.asList("Year", "Age", "Net Cash", "Cash Generated", "Taxable Income", "Tax Payable", "Net Worth", "Survival Chances"));
+    if (!withNetWorth) {
+      header.remove(NET_WORTH_COLUMN);
+    }
+    lines.add(csv.lineFrom(header));
     for(int year = startYear; year < (startYear + numYears); ++year) {
       Integer age = year - Integer.valueOf(sim.dateOfBirth.substring(0, 4));
       Money cashGenerated = history.cashFlow.get(year).cashFlow();
       Money taxPayable = history.taxSummary.get(year).taxPayable;
       Money taxableIncome = history.taxSummary.get(year).taxableIncome;
       Money netCash = cashGenerated.minus(taxPayable);
-      Money netWorth = history.accountSet.get(year).netWorth();
       Double probOfSurvival = relProbSurvival.get(year);
-      String line = csv.lineFrom(year, age, netCash, cashGenerated, taxableIncome, taxPayable, netWorth, probOfSurvival);
-      lines.add(line);
+      List<Object> items = new ArrayList<>(Arrays.asList(year, age, netCash, cashGenerated, taxableIncome, taxPayable));
+      if (withNetWorth) {
+        items.add(history.accountSet.get(year).netWorth());
+      }
+      items.add(probOfSurvival);
+      lines.add(csv.lineFrom(items));
     }
     csv.save(lines);
   }
   
+  private static final int NET_WORTH_COLUMN = 6;
+  
   private Map<Integer, Double> relativeProbOfSurvival(Scenario sim) {
     Survival survival = new Survival();
     return survival.relativeProbabilityOfSurvival(sim, Optional.empty());
@@ -30,10 +30,15 @@ final class CsvCashFlows {
    A scenario file named 101.6-blah.ini results in a file named 101.6-cash-flows.csv.
   */
   void saveToCsv(History history, File scenarioFile, Scenario sim) {
+    saveToCsv(history, scenarioFile, sim, FILE_NAME);
+  }
+  
+  /** As above, but with a different conventional file name. */
+  void saveToCsv(History history, File scenarioFile, Scenario sim, String fileName) {
     List<String> lines = new ArrayList<>();
     int startYear = new DateTime(sim.startDate).getYear();
     int numYears = history.numYears();
-    CsvFile csv = new CsvFile(FILE_NAME, scenarioFile);
+    CsvFile csv = new CsvFile(fileName, scenarioFile);
     Map<Integer, Double> relProbSurvival = relativeProbOfSurvival(sim);    
     lines.add(csv.lineFrom("Year", "Age", "CPP", "OAS", "GIS", "Pension", "Dividends", "Liquidation", "Interest", "Survival Chances"));
     for(int year = startYear; year < (startYear + numYears); ++year) {
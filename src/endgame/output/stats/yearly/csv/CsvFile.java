@@ -1,6 +1,8 @@
 package endgame.output.stats.yearly.csv;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.List;
 
 import endgame.util.Log;
@@ -27,21 +29,25 @@ final class CsvFile {
 
   /** Return a line of comma-separated items. * */
   String lineFrom(Object... items) {
-    String result = "";
+    StringBuilder result = new StringBuilder();
     for(Object item : items) {
-      result = result + item.toString() + CsvFile.SEP;
+      result.append(item.toString()).append(CsvFile.SEP);
     }
-    return result.substring(0, result.length()-1); //chop off final sep char
+    result.setLength(result.length() - 1); //chop off final sep char
+    return result.toString();
   }
   
   /** Return a line of comma-separated items. Nulls are rendered as empty. */
   String lineFrom(List<Object> items) {
-    String result = "";
+    StringBuilder result = new StringBuilder();
     for(Object item : items) {
-      String dataPoint = item != null ? item.toString() : "";
-      result = result + dataPoint + CsvFile.SEP;
+      if (item != null) {
+        result.append(item.toString());
+      }
+      result.append(CsvFile.SEP);
     }
-    return result.substring(0, result.length()-1); //chop off final sep char
+    result.setLength(result.length() - 1); //chop off final sep char
+    return result.toString();
   }
 
   /** 
@@ -55,6 +61,16 @@ final class CsvFile {
     Util.saveLinesToFile(file, lines);    
   }
   
+  /**
+   Open the .csv file for writing one row at a time. The caller must close the returned writer.
+   Preferred over {@link #save(List)} for large reports, since the rows aren't held in memory. 
+  */
+  CsvWriter openWriter() throws IOException {
+    String file = fileBesideThe(scenarioFile); 
+    Log.log("Writing report to " + file);
+    return new CsvWriter(Paths.get(file));
+  }
+  
   private String conventionalFileName = "";
   private File scenarioFile;
   
@@ -1,72 +1,42 @@
 package endgame.output.stats.yearly.csv;
 
 import java.io.File;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 import endgame.Scenario;
-import endgame.model.Money;
 import endgame.output.stats.yearly.History;
+import endgame.output.stats.yearly.HistoryMetric;
+import endgame.util.Log;
 import hirondelle.date4j.DateTime;
 
-/** Save reports for multiple histories. */
+/** 
+ Save reports for multiple histories. 
+ Each report has a row for each year, and a column for each history, so it can be very wide.
+ The rows are written to the file as they are produced (see {@link CsvWriter}).
+*/
 final class CsvMultipleHistories {
   
-  void save(String fileName, Map<Integer, History> histories, File scenarioFile, Scenario sim, BiFunction<History, Integer, Money> function) {
-    CsvFile csv = new CsvFile(fileName, scenarioFile);
-    List<String> lines = new ArrayList<>();
+  /** The file name is 'histories-' plus the file name of the metric, as in '101.6-histories-net-cash.csv'. */
+  void save(HistoryMetric metric, Map<Integer, History> histories, File scenarioFile, Scenario sim) {
+    CsvFile csv = new CsvFile("histories-" + metric.fileName(), scenarioFile);
+    History[] inOrder = new History[sim.numIterations];
+    for(int iteration = 1; iteration <= sim.numIterations; ++iteration) {
+      inOrder[iteration - 1] = histories.get(iteration);
+    }
     int startYear = new DateTime(sim.startDate).getYear();
     int endYear = new DateTime(sim.endDate).getYear();
-    for(Integer year = startYear; year <= endYear; ++year) {
-      List<Object> itemsInLine = new ArrayList<>();
-      itemsInLine.add(year);
-      for(int iteration= 1; iteration <= sim.numIterations; ++iteration) {
-        History history = histories.get(iteration);
-        
-        Money money = function.apply(history, year);
-        
-        itemsInLine.add(money);
+    try (CsvWriter writer = csv.openWriter()) {
+      for(Integer year = startYear; year <= endYear; ++year) {
+        writer.add(year.intValue());
+        for(History history : inOrder) {
+          writer.add(metric.valueFor(history, year));
+        }
+        writer.endRow();
       }
-      String line = csv.lineFrom(itemsInLine);
-      lines.add(line);
     }
-    csv.save(lines);
-  }
-  
-  
-  static Money netCash(History history, Integer year) {
-    Money result = null;
-    if (history.cashFlow.get(year) != null) {
-      Money cashGenerated = history.cashFlow.get(year).cashFlow();
-      Money taxPayable = history.taxSummary.get(year).taxPayable;
-      result = cashGenerated.minus(taxPayable); //net cash
+    catch(IOException ex) {
+      Log.error("Can't write to file.", ex);
     }
-    return result;
-  }
-  static Money taxPayable(History history, Integer year) {
-    return history.taxSummary.get(year) == null ? null : history.taxSummary.get(year).taxPayable; 
-  }
-  static Money grossCash(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).cashFlow();
-  }
-  static Money cpp(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).cpp;
-  }
-  static Money oas(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).oas;
-  }
-  static Money gis(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).gis;
-  }
-  static Money dividends(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).dividends;
-  }
-  static Money liquidation(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).liquidationProceeds;
-  }
-  static Money interest(History history, Integer year) {
-    return history.cashFlow.get(year) == null ? null : history.cashFlow.get(year).interest;
   }
 }
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import endgame.Scenario;
 import endgame.output.stats.yearly.History;
+import endgame.output.stats.yearly.HistoryMetric;
 import endgame.util.Log;
 
 public final class CsvReports {
@@ -21,7 +22,26 @@ public final class CsvReports {
     }
   }
   
-  /** 
+  /**
+   The same reports as for a single history, but for a history whose cash flows and taxes are weighted
+   by the probability of survival (expected values).
+   The file names have an 'expected-' prefix, for example 101.6-expected-cash-flows.csv.
+   The account snapshots aren't weighted, so the Net Worth column is left out of these reports.
+  */
+  public void saveExpectedValues(Scenario sim, History expectedHistory, String configFile) {
+    Log.log("Saving reports for expected values.");
+    File scenarioFile = new File(configFile);
+
+    CsvCashAndTaxSummary cashTaxEtc = new CsvCashAndTaxSummary();
+    cashTaxEtc.saveToCsv(expectedHistory, scenarioFile, sim, EXPECTED + CsvCashAndTaxSummary.FILE_NAME, false);
+
+    CsvCashFlows cashFlows = new CsvCashFlows();
+    cashFlows.saveToCsv(expectedHistory, scenarioFile, sim, EXPECTED + CsvCashFlows.FILE_NAME);
+  }
+
+  private static final String EXPECTED = "expected-";
+
+  /**
    Compact summary reports for important data.
    Intended only for the case in which only a single history has been generated. 
   */
@@ -43,16 +63,8 @@ public final class CsvReports {
   */
   private void saveReportsForMultipleHistories(Scenario sim, String configFile, Map<Integer, History> histories) {
     CsvMultipleHistories csv = new CsvMultipleHistories();
-    csv.save("histories-net-cash", histories, new File(configFile), sim, CsvMultipleHistories::netCash);
-    csv.save("histories-tax-payable", histories, new File(configFile), sim, CsvMultipleHistories::taxPayable);
-    csv.save("histories-gross-cash", histories, new File(configFile), sim, CsvMultipleHistories::grossCash);
-    
-    csv.save("histories-cpp", histories, new File(configFile), sim, CsvMultipleHistories::cpp);
-    csv.save("histories-oas", histories, new File(configFile), sim, CsvMultipleHistories::oas);
-    csv.save("histories-gis", histories, new File(configFile), sim, CsvMultipleHistories::gis);
-    
-    csv.save("histories-dividends", histories, new File(configFile), sim, CsvMultipleHistories::dividends);
-    csv.save("histories-liquidation", histories, new File(configFile), sim, CsvMultipleHistories::liquidation);
-    csv.save("histories-interest", histories, new File(configFile), sim, CsvMultipleHistories::interest);
+    for(HistoryMetric metric : HistoryMetric.values()) {
+      csv.save(metric, histories, new File(configFile), sim);
+    }
   }
 }
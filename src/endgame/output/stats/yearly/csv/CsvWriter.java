@@ -0,0 +1,92 @@
+package endgame.output.stats.yearly.csv;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import endgame.model.Money;
+import endgame.util.Consts;
+
+/**
+ Write a .csv file one row at a time, as the rows are produced.
+
+ <P>Intended for large reports, such as those having one column per history.
+ Each row is built in a single re-used buffer, and then appended to the file's buffer.
+ Amounts of money and integers are appended directly, without creating a <code>String</code> for each item.
+ The memory used doesn't depend on the number of rows.
+
+ <P>Example:
+ <pre>
+ try (CsvWriter writer = new CsvWriter(path)) {
+   writer.add(2025).add(amount).add(null).endRow();
+ }
+ </pre>
+*/
+final class CsvWriter implements Closeable {
+
+  /** Create the file, or truncate it if it already exists. */
+  CsvWriter(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    this.writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), Consts.ENCODING), BUFFER_SIZE);
+  }
+
+  /** Add an item to the current row. */
+  CsvWriter add(int item) {
+    separate();
+    row.append(item);
+    return this;
+  }
+
+  /** Add an item to the current row. A null amount is rendered as empty. */
+  CsvWriter add(Money item) {
+    separate();
+    if (item != null) {
+      item.appendTo(row);
+    }
+    return this;
+  }
+
+  /** Add an item to the current row, using its toString. A null item is rendered as empty. */
+  CsvWriter add(Object item) {
+    separate();
+    if (item != null) {
+      row.append(item.toString());
+    }
+    return this;
+  }
+
+  /** Write the current row to the file, and start a new row. */
+  void endRow() throws IOException {
+    writer.append(row);
+    writer.newLine();
+    row.setLength(0);
+    isRowStart = true;
+  }
+
+  /** Write any buffered rows to disk, and close the file. */
+  @Override public void close() throws IOException {
+    writer.close();
+  }
+
+  // PRIVATE
+
+  /** In chars. */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final BufferedWriter writer;
+  /** The row being built. Re-used for each row. */
+  private final StringBuilder row = new StringBuilder(1024);
+  private boolean isRowStart = true;
+
+  private void separate() {
+    if (!isRowStart) {
+      row.append(CsvFile.SEP);
+    }
+    isRowStart = false;
+  }
+}
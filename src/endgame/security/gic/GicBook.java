@@ -0,0 +1,58 @@
+package endgame.security.gic;
+
+import java.util.List;
+import java.util.PriorityQueue;
+
+import endgame.transaction.Transactional;
+import hirondelle.date4j.DateTime;
+
+/**
+ The scheduled events (buy, accrual, redemption) for all of the GICs in a single account.
+
+ <P>The events are kept in a priority queue, ordered by date.
+ Only the head of the queue is examined each day, so the daily cost doesn't depend on the number of GICs.
+ Events on the same date are kept in the order in which they were scheduled.
+*/
+final class GicBook {
+
+  /** Schedule an event on the given date. The sequence number breaks ties between events on the same date. */
+  void schedule(DateTime date, Transactional event, long sequence) {
+    events.add(new Event(date, event, sequence));
+  }
+
+  /**
+   Move all events on the given date into the given list, and remove them from this book.
+   Events before the given date are dropped; they can never execute (for example, a purchase before the start of the simulation).
+  */
+  void removeEventsOn(DateTime date, List<Event> result) {
+    while (!events.isEmpty() && events.peek().date.lt(date)) {
+      events.poll();
+    }
+    while (!events.isEmpty() && events.peek().date.isSameDayAs(date)) {
+      result.add(events.poll());
+    }
+  }
+
+  /** A buy, accrual, or redemption, on a given date. */
+  static final class Event implements Comparable<Event> {
+    final DateTime date;
+    final Transactional action;
+    final long sequence;
+    Event(DateTime date, Transactional action, long sequence) {
+      this.date = date;
+      this.action = action;
+      this.sequence = sequence;
+    }
+    @Override public int compareTo(Event that) {
+      int result = this.date.compareTo(that.date);
+      if (result == 0) {
+        result = Long.compare(this.sequence, that.sequence);
+      }
+      return result;
+    }
+  }
+
+  // PRIVATE
+
+  private PriorityQueue<Event> events = new PriorityQueue<>();
+}
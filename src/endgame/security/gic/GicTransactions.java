@@ -3,6 +3,7 @@ package endgame.security.gic;
 import endgame.Scenario;
 import endgame.account.Account;
 import endgame.model.Money;
+import endgame.transaction.Transactional;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
 
@@ -37,13 +38,17 @@ public final class GicTransactions {
     }
   }
   
-  /** Buy, accrued interest, and redemption. */
+  /** 
+   Buy, accrued interest, and redemption.
+   These are scheduled in the account's {@link GicBook}, not added directly to the scenario's transactionals. 
+  */
   private static void addTransactions(GtdInvestmentCert gic, Account account, Scenario sim, boolean includeBuy) {
+    ProcessGicBooks books = gicBooksFor(sim);
     if (includeBuy) {
       //the purchase fails if there's not enough cash in the account when the transaction executes
       //if that's the case, the other transactions will still be created, but will log the fact that the GIC is missing
       BuyGic gicPurchase = new BuyGic(gic.purchaseDate().toString(), account, gic);
-      sim.transactionals.add(gicPurchase);
+      books.schedule(account, gic.purchaseDate(), gicPurchase);
     }
     
     //accrual comes before redemption, because accrual checks to see if the GIC is in the account
@@ -52,13 +57,33 @@ public final class GicTransactions {
       for(DateTime anniversary : gic.anniversaryDates() /*up to the redemption date*/) {
         if (anniversary.gteq(startDate)) { //needed for initial holdings 
           GicInterestAccrual interestAccrual = new GicInterestAccrual(anniversary.format("YYYY-MM-DD"), account, gic);
-          sim.transactionals.add(interestAccrual);
+          books.schedule(account, anniversary, interestAccrual);
         }
       }
     }
     
     RedeemGic gicRedemption = new RedeemGic(gic.maturityDate().format("YYYY-MM-DD"), account, gic);
-    sim.transactionals.add(gicRedemption);
+    books.schedule(account, gic.maturityDate(), gicRedemption);
+  }
+  
+  /** 
+   The GIC events keep their place in the order of the transactionals: they run at the position of the 
+   statement that created them, just as if they had been added to the transactionals one by one.
+   Consecutive GIC statements share the same {@link ProcessGicBooks}, since nothing else runs between them.
+   A new one is added whenever some other transactional has been added since the last GIC statement.
+  */
+  private static ProcessGicBooks gicBooksFor(Scenario sim) {
+    ProcessGicBooks result = null;
+    int numTransactionals = sim.transactionals.size();
+    Transactional last = numTransactionals == 0 ? null : sim.transactionals.get(numTransactionals - 1);
+    if (last instanceof ProcessGicBooks) {
+      result = (ProcessGicBooks)last;
+    }
+    else {
+      result = new ProcessGicBooks();
+      sim.transactionals.add(result);
+    }
+    return result;
   }
   
   private static final boolean INCLUDE_BUY = true;
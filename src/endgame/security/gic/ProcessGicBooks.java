@@ -0,0 +1,68 @@
+package endgame.security.gic;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import endgame.Scenario;
+import endgame.account.Account;
+import endgame.transaction.TransactionDates;
+import endgame.transaction.Transactional;
+import hirondelle.date4j.DateTime;
+
+/**
+ The transactional that executes the buy, accrual, and redemption events for the GICs created by a run of 
+ consecutive GIC statements, in all accounts.
+
+ <P>It sits in the list of transactionals at the position of those statements, so its events run in the same order,
+ relative to other transactionals, as they would if each event were a separate transactional.
+ A scenario usually has only a few of these: one for the initial GIC positions, and one for each group of 
+ buy-gic statements.
+
+ <P>Each account has its own {@link GicBook}.
+ Each day, only the next event in each book is examined, so the daily cost doesn't depend on the number of GICs.
+ If events from more than one account fall on the same day, they're executed in the order in which they were scheduled.
+*/
+final class ProcessGicBooks extends Transactional {
+
+  ProcessGicBooks() {
+    super(TransactionDates.everyDay());
+  }
+
+  /** Schedule an event for a GIC held in the given account. */
+  void schedule(Account account, DateTime date, Transactional event) {
+    GicBook book = books.get(account);
+    if (book == null) {
+      book = new GicBook();
+      books.put(account, book);
+    }
+    book.schedule(date, event, nextSequence);
+    ++nextSequence;
+  }
+
+  @Override protected void execute(DateTime when, Scenario sim) {
+    for(GicBook book : books.values()) {
+      book.removeEventsOn(when, dueToday);
+    }
+    if (!dueToday.isEmpty()) {
+      Collections.sort(dueToday);
+      for(GicBook.Event event : dueToday) {
+        event.action.executeOnDate(when, sim);
+      }
+      dueToday.clear();
+    }
+  }
+
+  @Override public String toString() {
+    return "GIC EVENTS in " + books.size() + " account(s)";
+  }
+
+  // PRIVATE
+
+  private Map<Account, GicBook> books = new LinkedHashMap<>();
+  private long nextSequence = 0;
+  /** Re-used each day, to avoid creating garbage. */
+  private List<GicBook.Event> dueToday = new ArrayList<>();
+}
@@ -2,10 +2,11 @@ package endgame.security.stock;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.ListIterator;
 
+import endgame.account.Account;
 import endgame.model.Money;
 import endgame.security.stock.price.StockPricePolicy;
 import hirondelle.date4j.DateTime;
@@ -18,52 +19,100 @@ import hirondelle.date4j.DateTime;
  
  <P>The dividends are modeled simply, using constant percentage growth.
  For many blue-chip dividend stocks, this is a reasonable approximation to the real world.  
+ 
+ <P>The price history is kept as primitive data, with one slot per year: the highest price seen in that year.
+ Prices in the history are stored in cents, multiplied by the cumulative split factor at the time they were recorded.
+ So a stock split doesn't need to rewrite the history; it only changes the cumulative split factor. 
 */
 public final class Stock {
 
-  public static Stock valueOf(String symbol, String price, Dividend dividend, String startDate) {
-    return new Stock(symbol, price, dividend, new DateTime(startDate));  
+  /** 
+   @param id a small integer that identifies the stock in its scenario. 
+   The ids are dense: 0, 1, 2.., in the order in which the stocks are defined.
+  */
+  public static Stock valueOf(int id, String symbol, String price, Dividend dividend, String startDate) {
+    return new Stock(id, symbol, price, dividend, new DateTime(startDate));  
   }
   
   public Money price() { return price; }
   
   /** Updated using the configured implementation of {@StockPricePolicy}. */
   public void updatePrice(Money price, DateTime when) {
+    Money oldPrice = this.price;
     this.price = price; 
-    this.priceHistory.add(HistoricalPrice.from(when, this.price));
+    this.unsplitPrice = price.asCents() * splitFactor;
+    recordPrice(when);
+    notifyPriceListeners(oldPrice);
   }
   
-  public String symbol() { return symbol; }
-  public Dividend dividend() { return dividend; }
-  public List<HistoricalPrice> priceHistory() { return Collections.unmodifiableList(priceHistory); }
-
-  /** Simple struct for historical stock prices. */
-  public static final class HistoricalPrice {
-    static HistoricalPrice from(DateTime when, Money price) {
-      return new HistoricalPrice(when, price);
+  /**
+   Return true only if the price in any of the last few years was higher than the current price.
+   The years are counted back from the year of the most recent price, and include that year.
+   
+   <P>Uses a stack of the years whose high is greater than the high of every later year, so this 
+   is a binary search over a small array, not a walk over the whole history.  
+   @param numYears the number of years to look back; 0 means the current year only. 
+  */
+  public boolean isBelowRecentHigh(int numYears) {
+    int fromYear = Math.max(0, numYearsOfHistory - 1 - numYears); //as an offset from the first year
+    int idx = Arrays.binarySearch(descendingHighs, 0, numDescendingHighs, fromYear);
+    if (idx < 0) {
+      idx = -(idx + 1); //the insertion point: the first year after fromYear that's in the stack
     }
-    private HistoricalPrice(DateTime when, Money price) {
-      this.when = when;
-      this.price = price;
+    //the most recent year is always in the stack, so idx is always in range 
+    long highestPrice = yearlyHighs[descendingHighs[idx]];
+    return highestPrice > unsplitPrice;
+  }
+  
+  /** Notified each time the current price of a stock changes, including for a stock split. */
+  public interface PriceListener {
+    void priceChanged(Stock stock, Money oldPrice);
+  }
+  
+  /** Has no effect if the listener has already been added. */
+  public void addPriceListener(PriceListener listener) {
+    if (!priceListeners.contains(listener)) {
+      priceListeners.add(listener);
     }
-    public Money price() {return price;}
-    public DateTime when() {return when;}
-    private Money price;
-    private DateTime when;
   }
   
-  /** Reduce the current and historical prices, and reduce the dividend amount (all by the given factor). */
+  public void removePriceListener(PriceListener listener) {
+    priceListeners.remove(listener);
+  }
+  
+  /** 
+   The accounts that currently hold a position in this stock, in the order in which they took the position.
+   Kept up to date by the accounts themselves, as positions are opened and closed. 
+  */
+  public List<Account> holders() { return Collections.unmodifiableList(holders); }
+  
+  /** Has no effect if the account is already a holder. */
+  public void addHolder(Account account) {
+    if (!holders.contains(account)) {
+      holders.add(account);
+    }
+  }
+  
+  public void removeHolder(Account account) {
+    holders.remove(account);
+  }
+  
+  public String symbol() { return symbol; }
+  /** Dense integer id, suitable for indexing into arrays. See {@link #valueOf(int, String, String, Dividend, String)}. */
+  public int id() { return id; }
+  public Dividend dividend() { return dividend; }
+
+  /** 
+   Reduce the current and historical prices, and reduce the dividend amount (all by the given factor).
+   The historical prices are reduced implicitly, by the cumulative split factor. 
+  */
   public void stockSplit(Integer factor) {
+    Money oldPrice = price;
     price = price.divByInt(factor);
-    //modify the list of historical prices in place
-    for (ListIterator<HistoricalPrice> iter = priceHistory.listIterator(); iter.hasNext();) {
-      HistoricalPrice histPrice = iter.next();
-      DateTime sameDate = histPrice.when;
-      Money smallerPrice = histPrice.price.divByInt(factor);
-      HistoricalPrice newHistPrice = HistoricalPrice.from(sameDate, smallerPrice);
-      iter.set(newHistPrice);
-    }
+    splitFactor = splitFactor * factor;
+    //the unsplit price doesn't change: it's not affected by the rounding of the new price
     dividend.stockSplit(factor);
+    notifyPriceListeners(oldPrice);
   }
   
   @Override public String toString() {
@@ -72,15 +121,65 @@ public final class Stock {
   
   // PRIVATE 
   
+  private final int id;
   private String symbol;
   private Money price;
   private Dividend dividend;
-  private List<HistoricalPrice> priceHistory = new ArrayList<HistoricalPrice>();
   
-  private Stock(String symbol, String price, Dividend dividend, DateTime when) {
+  private static final int INITIAL_NUM_YEARS = 64;
+  /** The year of the first price. Index 0 of the history corresponds to this year. */
+  private final int firstYear;
+  /** The highest price in each year, in unsplit cents. Indexed by the year offset. 0 for a year with no price. */
+  private long[] yearlyHighs = new long[INITIAL_NUM_YEARS];
+  private int numYearsOfHistory = 0;
+  /** 
+   Year offsets, in increasing order, whose high is greater than the high of every later year.
+   So the highs are in decreasing order, and the last item is always the most recent year. 
+  */
+  private int[] descendingHighs = new int[INITIAL_NUM_YEARS];
+  private int numDescendingHighs = 0;
+  /** The product of the factors of all stock splits so far. */
+  private long splitFactor = 1;
+  /** The current price, in cents, multiplied by the cumulative split factor. Not rounded by stock splits. */
+  private long unsplitPrice;
+  /** Usually the few accounts that hold a position in this stock. */
+  private List<PriceListener> priceListeners = new ArrayList<PriceListener>();
+  /** Inverted index: from the stock to the accounts that hold it. */
+  private List<Account> holders = new ArrayList<Account>();
+  
+  private Stock(int id, String symbol, String price, Dividend dividend, DateTime when) {
+    this.id = id;
     this.symbol = symbol;
     this.price = new Money(new BigDecimal(price));
     this.dividend = dividend;
-    this.priceHistory.add(HistoricalPrice.from(when, this.price));
+    this.firstYear = when.getYear();
+    this.unsplitPrice = this.price.asCents();
+    recordPrice(when);
+  }
+  
+  /** Add the current price to the history. Dates must not go backwards. */
+  private void recordPrice(DateTime when) {
+    int year = when.getYear() - firstYear;
+    if (year < numYearsOfHistory - 1) {
+      throw new IllegalArgumentException("Price for " + when + " is earlier than the price history for " + symbol);
+    }
+    if (year >= yearlyHighs.length) {
+      int newLength = Math.max(year + 1, 2 * yearlyHighs.length);
+      yearlyHighs = Arrays.copyOf(yearlyHighs, newLength);
+      descendingHighs = Arrays.copyOf(descendingHighs, newLength);
+    }
+    numYearsOfHistory = year + 1;
+    yearlyHighs[year] = Math.max(yearlyHighs[year], unsplitPrice);
+    //drop the years whose high is no longer greater than that of a later year
+    while (numDescendingHighs > 0 && yearlyHighs[descendingHighs[numDescendingHighs - 1]] <= yearlyHighs[year]) {
+      --numDescendingHighs;
+    }
+    descendingHighs[numDescendingHighs++] = year;
+  }
+  
+  private void notifyPriceListeners(Money oldPrice) {
+    for (PriceListener listener : priceListeners) {
+      listener.priceChanged(this, oldPrice);
+    }
   }
 }
@@ -8,7 +8,6 @@ import endgame.Scenario;
 import endgame.account.Account;
 import endgame.model.Money;
 import endgame.security.stock.Stock;
-import endgame.security.stock.Stock.HistoricalPrice;
 import endgame.security.stock.StockPosition;
 import endgame.transaction.Transactional;
 import endgame.util.Consts;
@@ -93,24 +92,7 @@ public final class SequentialLiquidation extends Transactional implements Liquid
    Returns false if you have passed 0 to the constructor for <tt>avoidDownturnYears</tt>.
   */
   boolean recentDownturnFor(Stock stock) {
-    boolean result = false;
-    if (avoidDownturnYears > 0 && stock.priceHistory().size() > 0) {
-      List<HistoricalPrice> oldPrices = stock.priceHistory();
-      int currentYear = oldPrices.get(oldPrices.size()-1).when().getYear();
-      int lookBackUntilYear = currentYear - avoidDownturnYears;
-      //interesting: this loop can exit in 3 different ways!
-      for (int i = oldPrices.size() - 1; i >= 0; --i) {
-        HistoricalPrice historical = oldPrices.get(i);
-        if (historical.when().getYear() < lookBackUntilYear) {
-          break; //stop iterating
-        }
-        if (historical.price().gt(stock.price())) {
-          result = true;
-          break;
-        }
-      }
-    }
-    return result;
+    return avoidDownturnYears > 0 && stock.isBelowRecentHigh(avoidDownturnYears);
   }
   
   @Override public String toString() {
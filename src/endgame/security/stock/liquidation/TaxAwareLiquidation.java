@@ -0,0 +1,295 @@
+package endgame.security.stock.liquidation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import endgame.Scenario;
+import endgame.account.Account;
+import endgame.account.nra.Nra;
+import endgame.model.Money;
+import endgame.security.stock.Stock;
+import endgame.security.stock.StockPosition;
+import endgame.transaction.Transactional;
+import endgame.util.Consts;
+import endgame.util.Util;
+import hirondelle.date4j.DateTime;
+
+/**
+ Raise a target amount of net cash in the bank, choosing the mix of accounts that costs the least tax this year.
+
+ <P>Cash is raised from the RIF, LIF, NRA, and TFSA, in any mix.
+ In each account, shares are sold as needed, and the cash is then moved to the bank:
+ <ul>
+  <li>RIF and LIF: the withdrawal is taxable income. The LIF can't go above its yearly maximum.
+  <li>NRA: the sale of shares has a capital gain or loss. The withdrawal itself isn't taxed.
+  <li>TFSA: no tax at all.
+ </ul>
+
+ <P>The net cash is the gross amount withdrawn, minus the increase in the total tax payable for the year.
+ The tax is calculated with the year's actual {@link endgame.tax.FederalTaxReturn} (and provincial return),
+ as it stands on the day of the liquidation, using {@link endgame.tax.FederalTaxReturn#totalPayableWith(Money, Money, Money)}.
+
+ <P>The search is greedy, in steps of a fixed fraction of the target.
+ At each step, the step goes to the account with the lowest marginal tax rate for that step.
+ The number of steps is bounded, so the number of tax calculations is at most a fixed multiple of the number of accounts.
+ Tax calculations are memoized for each decision, since the same mix is often evaluated more than once.
+ Ties go to the account listed first.
+
+ <P>This policy minimizes this year's tax only. It doesn't look ahead to future years.
+*/
+public final class TaxAwareLiquidation extends Transactional implements Liquidate {
+
+  /**
+   Factory method.
+   @param accounts the accounts from which cash may be raised. Their order breaks ties.
+   @param stocks the order in which stocks are sold, in each account.
+   @param netCash the net amount of cash to be raised, after tax.
+  */
+  public static TaxAwareLiquidation valueOf(List<Account> accounts, List<Stock> stocks, String netCash, String when) {
+    if (accounts.contains(null)) {
+      throw new IllegalArgumentException("Tax-aware liquidation refers to an account that isn't in the scenario.");
+    }
+    return new TaxAwareLiquidation(accounts, stocks, new Money(netCash), when);
+  }
+
+  /**
+   Sell stocks, then move the cash to the bank.
+   The proceeds of the sales count as liquidation proceeds; the cash moved to the bank counts as swept cash.
+  */
+  @Override protected void execute(DateTime when, Scenario sim) {
+    List<Sale> sales = sellStock(when, sim);
+    sim.yearlyCashFlows.liquidationProceeds = sim.yearlyCashFlows.liquidationProceeds.plus(totalProceedsOf(sales));
+    logMe(when, sales);
+    for(int idx = 0; idx < accounts.size(); ++idx) {
+      if (plannedGross[idx] > 0) {
+        Account account = accounts.get(idx);
+        moveToBank(account, Util.lesserOf(Money.fromCents(plannedGross[idx]), account.cash()), when, sim);
+      }
+    }
+  }
+
+  /**
+   Decide on the gross amount to take from each account, and sell shares in those accounts as needed
+   to have that amount of cash.
+   The cash isn't moved to the bank by this method.
+  */
+  @Override public List<Sale> sellStock(DateTime when, Scenario sim) {
+    plannedGross = planFor(when, sim);
+    List<Sale> result = new ArrayList<>();
+    for(int idx = 0; idx < accounts.size(); ++idx) {
+      if (plannedGross[idx] > 0) {
+        raiseCashIn(accounts.get(idx), Money.fromCents(plannedGross[idx]), sim, result);
+      }
+    }
+    return result;
+  }
+
+  @Override public String toString() {
+    return "LIQUIDATE (TAX-AWARE): ";
+  }
+
+  // PRIVATE
+
+  /** The target is split into this many steps. */
+  private static final int NUM_STEPS = 20;
+  /** Bounds the search, even when the tax rate is high. */
+  private static final int MAX_STEPS = 5 * NUM_STEPS;
+
+  private List<Account> accounts;
+  private List<Stock> stocks;
+  private Money netCash;
+
+  /** The gross amount to take from each account, in cents, from the most recent call to {@link #sellStock(DateTime, Scenario)}. */
+  private long[] plannedGross;
+  
+  /** The total tax payable for a given mix of RIF income, LIF income, and NRA sales. Cleared for each decision. */
+  private Map<List<Long>, Long> taxMemo = new HashMap<>();
+
+  private TaxAwareLiquidation(List<Account> accounts, List<Stock> stocks, Money netCash, String when) {
+    super(when);
+    this.accounts = accounts;
+    this.stocks = stocks;
+    this.netCash = netCash;
+  }
+
+  /** Return the gross amount to take from each account, in cents. */
+  private long[] planFor(DateTime when, Scenario sim) {
+    taxMemo.clear();
+    int numAccounts = accounts.size();
+    long[] result = new long[numAccounts];
+    long[] capacity = new long[numAccounts];
+    for(int idx = 0; idx < numAccounts; ++idx) {
+      capacity[idx] = capacityOf(accounts.get(idx), when, sim);
+    }
+    long target = netCash.asCents();
+    long step = Math.max(1, target / NUM_STEPS);
+    long baseTax = taxFor(result, sim);
+    long currentTax = baseTax;
+    for(int numSteps = 0; numSteps < MAX_STEPS; ++numSteps) {
+      long needed = target - (sum(result) - (currentTax - baseTax));
+      if (needed <= 0) break;
+      int best = -1;
+      long bestAmount = 0;
+      long bestTax = 0;
+      double bestRate = 0.0;
+      for(int idx = 0; idx < numAccounts; ++idx) {
+        long amount = Math.min(step, capacity[idx] - result[idx]);
+        if (amount > 0) {
+          result[idx] += amount;
+          long tax = taxFor(result, sim);
+          result[idx] -= amount;
+          double rate = (tax - currentTax) / (double)amount;
+          if (best == -1 || rate < bestRate) {
+            best = idx;
+            bestAmount = amount;
+            bestTax = tax;
+            bestRate = rate;
+          }
+        }
+      }
+      if (best == -1) break; //nothing left to sell
+      if (bestRate < 1.0 && bestAmount * (1.0 - bestRate) > needed) {
+        //the last step: take only what's needed, at the same marginal rate
+        bestAmount = (long)Math.ceil(needed / (1.0 - bestRate));
+        result[best] += bestAmount;
+        bestTax = taxFor(result, sim);
+        result[best] -= bestAmount;
+      }
+      result[best] += bestAmount;
+      currentTax = bestTax;
+    }
+    return result;
+  }
+
+  /** The most that can be taken from the account, in cents: cash, plus the stocks that may be sold. */
+  private long capacityOf(Account account, DateTime when, Scenario sim) {
+    long result = account.cash().asCents();
+    for(Stock stock : stocks) {
+      Optional<StockPosition> position = account.positionFor(stock);
+      if (position.isPresent()) {
+        result += position.get().marketValue().asCents();
+      }
+    }
+    if (account == sim.lif) {
+      if (when.lt(sim.lif.conversionDate())) {
+        result = 0;
+      }
+      else {
+        Money roomUnderMax = sim.lif.withdrawalMax(sim.lifValueJan1, when.getYear()).minus(sim.taxReturn.lifIncome());
+        result = Math.max(0, Math.min(result, roomUnderMax.asCents()));
+      }
+    }
+    return result;
+  }
+
+  /** The total tax payable for the year, if the given gross amounts were taken from the accounts. */
+  private long taxFor(long[] grossCents, Scenario sim) {
+    long rif = 0;
+    long lif = 0;
+    long gain = 0;
+    for(int idx = 0; idx < accounts.size(); ++idx) {
+      Account account = accounts.get(idx);
+      if (account == sim.lif) {
+        lif += grossCents[idx];
+      }
+      else if (account == sim.rif) {
+        rif += grossCents[idx];
+      }
+      else if (account == sim.nra) {
+        gain += capitalGainFor(grossCents[idx], (Nra)account);
+      }
+    }
+    List<Long> key = Arrays.asList(rif, lif, gain);
+    Long result = taxMemo.get(key);
+    if (result == null) {
+      result = sim.taxReturn.totalPayableWith(Money.fromCents(rif), Money.fromCents(lif), Money.fromCents(gain)).asCents();
+      taxMemo.put(key, result);
+    }
+    return result;
+  }
+
+  /**
+   The capital gain (or loss) from raising the given gross amount in the NRA.
+   Cash is used first, then the stocks in order. Each sale's gain is pro-rated using the book value.
+   Commissions are ignored.
+  */
+  private long capitalGainFor(long grossCents, Nra nra) {
+    double result = 0.0;
+    long remaining = grossCents - nra.cash().asCents();
+    for(Stock stock : stocks) {
+      if (remaining <= 0) break;
+      Optional<StockPosition> position = nra.positionFor(stock);
+      if (position.isPresent()) {
+        long marketValue = position.get().marketValue().asCents();
+        if (marketValue > 0) {
+          long sold = Math.min(remaining, marketValue);
+          long bookValue = nra.bookValueOf(stock).asCents();
+          result += sold * (marketValue - bookValue) / (double)marketValue;
+          remaining -= sold;
+        }
+      }
+    }
+    return Math.round(result);
+  }
+
+  /** Sell shares in the account, in the order of the stocks, until it has the given amount of cash (less commissions). */
+  private void raiseCashIn(Account account, Money gross, Scenario sim, List<Sale> sales) {
+    for(Stock stock : stocks) {
+      Money needed = gross.minus(account.cash());
+      if (!needed.isPlus()) break;
+      Optional<StockPosition> position = account.positionFor(stock);
+      if (position.isPresent()) {
+        Sale sale = new Sale();
+        sale.symbol = stock.symbol();
+        sale.account = account.getClass().getSimpleName();
+        Money marketValue = position.get().marketValue();
+        if (marketValue.lteq(needed)) {
+          sale.isPartial = Boolean.FALSE;
+          sale.numShares = position.get().numShares();
+        }
+        else {
+          sale.isPartial = Boolean.TRUE;
+          double price = stock.price().asDouble();
+          sale.numShares = Math.min(position.get().numShares(), (int)Math.ceil(needed.asDouble() / price));
+        }
+        if (sale.numShares > 0) {
+          sale.gross = stock.price().times(sale.numShares);
+          Money commission = sim.commission.commissionOn(sale.numShares, stock.price());
+          sale.proceeds = account.sellShares(sale.numShares, stock, commission);
+          sales.add(sale);
+        }
+      }
+    }
+  }
+
+  /** Withdrawals from a RIF or LIF may have withholding tax; only the net amount reaches the bank. */
+  private void moveToBank(Account account, Money gross, DateTime when, Scenario sim) {
+    if (gross.isPlus()) {
+      Money withheld = account.withdrawCash(gross, when);
+      Money net = gross.minus(withheld);
+      sim.bank.depositCash(net, when);
+      sim.yearlyCashFlows.cashSwept = sim.yearlyCashFlows.cashSwept.plus(net);
+      logMe(when, () -> "move " + gross + " from " + account.getClass().getSimpleName() + " to the bank, " + withheld + " withheld.");
+    }
+  }
+
+  private long sum(long[] values) {
+    long result = 0;
+    for(long value : values) {
+      result += value;
+    }
+    return result;
+  }
+
+  private Money totalProceedsOf(List<Sale> sales) {
+    Money result = Consts.ZERO;
+    for (Sale sale : sales) {
+      result = result.plus(sale.proceeds);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,72 @@
+package endgame.security.stock.price;
+
+import java.nio.file.Path;
+
+import endgame.util.RandomNumbers;
+import hirondelle.date4j.DateTime;
+
+/**
+ Annual growth rates are resampled from a series of historical annual returns, in blocks of consecutive years.
+
+ <P>Unlike {@link GaussianGrowthRate}, this keeps the fat tails of real markets, and (within a block) the runs of
+ good and bad years that matter for the sequence of returns.
+ Unlike {@link ExplicitGrowthList}, the series doesn't need to be pasted into the scenario file, and each history
+ sees a different sequence.
+
+ <P>At the start of each block, a random year is picked from the series; the following years in the block
+ use the years after it. If the end of the series is reached, it wraps around to the start (a circular block bootstrap).
+
+ <P>All stocks updated on the same date share the same historical year, as if they all tracked the same market.
+*/
+public final class BootstrapGrowthRate extends StockPricePolicyBase {
+
+  /**
+   Constructor.
+   @param file the text file of historical returns, relative to the project root. See {@link HistoricalReturns} for its format.
+   @param blockSize the number of consecutive historical years in each block, 1 or more.
+  */
+  public BootstrapGrowthRate(String file, Integer blockSize) {
+    if (blockSize < 1) {
+      throw new IllegalArgumentException("The block-size must be 1 or more: " + blockSize);
+    }
+    this.file = file;
+    this.blockSize = blockSize;
+    this.history = HistoricalReturns.forFile(Path.of(System.getProperty("user.dir")).resolve(file));
+  }
+
+  /** Returns the historical return for the next year in the current block. */
+  @Override public Double yearOverYearFractionalGrowth(DateTime when) {
+    if (!when.equals(lastUpdate)) {
+      nextYear();
+      lastUpdate = when;
+    }
+    return history.returnAt(cursor);
+  }
+
+  @Override public String toString() {
+    return "STOCK PRICES: bootstrap from " + file + " (" + history + "), block size:" + blockSize;
+  }
+
+  // PRIVATE
+
+  private final String file;
+  private final int blockSize;
+  private final HistoricalReturns history;
+
+  private DateTime lastUpdate;
+  /** Index of the current year in the historical series. */
+  private int cursor;
+  /** The number of years of the current block used so far. Starts full, to force a new block on first use. */
+  private int yearsIntoBlock = Integer.MAX_VALUE;
+
+  private void nextYear() {
+    if (yearsIntoBlock >= blockSize) {
+      cursor = RandomNumbers.current().nextInt(history.numYears());
+      yearsIntoBlock = 1;
+    }
+    else {
+      cursor = (cursor + 1) % history.numYears();
+      ++yearsIntoBlock;
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package endgame.security.stock.price;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import endgame.model.Money;
+import endgame.security.stock.Stock;
+import endgame.util.RandomNumbers;
+import endgame.util.Util;
+import hirondelle.date4j.DateTime;
+
+/**
+ The annual growth rates of all stocks have a joint 'normal' (Gaussian) distribution.
+ Each stock has its own mean and standard deviation, and each pair of stocks can have a correlation.
+
+ <P>With {@link GaussianGrowthRate}, each stock's growth is independent of the others.
+ In the real world, stocks in the same sector (banks, utilities) tend to rise and fall together.
+
+ <P>The correlation matrix is factored once (Cholesky), as L times its transpose.
+ Each year, a vector of independent standard normals z is drawn, and the correlated vector is L times z.
+ The growth rates of all stocks are generated together, in a single batch.
+
+ <P>Every stock in the scenario must have a mean and a standard deviation.
+ Pairs of stocks that have no stated correlation are uncorrelated.
+*/
+public final class CorrelatedGaussianGrowthRate implements StockPricePolicy {
+
+  /**
+   Factory method.
+   @param stocks all of the stocks in the scenario, in the order of their ids.
+   @param means the mean growth rate of each stock, as a percent, for example '5.0%'.
+   @param standardDeviations the standard deviation of the growth rate of each stock, as a percent.
+   @param correlations the correlation between pairs of stocks, as a percent, for example '60%' for 0.6.
+   See {@link #addCorrelation(Map, Stock, Stock, String)}.
+  */
+  public static CorrelatedGaussianGrowthRate valueOf(
+    List<Stock> stocks, Map<Stock, String> means, Map<Stock, String> standardDeviations, Map<List<Stock>, String> correlations
+  ) {
+    return new CorrelatedGaussianGrowthRate(stocks, means, standardDeviations, correlations);
+  }
+
+  /** Add the correlation for a pair of different stocks, in either order. The value is a percent, from -100% to 100%. */
+  public static void addCorrelation(Map<List<Stock>, String> correlations, Stock a, Stock b, String percent) {
+    if (a == b) {
+      throw new IllegalArgumentException("The correlation of a stock with itself is always 100%: " + a.symbol());
+    }
+    if (correlations.containsKey(List.of(a, b)) || correlations.containsKey(List.of(b, a))) {
+      throw new IllegalArgumentException("The correlation is given more than once for " + a.symbol() + " and " + b.symbol());
+    }
+    correlations.put(List.of(a, b), percent);
+  }
+
+  /** Update the prices of all of the given stocks, using a single batch of correlated growth rates. */
+  @Override public List<Money> updateThePricesOf(List<Stock> stocks, DateTime when) {
+    double[] batch = nextBatchOfRates();
+    List<Money> result = new ArrayList<>();
+    for (Stock stock : stocks) {
+      result.add(StockPricePolicyBase.updatePrice(stock, batch[indexOf(stock)], when));
+      used[indexOf(stock)] = true;
+    }
+    return result;
+  }
+
+  /**
+   Update the price of a single stock.
+   The rate comes from the current batch, if the stock hasn't used it yet; otherwise a new batch is generated.
+  */
+  @Override public Money updateThePriceOfThe(Stock stock, DateTime when) {
+    int idx = indexOf(stock);
+    if (rates == null || used[idx]) {
+      rates = nextBatchOfRates();
+    }
+    used[idx] = true;
+    return StockPricePolicyBase.updatePrice(stock, rates[idx], when);
+  }
+
+  @Override public String toString() {
+    return "STOCK PRICES: correlated gaussian growth rate, num stocks:" + numStocks;
+  }
+
+  // PRIVATE
+
+  private final int numStocks;
+  private final double[] means;
+  private final double[] standardDeviations;
+  /** The lower-triangular Cholesky factor of the correlation matrix, row by row. */
+  private final double[] cholesky;
+
+  /** The current batch of growth rates, indexed by stock id. */
+  private double[] rates;
+  /** Tracks which stocks have already used their rate from the current batch. */
+  private boolean[] used;
+
+  private CorrelatedGaussianGrowthRate(
+    List<Stock> stocks, Map<Stock, String> means, Map<Stock, String> standardDeviations, Map<List<Stock>, String> correlations
+  ) {
+    this.numStocks = stocks.size();
+    this.means = new double[numStocks];
+    this.standardDeviations = new double[numStocks];
+    for (Stock stock : stocks) {
+      if (!means.containsKey(stock) || !standardDeviations.containsKey(stock)) {
+        throw new IllegalArgumentException("Correlated gaussian stock prices: no mean and std-dev for the stock " + stock.symbol());
+      }
+      this.means[stock.id()] = Util.percentFrom(means.get(stock));
+      this.standardDeviations[stock.id()] = Util.percentFrom(standardDeviations.get(stock));
+    }
+    this.cholesky = choleskyFactorOf(correlationMatrix(correlations));
+    this.used = new boolean[numStocks];
+  }
+
+  private int indexOf(Stock stock) {
+    if (stock.id() >= numStocks) {
+      throw new IllegalArgumentException("Correlated gaussian stock prices: unknown stock " + stock.symbol());
+    }
+    return stock.id();
+  }
+
+  /** Full symmetric matrix, row by row, with 1 on the diagonal. */
+  private double[] correlationMatrix(Map<List<Stock>, String> correlations) {
+    double[] result = new double[numStocks * numStocks];
+    for (int i = 0; i < numStocks; ++i) {
+      result[i * numStocks + i] = 1.0;
+    }
+    for (Map.Entry<List<Stock>, String> entry : correlations.entrySet()) {
+      int a = indexOf(entry.getKey().get(0));
+      int b = indexOf(entry.getKey().get(1));
+      double rho = Util.percentFrom(entry.getValue());
+      if (rho < -1.0 || rho > 1.0) {
+        throw new IllegalArgumentException("Correlation must be in the range -100%..100%: " + entry.getValue());
+      }
+      result[a * numStocks + b] = rho;
+      result[b * numStocks + a] = rho;
+    }
+    return result;
+  }
+
+  /** Cholesky-Banachiewicz. Fails if the matrix isn't positive definite. */
+  private double[] choleskyFactorOf(double[] matrix) {
+    int n = numStocks;
+    double[] result = new double[n * n];
+    for (int i = 0; i < n; ++i) {
+      for (int j = 0; j <= i; ++j) {
+        double sum = matrix[i * n + j];
+        for (int k = 0; k < j; ++k) {
+          sum = sum - result[i * n + k] * result[j * n + k];
+        }
+        if (i == j) {
+          if (sum <= 0.0) {
+            throw new IllegalArgumentException("The correlations between the stocks are not consistent with each other (the matrix is not positive definite).");
+          }
+          result[i * n + i] = Math.sqrt(sum);
+        }
+        else {
+          result[i * n + j] = sum / result[j * n + j];
+        }
+      }
+    }
+    return result;
+  }
+
+  /** One growth rate for each stock, from a single vector of standard normals. */
+  private double[] nextBatchOfRates() {
+    RandomGenerator generator = RandomNumbers.current();
+    double[] z = new double[numStocks];
+    for (int i = 0; i < numStocks; ++i) {
+      z[i] = generator.nextGaussian();
+    }
+    double[] result = new double[numStocks];
+    for (int i = 0; i < numStocks; ++i) {
+      double correlated = 0.0;
+      for (int j = 0; j <= i; ++j) {
+        correlated = correlated + cholesky[i * numStocks + j] * z[j];
+      }
+      result[i] = means[i] + standardDeviations[i] * correlated;
+    }
+    rates = result;
+    used = new boolean[numStocks];
+    return result;
+  }
+}
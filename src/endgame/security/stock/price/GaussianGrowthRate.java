@@ -1,7 +1,8 @@
 package endgame.security.stock.price;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+import endgame.util.RandomNumbers;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
 
@@ -32,7 +33,7 @@ public final class GaussianGrowthRate extends StockPricePolicyBase {
   private Double standardDeviation; //not the variance!
   
   private Double randomRateNormalDistribution() {
-    ThreadLocalRandom generator = ThreadLocalRandom.current();
+    RandomGenerator generator = RandomNumbers.current();
     return mean + generator.nextGaussian() * standardDeviation;
   }
 }
@@ -0,0 +1,120 @@
+package endgame.security.stock.price;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import endgame.util.CompiledTable;
+import endgame.util.Log;
+import endgame.util.Util;
+
+/**
+ A series of historical annual returns, read from a text file, one year per line.
+
+ <P>The text file is compiled to a binary file the first time it's read (see {@link CompiledTable}).
+ The returns are then held in memory as a primitive array, and shared by all histories and scenarios in the JVM.
+ This object is immutable, so it can be shared between threads.
+
+ <P>Example of the text file:
+ <pre>
+ # year, total return
+ 1971,7.99%
+ 1972,23.52%
+ 1973,-6.66%
+ </pre>
+ The years must be in order, with no gaps.
+ A return can have up to 4 decimal places.
+*/
+final class HistoricalReturns {
+
+  /** Return the historical returns in the given file. The file is read only once per JVM. */
+  static HistoricalReturns forFile(Path textFile) {
+    return REGISTRY.computeIfAbsent(textFile.toAbsolutePath().normalize(), HistoricalReturns::load);
+  }
+
+  /** The number of years in the series. */
+  int numYears() { return returns.length; }
+
+  /** The return for the year at the given index, as a fraction (0.05 for 5%). The first year has index 0. */
+  double returnAt(int index) { return returns[index]; }
+
+  @Override public String toString() {
+    return firstYear + ".." + (firstYear + returns.length - 1);
+  }
+
+  // PRIVATE
+
+  private static final ConcurrentMap<Path, HistoricalReturns> REGISTRY = new ConcurrentHashMap<>();
+
+  /** The returns are stored in the binary file as parts per million. */
+  private static final int DECIMAL_PLACES = 6;
+  private static final double PARTS_PER_UNIT = 1_000_000.0;
+
+  private final int firstYear;
+  private final double[] returns;
+
+  private HistoricalReturns(long[] years, long[] partsPerMillion) {
+    if (years.length < 2) {
+      throw new IllegalArgumentException("The file of historical returns needs at least 2 years of data: " + years.length);
+    }
+    this.firstYear = (int)years[0];
+    this.returns = new double[years.length];
+    for (int idx = 0; idx < years.length; ++idx) {
+      if (years[idx] != firstYear + idx) {
+        throw new IllegalArgumentException("The years in the file of historical returns must be in order, with no gaps. Unexpected year: " + years[idx]);
+      }
+      this.returns[idx] = partsPerMillion[idx] / PARTS_PER_UNIT;
+    }
+  }
+
+  private static HistoricalReturns load(Path textFile) {
+    Log.log("Reading file " + textFile);
+    long[][] columns = CompiledTable.load(textFile, HistoricalReturns::parseLines);
+    return new HistoricalReturns(columns[0], columns[1]);
+  }
+
+  /** Return two columns: the year, and the return in parts per million. */
+  private static long[][] parseLines(List<String> lines) {
+    Map<Integer, Long> table = new LinkedHashMap<>();
+    for (String line : lines) {
+      if (Util.isPresent(line)) {
+        if (!line.trim().startsWith("#")) {
+          addLineTo(table, line);
+        }
+      }
+    }
+    long[] years = new long[table.size()];
+    long[] returns = new long[table.size()];
+    int idx = 0;
+    for (Integer year : table.keySet()) {
+      years[idx] = year;
+      returns[idx] = table.get(year);
+      ++idx;
+    }
+    return new long[][] {years, returns};
+  }
+
+  /* 1971,7.99%  */
+  private static void addLineTo(Map<Integer, Long> table, String line) {
+    try {
+      int comma = line.indexOf(",");
+      Integer year = Integer.valueOf(line.substring(0, comma).trim());
+      String percent = line.substring(comma + 1).trim();
+      if (!percent.endsWith("%")) {
+        throw new IllegalArgumentException("The return doesn't end in '%'");
+      }
+      BigDecimal fraction = new BigDecimal(percent.substring(0, percent.length() - 1)).movePointLeft(2);
+      Long partsPerMillion = fraction.movePointRight(DECIMAL_PLACES).longValueExact();
+      if (table.put(year, partsPerMillion) != null) {
+        throw new IllegalArgumentException("The year is repeated");
+      }
+    }
+    catch(Throwable ex) {
+      throw new RuntimeException(ex + " Can't parse the line in the file of historical returns: " + line);
+    }
+  }
+}
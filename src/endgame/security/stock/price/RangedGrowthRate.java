@@ -1,7 +1,8 @@
 package endgame.security.stock.price;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
+import endgame.util.RandomNumbers;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
 
@@ -30,7 +31,7 @@ public final class RangedGrowthRate extends StockPricePolicyBase {
   private Double percentUpperLimit;
   
   private Double randomRateInRange() {
-    ThreadLocalRandom generator = ThreadLocalRandom.current();
+    RandomGenerator generator = RandomNumbers.current();
     return generator.nextDouble(percentLowerLimit, percentUpperLimit);
   }
 }
\ No newline at end of file
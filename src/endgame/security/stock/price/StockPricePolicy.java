@@ -1,5 +1,8 @@
 package endgame.security.stock.price;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import endgame.model.Money;
 import endgame.security.stock.Stock;
 import hirondelle.date4j.DateTime;
@@ -24,4 +27,20 @@ public interface StockPricePolicy {
   */
   public Money updateThePriceOfThe(Stock stock, DateTime when);
   
+  /**
+   Change the current price of all of the given stocks, on the same date.
+   Return the new prices, in the same order as the given stocks.
+   
+   <P>The default implementation simply calls {@link #updateThePriceOfThe(Stock, DateTime)} for each stock.
+   Policies that generate the prices of all stocks together (for example, when the stocks are correlated) 
+   override this method.
+  */
+  public default List<Money> updateThePricesOf(List<Stock> stocks, DateTime when) {
+    List<Money> result = new ArrayList<>();
+    for (Stock stock : stocks) {
+      result.add(updateThePriceOfThe(stock, when));
+    }
+    return result;
+  }
+  
 }
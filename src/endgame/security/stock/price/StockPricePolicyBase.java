@@ -12,12 +12,7 @@ public abstract class StockPricePolicyBase implements StockPricePolicy {
    The year-over-year growth is applied to the current price of the stock. 
   */
   @Override public Money updateThePriceOfThe(Stock stock, DateTime when) {
-    Double fractionalGrowth = yearOverYearFractionalGrowth(when);
-    Double yearlyMultiplier = 1 + fractionalGrowth;
-    Money currentPrice = stock.price();
-    Money newPrice = currentPrice.times(yearlyMultiplier);
-    stock.updatePrice(newPrice, when);
-    return newPrice;
+    return updatePrice(stock, yearOverYearFractionalGrowth(when), when);
   }
   
   /** 
@@ -30,4 +25,16 @@ public abstract class StockPricePolicyBase implements StockPricePolicy {
    on a given year.
   */
   public abstract Double yearOverYearFractionalGrowth(DateTime when);
+  
+  /** 
+   Apply the given yearly growth to the current price of the stock, and return the new price.
+   Also used by policies that don't have a single growth rate for all stocks.
+  */
+  protected static Money updatePrice(Stock stock, double fractionalGrowth, DateTime when) {
+    Double yearlyMultiplier = 1 + fractionalGrowth;
+    Money currentPrice = stock.price();
+    Money newPrice = currentPrice.times(yearlyMultiplier);
+    stock.updatePrice(newPrice, when);
+    return newPrice;
+  }
 }
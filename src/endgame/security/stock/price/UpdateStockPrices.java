@@ -1,5 +1,8 @@
 package endgame.security.stock.price;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import endgame.Scenario;
 import endgame.model.Money;
 import endgame.security.stock.Stock;
@@ -21,10 +24,21 @@ public final class UpdateStockPrices extends Transactional {
 
   /** Update all stock prices, on December 31 of each year. */
   @Override protected void execute(DateTime when, Scenario sim) {
-    for(Stock stock : sim.stocks) {
-      Money oldPrice = stock.price();
-      Money newPrice = sim.stockPrices.updateThePriceOfThe(stock, when);
-      Log.log(when + ":" + this  + " " + stock.symbol() + " " + newPrice + " [" + percent(oldPrice, newPrice) + "%]");
+    //the old prices are needed only for logging
+    boolean isLogged = Log.isEnabled(Log.Level.TRACE);
+    List<Money> oldPrices = new ArrayList<>();
+    if (isLogged) {
+      for(Stock stock : sim.stocks) {
+        oldPrices.add(stock.price());
+      }
+    }
+    //all stocks at once, since the policy may generate their prices together
+    List<Money> newPrices = sim.stockPrices.updateThePricesOf(sim.stocks, when);
+    if (isLogged) {
+      for(int idx = 0; idx < sim.stocks.size(); ++idx) {
+        Stock stock = sim.stocks.get(idx);
+        Log.log(when + ":" + this  + " " + stock.symbol() + " " + newPrices.get(idx) + " [" + percent(oldPrices.get(idx), newPrices.get(idx)) + "%]");
+      }
     }
   }
   
@@ -1,5 +1,7 @@
 package endgame.security.stock.transaction;
 
+import java.util.Optional;
+
 import endgame.Scenario;
 import endgame.account.Account;
 import endgame.model.Money;
@@ -19,20 +21,21 @@ public final class DividendPayment extends Transactional {
   
   /** 
    A stock automatically pays a periodic dividend to all accounts that hold a position in the stock.
+   Only the holders of the stock are visited; see {@link Stock#holders()}.
    
    In this simulation, the dividend increases by the same fixed percentage each year.
    With many blue-chip dividend stocks, this is an imperfect but fair approximation.  
   */
   @Override protected void execute(DateTime when, Scenario sim) {
-    for (Account account : sim.investmentAccounts()) {
-      for (StockPosition sp : account.stockPositions()) {
-        if (sp.stock().symbol().equals(stock.symbol())) {
-          Money dividendPerShare = thisYearsDividend(new DateTime(sim.startDate), when);
-          Money amount = dividendPerShare.times(sp.numShares());
-          account.dividend(amount);
-          sim.yearlyCashFlows.dividends = sim.yearlyCashFlows.dividends.plus(amount);
-          Log.log(when + ":DIVIDEND: " +  stock.symbol() +  " " + account.getClass().getSimpleName() + " " + sp.numShares() + "@" + dividendPerShare + " = "  + amount);
-        }
+    Money dividendPerShare = dividendPerShareFor(when, sim);
+    for (Account account : stock.holders()) {
+      Optional<StockPosition> position = account.positionFor(stock);
+      if (position.isPresent()) {
+        StockPosition sp = position.get();
+        Money amount = dividendPerShare.times(sp.numShares());
+        account.dividend(amount);
+        sim.yearlyCashFlows.dividends = sim.yearlyCashFlows.dividends.plus(amount);
+        Log.trace(() -> when + ":DIVIDEND: " +  stock.symbol() +  " " + account.getClass().getSimpleName() + " " + sp.numShares() + "@" + dividendPerShare + " = "  + amount);
       }
     }
   }
@@ -42,6 +45,21 @@ public final class DividendPayment extends Transactional {
   }
   
   private Stock stock;
+  
+  /** The per-share dividend is calculated only once per year (and again after a stock split). */
+  private Integer perShareYear;
+  private Money perShareBaseAmount;
+  private Money perShare;
+  
+  private Money dividendPerShareFor(DateTime when, Scenario sim) {
+    Money baseAmount = stock.dividend().getAmount();
+    if (perShare == null || !when.getYear().equals(perShareYear) || !baseAmount.eq(perShareBaseAmount)) {
+      perShare = thisYearsDividend(new DateTime(sim.startDate), when);
+      perShareYear = when.getYear();
+      perShareBaseAmount = baseAmount;
+    }
+    return perShare;
+  }
 
   /** 
    Increases by the same fixed percentage, year after year. 
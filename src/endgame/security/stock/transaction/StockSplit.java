@@ -5,7 +5,6 @@ import java.util.Set;
 import endgame.Scenario;
 import endgame.account.Account;
 import endgame.security.stock.Stock;
-import endgame.security.stock.StockPosition;
 import endgame.transaction.Transactional;
 import hirondelle.date4j.DateTime;
 
@@ -30,14 +29,9 @@ public final class StockSplit extends Transactional {
       target.stockSplit(factor);
       
       for(Account account : sim.investmentAccounts()) {
-        for(StockPosition stockPosition : account.stockPositions()) {
-          if(stockPosition.stock().symbol().equalsIgnoreCase(ticker)) {
-            Integer currentNum = stockPosition.numShares();
-            Integer newNum = currentNum * factor;
-            Integer increase = newNum - currentNum;
-            stockPosition.increase(increase);
-            logMe(when, account.getClass().getSimpleName() + " " + ticker + " position increased from " + currentNum + " to " + stockPosition.numShares());
-          }
+        Integer currentNum = account.splitShares(target, factor);
+        if (currentNum > 0) {
+          logMe(when, () -> account.getClass().getSimpleName() + " " + ticker + " position increased from " + currentNum + " to " + currentNum * factor);
         }
       }
     }
@@ -0,0 +1,124 @@
+package endgame.survival;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import endgame.util.CompiledTable;
+import endgame.util.Consts;
+import endgame.util.Log;
+import endgame.util.Util;
+
+/**
+ The lx life table for one sex: the number of survivors at each age, out of a cohort of 100,000 at birth.
+ See the package level comments for more details.
+
+ <P>This class is immutable, and can be shared between threads.
+*/
+public final class LifeTable {
+
+  /** Read the table for the given sex from the <code>input</code> directory. */
+  public static LifeTable load(String projectRoot, Sex sex) {
+    Path fileLocation = Path.of(projectRoot, "input", "probability-of-survival", sex.name().toLowerCase() + "-lx.utf8");
+    Log.log("Reading file " + fileLocation);
+    long[][] columns = CompiledTable.load(fileLocation, LifeTable::parseLines);
+    return new LifeTable(columns[0], columns[1]);
+  }
+
+  /** The first age in the table (0). */
+  public int firstAge() { return firstAge; }
+
+  /** The last age in the table. The last row of the file is actually for that age 'and over'. */
+  public int lastAge() { return firstAge + cohortPopulations.length - 1; }
+
+  /** The number of survivors at the given age. Returns null if the age is not in the table. */
+  public Integer cohortPopulation(int age) {
+    Integer result = null;
+    if (firstAge <= age && age <= lastAge()) {
+      result = cohortPopulations[age - firstAge];
+    }
+    return result;
+  }
+
+  /**
+   The first age, at or after the given age, at which the cohort population is at or below the given size.
+   Returns the age after the last age in the table, if there's no such age.
+   Since the cohort population never increases with age, this is a binary search.
+  */
+  public int firstAgeWithCohortAtOrBelow(double population, int fromAge) {
+    int low = Math.max(fromAge, firstAge) - firstAge;
+    int high = cohortPopulations.length; //exclusive
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cohortPopulations[mid] <= population) {
+        high = mid;
+      }
+      else {
+        low = mid + 1;
+      }
+    }
+    return firstAge + low;
+  }
+
+  // PRIVATE
+
+  private final int firstAge;
+  /** Indexed by the age, offset by the first age. */
+  private final int[] cohortPopulations;
+
+  private LifeTable(long[] ages, long[] cohortPopulations) {
+    this.firstAge = (int)ages[0];
+    this.cohortPopulations = new int[ages.length];
+    for (int idx = 0; idx < ages.length; ++idx) {
+      if (ages[idx] != firstAge + idx) {
+        throw new IllegalArgumentException("The ages in the 'lx' life table file must be in order, with no gaps. Unexpected age: " + ages[idx]);
+      }
+      this.cohortPopulations[idx] = (int)cohortPopulations[idx];
+    }
+  }
+
+  /** Return two columns: the age, and the corresponding cohort population. */
+  private static long[][] parseLines(List<String> lines) {
+    Map<Integer, Integer> table = new LinkedHashMap<>();
+    for (String line : lines) {
+      if (Util.isPresent(line)) {
+        if (!line.trim().startsWith("#")) {
+          addLineTo(table, line);
+        }
+      }
+    }
+    long[] ages = new long[table.size()];
+    long[] cohortPopulations = new long[table.size()];
+    int idx = 0;
+    for (Integer age : table.keySet()) {
+      ages[idx] = age;
+      cohortPopulations[idx] = table.get(age);
+      ++idx;
+    }
+    return new long[][] {ages, cohortPopulations};
+  }
+
+  /*
+   "0 years","100,000"
+   "1 year","99,515"
+    ..
+   "109 years","12"
+   "110 years and over","6"
+   */
+  private static void addLineTo(Map<Integer, Integer> table, String line) {
+    int comma = line.indexOf(",");
+    try {
+      String age = line.substring(0,comma).trim();
+      int space = age.indexOf(Consts.SPACE);
+      Integer yearsOfAge = Integer.valueOf(age.substring(1,space));
+
+      String cohortSize = line.substring(comma+1).trim().replace(",", "");
+      Integer cohortPopulation = Integer.valueOf(cohortSize.substring(1, cohortSize.length()-1));
+      table.put(yearsOfAge, cohortPopulation);
+    }
+    catch(Throwable ex ) {
+      throw new RuntimeException(ex + " Can't parse the line in the 'lx' life table file: " + line);
+    }
+  }
+}
@@ -1,28 +1,16 @@
 package endgame.survival;
 
-import java.io.IOException;
-import java.nio.file.Path;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
 
 import endgame.Scenario;
-import endgame.util.Consts;
-import endgame.util.Log;
-import endgame.util.Util;
+import endgame.util.RandomNumbers;
 import hirondelle.date4j.DateTime;
 
 /** See package level comments for more details. */
 public final class Survival {
 
-  /** Called upon startup, to read in data tables. */
-  public static void populateTables(String projectRoot) {
-    populate(Sex.MALE, projectRoot);
-    populate(Sex.FEMALE, projectRoot);
-  }
-  
   /**
    Return true only if the person has survived the current year of the simulation.
    This test is performed only on December 31 of each year.
@@ -34,14 +22,37 @@ public final class Survival {
     if (sim.annualTestForSurvival) {
       DateTime dob = new DateTime(sim.dateOfBirth);
       Integer ageOnDec31 = currentYear - dob.getYear();
-      double p = probabilityOfSurvivingAnotherYear(ageOnDec31 - 1, sim.sex); // [0..1]
-      ThreadLocalRandom generator = ThreadLocalRandom.current();
-      double r = generator.nextDouble(); // [0..1)
+      double p = probabilityOfSurvivingAnotherYear(ageOnDec31 - 1, tableFor(sim)); // [0..1]
+      double r = RandomNumbers.current().nextDouble(); // [0..1)
       result = (r < p);
     }
     return result;
   }
   
+  /**
+   Sample the person's year of death once, at the start of a history.
+   Controlled by {@link Scenario#sampledYearOfDeath}.
+   This is an alternative to calling {@link #hasSurvivedThe(Integer, Scenario)} every year, with the same probabilities.
+   
+   <P>The lx table is already cumulative: the chance of surviving from one age to a later age is the ratio of 
+   the two cohort populations. So a single random number r picks the first age at which the cohort has shrunk to 
+   r times its size at the start of the simulation (inverse CDF).
+   
+   @return the year of death; the person dies on December 31 of that year. 
+   Can be after the end of the simulation.
+  */
+  public Integer sampleYearOfDeath(Scenario sim) {
+    DateTime dob = new DateTime(sim.dateOfBirth);
+    int startYear = new DateTime(sim.startDate).getYear();
+    int ageOnFirstDec31 = startYear - dob.getYear();
+    LifeTable table = tableFor(sim);
+    //same starting point as the first yearly test: surviving from (age - 1) to age
+    Integer startCohortPopulation = table.cohortPopulation(ageOnFirstDec31 - 1);
+    double r = RandomNumbers.current().nextDouble(); // [0..1)
+    int ageAtDeath = table.firstAgeWithCohortAtOrBelow(r * startCohortPopulation, ageOnFirstDec31);
+    return dob.getYear() + ageAtDeath;
+  }
+  
   /**
    The relative probability of a Canadian surviving from the start-year of the simulation to future years.
    ({@link Scenario.sex} is used here.) 
@@ -64,12 +75,12 @@ public final class Survival {
     Integer startAge = new DateTime(sim.startDate).getYear() - dob.getYear(); 
     Integer endAge = new DateTime(sim.endDate).getYear() - dob.getYear();
     
-    Map<Integer /*age*/, Integer> table = tableFor(sim.sex);
-    Integer startCohortPopulation = table.get(startAge); //assumption: monotonic decreasing from start-year
+    LifeTable table = tableFor(sim);
+    Integer startCohortPopulation = table.cohortPopulation(startAge); //assumption: monotonic decreasing from start-year
     Double scaleFactor = maxValue.isPresent() ? maxValue.get() / startCohortPopulation : 1.0; //avoid int div
-    for(Integer age : table.keySet()) {
+    for(int age = table.firstAge(); age <= table.lastAge(); ++age) {
       if (startAge <= age && age <= endAge) {
-        Double val = scaleFactor * table.get(age).doubleValue();
+        Double val = scaleFactor * table.cohortPopulation(age).doubleValue();
         val = Math.round(val * 100.0) / 100.0; //round to 2 decimal places
         int year = age + dob.getYear();
         result.put(year, val);
@@ -78,61 +89,43 @@ public final class Survival {
     return result;
   }
   
-  //PRIVATE 
-  
-  /** Static because it's read from files upon startup, and needs to be long-lived. */
-  private static Map<Integer /*age*/, Integer/*cohort population, originally 100,000*/> MALE_LX = new LinkedHashMap<>();
-  private static Map<Integer, Integer> FEMALE_LX = new LinkedHashMap<>();
-  
-  private static Map<Integer, Integer> tableFor(Sex sex){
-    return Sex.MALE == sex ? MALE_LX : FEMALE_LX;
-  }
-  
-  private static void populate(Sex sex, String projectRoot) {
-    Map<Integer, Integer> table = tableFor(sex);
-    try {
-      Path fileLocation = Path.of(projectRoot, "input", "probability-of-survival", sex.name().toLowerCase() + "-lx.utf8");
-      Log.log("Reading file " + fileLocation);
-      List<String> lines = Util.read(fileLocation.toString());
-      for (String line : lines) {
-        if (Util.isPresent(line)) {
-          if (!line.trim().startsWith("#")) {
-            addLineTo(table, line);
-          }
-        }
-      }
-    }
-    catch(IOException ex) {
-      throw new RuntimeException(ex.getMessage());
+  /**
+   The probability that the person is still alive during each year of the simulation, as seen from its start-date.
+   Used by {@link Scenario#survivalWeightedExpectedValues}.
+
+   <P>This matches {@link #hasSurvivedThe(Integer, Scenario)}: a year's data is recorded on December 31, before the
+   test for that year is performed. So the data for a given year is present only if the person has survived
+   the tests for all of the <em>previous</em> years. The first year always has a probability of 1.
+
+   @return the key of the returned map is a year, from the start-year to the end-year of the simulation.
+   The value is a probability in [0..1].
+  */
+  public Map<Integer /*year*/, Double /*prob*/> probabilityOfBeingAliveIn(Scenario sim){
+    Map<Integer, Double> result = new LinkedHashMap<>();
+    DateTime dob = new DateTime(sim.dateOfBirth);
+    int startYear = new DateTime(sim.startDate).getYear();
+    int endYear = new DateTime(sim.endDate).getYear();
+    LifeTable table = tableFor(sim);
+    //same starting point as the first yearly test: surviving from (age - 1) to age
+    double startCohortPopulation = table.cohortPopulation(startYear - dob.getYear() - 1).doubleValue();
+    for(int year = startYear; year <= endYear; ++year) {
+      Integer cohortPopulation = table.cohortPopulation(year - dob.getYear() - 1);
+      double prob = cohortPopulation == null ? 0.0 : cohortPopulation / startCohortPopulation;
+      result.put(year, prob);
     }
+    return result;
   }
-  
-  /*
-   "0 years","100,000"
-   "1 year","99,515"
-    ..
-   "109 years","12"
-   "110 years and over","6"
-   */
-  private static void addLineTo(Map<Integer, Integer> table, String line) {
-    int comma = line.indexOf(",");
-    try {
-      String age = line.substring(0,comma).trim();
-      int space = age.indexOf(Consts.SPACE);
-      Integer yearsOfAge = Integer.valueOf(age.substring(1,space));
-      
-      String cohortSize = line.substring(comma+1).trim().replace(",", ""); 
-      Integer cohortPopulation = Integer.valueOf(cohortSize.substring(1, cohortSize.length()-1));
-      table.put(yearsOfAge, cohortPopulation);
-    }
-    catch(Throwable ex ) {
-      throw new RuntimeException(ex + " Can't parse the line in the 'lx' life table file: " + line);
-    }
+
+  //PRIVATE
+
+  /** The life table is reference data, shared by all scenarios. */
+  private static LifeTable tableFor(Scenario sim){
+    return sim.referenceData.lifeTableFor(sim.sex);
   }
   
   /** Return the probability that a Canadian of a given age and sex will survive one more year. */
-  private Double probabilityOfSurvivingAnotherYear(Integer age, Sex sex) {
-    return probabilityOfSurvivingToTargetAge(age, age+1, sex);
+  private Double probabilityOfSurvivingAnotherYear(Integer age, LifeTable table) {
+    return probabilityOfSurvivingToTargetAge(age, age+1, table);
   }
  
   /**
@@ -144,14 +137,14 @@ public final class Survival {
    <p>This data is not dependent on the scenario details. 
    It's merely the life-table data presented in a useful way that many people would want to see.
   */
-  private Map<Integer /*start-age*/, Map<Integer /*target-age*/, Double /*prob-of-survival*/>> probabilityOfSurvivalTable(Sex sex){
+  private Map<Integer /*start-age*/, Map<Integer /*target-age*/, Double /*prob-of-survival*/>> probabilityOfSurvivalTable(LifeTable table){
     Map<Integer, Map<Integer, Double>> result = new LinkedHashMap<>();
     int START = 50;
     int END = 100;
     for(int startAge = START; startAge <= END; ++startAge) {
       Map<Integer,Double> map = new LinkedHashMap<>(); 
       for(int targetAge = startAge + 1; targetAge <= END+1; ++targetAge) {
-        double prob = probabilityOfSurvivingToTargetAge(startAge, targetAge, sex);
+        double prob = probabilityOfSurvivingToTargetAge(startAge, targetAge, table);
         map.put(targetAge, prob);
       }
       result.put(startAge, map);
@@ -160,10 +153,9 @@ public final class Survival {
   }
   
   /** Return the probability that a Canadian of a given age and sex will survive to a later target age. */
-  private Double probabilityOfSurvivingToTargetAge(Integer startingAge, Integer targetAge, Sex sex) {
-    Map<Integer, Integer> table = tableFor(sex);
-    Integer popAtStartingAge = table.get(startingAge);
-    Integer popAtTargetAge = table.get(targetAge);
+  private Double probabilityOfSurvivingToTargetAge(Integer startingAge, Integer targetAge, LifeTable table) {
+    Integer popAtStartingAge = table.cohortPopulation(startingAge);
+    Integer popAtTargetAge = table.cohortPopulation(targetAge);
     double result = popAtTargetAge.doubleValue() / popAtStartingAge.doubleValue(); // AVOID INTEGER DIVISION
     return result;
   }
@@ -1,168 +1,186 @@
 package endgame.tax;
 
-import static endgame.util.Consts.*;
-import static java.util.stream.Collectors.toList;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Predicate;
+import java.util.Arrays;
 
 import endgame.model.Money;
 import endgame.util.Log;
 
 /**
  Offset capital gains with capital losses, in order to reduce capital gains tax.
- 
- This object is long-lived, lasts over multiple years, and stores all gains and losses until death 
+
+ This object is long-lived, lasts over multiple years, and stores all gains and losses until death
  (or the end of the run).
- 
- The metaphor is that of two buckets, one for gains and one for losses.
- The losses can offset a corresponding gain.
- A loss can be applied to a gain that is up to 3 years old.
- There's no time limit or expiry on losses. 
- 
+
+ <P>The data is kept as a ledger with one row per year, not one row per sale.
+ All gains and losses in a given year are simply added together, so the cost of the calculation
+ doesn't depend on the number of sales.
+ The rows are primitive arrays (in cents), indexed by the number of years since the first year seen.
+
+ <P>At the end of a year, its net result is settled:
+ <ul>
+  <li>a net gain is first offset by the pool of unused net capital losses from previous years (carry-forward);
+  whatever remains of the gain is taxed, and stays available to absorb a future carry-back.
+  <li>a net loss is first applied to the unabsorbed net gains of the previous 3 years (carry-back),
+  oldest year first; the rest is added to the pool of unused net capital losses, which has no time limit.
+ </ul>
+
+ <P>A net loss never reduces the income of the year in which it's made: the capital gain for the current
+ return is never negative.
+ In the real world, a carry-back results in a refund on the earlier tax return.
+ This simulation doesn't amend earlier returns, so that refund isn't modelled.
+ The carry-back only reduces the unabsorbed gains of the earlier years, which in turn limits how much of a
+ later net loss can be carried back to those same years.
+
  <P>Transfer-out of stocks from a NRA (non-registered account) can result in a gain or loss.
  If it's a gain, it's treated in the usual way.
  If it's a loss, it's treated as a "superficial loss", not as a regular loss, and can't be used to offset a gain.
- 
+
  <P>See schedule 3 of the return.
 */
 public final class CapitalGainLoss {
-  
+
   /** Each gain or loss is recorded by calling this method. */
   public void addGainOrLoss(Integer year, Money amount) {
     if (amount.isPlus()) {
-      Log.log("Capital gain " + amount + " in " + year);
-      gains.add(new GainLoss(year, amount, Type.GAIN));
+      Log.trace("Capital gain {} in {}", amount, year);
+      gains = grownFor(gains, year);
+      gains[indexFor(year)] += amount.asCents();
     }
     else if (amount.isMinus()){
-      Log.log("Capital loss " + amount + " in " + year);
-      losses.add(new GainLoss(year, amount, Type.LOSS));
+      Log.trace("Capital loss {} in {}", amount, year);
+      losses = grownFor(losses, year);
+      losses[indexFor(year)] += amount.abs().asCents();
     }
     else {
       //do nothing if the amount is 0
     }
   }
-  
+
   /**
-   Offset gains with losses. 
+   Offset gains with losses.
    Must be called when calculating a tax return (and only then).
-   Return the remaining capital gain after offsetting losses have been applied. 
+   Return the remaining capital gain after offsetting losses have been applied.
+   The offset is limited to the gains of the current year, so the result is never negative.
+
+   <P>Calling this method repeatedly in the same year always returns the same result (for the same gains and losses).
+   Only the years before the given year are settled.
   */
   public Money gainAfterOffsetsApplied(Integer currentYear) {
-    Money result = ZERO;
-    List<GainLoss> offsetableGains = offsetable(gains, currentYear);
-    if (totalOffsetableAmt(offsetableGains).isPlus()) {
-      result = gainAfterOffsettingLosses(offsetableGains, currentYear);
-    }
-    return result;
+    return gainAfterOffsetsApplied(currentYear, Money.fromCents(0));
   }
-  
-  @Override public String toString() {
-    return "Capital gains:" + gains + " losses:" + losses;
+
+  /**
+   What-if: the same as {@link #gainAfterOffsetsApplied(Integer)}, but as if an additional gain (or loss)
+   had been made in the current year. The additional amount isn't recorded.
+  */
+  public Money gainAfterOffsetsApplied(Integer currentYear, Money additionalGainLoss) {
+    settleYearsBefore(currentYear);
+    long net = netFor(currentYear) + additionalGainLoss.asCents();
+    long result = 0;
+    if (net > 0) {
+      result = net - Math.min(net, unusedLosses);
+    }
+    return Money.fromCents(result);
   }
 
-  // PRIVATE 
-  
-  /** Gains can only be offset if they are not too old. Losses have no time limit. */
-  private enum Type {
-    GAIN(3), 
-    LOSS(100000); // hacky: just a large number of years that will never be seen in practice */
-    Integer numYears(){ return ageLimit; }
-    Type(Integer ageLimit) {
-      this.ageLimit = ageLimit;
+  @Override public String toString() {
+    StringBuilder result = new StringBuilder("Capital gains-losses:");
+    if (firstYear != null) {
+      for (int idx = 0; idx < gains.length; ++idx) {
+        if (gains[idx] != 0 || losses[idx] != 0) {
+          result.append(" [" + (firstYear + idx) + " gain:" + Money.fromCents(gains[idx]) + " loss:" + Money.fromCents(losses[idx]) + "]");
+        }
+      }
     }
-    private Integer ageLimit;
+    result.append(" unused losses:" + Money.fromCents(unusedLosses));
+    return result.toString();
   }
-  
-  private static class GainLoss {
-    GainLoss(Integer year, Money originalAmount, Type type){
-      this.year = year;
-      this.originalAmount = originalAmount;
-      this.offsetableAmount = originalAmount;
-      this.type = type;
+
+  // PRIVATE
+
+  /** The number of previous years to which a net capital loss can be carried back. */
+  private static final int CARRY_BACK_YEARS = 3;
+
+  private static final int INITIAL_NUM_YEARS = 64;
+
+  /** Index 0 of the arrays corresponds to this year. Null until the first gain/loss or tax calculation. */
+  private Integer firstYear;
+
+  /** All capital gains in a year, in cents. */
+  private long[] gains = new long[INITIAL_NUM_YEARS];
+
+  /** All capital losses in a year, in cents. Positive numbers. */
+  private long[] losses = new long[INITIAL_NUM_YEARS];
+
+  /**
+   For settled years, the part of the year's net gain that hasn't been offset by a loss, in cents.
+   A later net loss can be carried back to absorb some or all of this amount.
+  */
+  private long[] unabsorbedGains = new long[INITIAL_NUM_YEARS];
+
+  /** Net capital losses carried forward from settled years, and not yet used, in cents. */
+  private long unusedLosses = 0;
+
+  /** The last year whose net result has been settled. */
+  private Integer lastSettledYear;
+
+  private int indexFor(Integer year) {
+    if (firstYear == null) {
+      firstYear = year;
+      lastSettledYear = year - 1;
     }
-    
-    /** 
-     An offset can be applied only once to a gain/loss. 
-     After that, the amount is no longer available for offsetting.
-     
-     Returns the remaining amount, that could not be offset by this amount. 
-    */
-    Money offsetBy(Money amount) {
-      Money result = null;
-      if (amount.gt(this.offsetableAmount)) {
-        //the amount is bigger than this amount; not all of the amount can be offset
-        result = amount.minus(this.offsetableAmount);
-        this.offsetableAmount = ZERO;
-      }
-      else {
-        //the amount is smaller than (or equal to) this amount; all of it can be offset
-        this.offsetableAmount = this.offsetableAmount.minus(amount);
-        result = ZERO;
-      }
-      return result;
+    if (year < firstYear) {
+      throw new IllegalArgumentException("Year " + year + " is before the first year " + firstYear);
     }
-    
-    Integer year;
-    
-    /** The original amount of the gain/loss. */
-    Money originalAmount;
-    
-    /** 
-     The whole or part of the original amount which is still available for offsetting.
-     Starts off as the originalAmount, and usually reduces to 0 over time.
-     Once it reaches zero, this gain/loss can no longer be used for offsetting.  
-    */
-    Money offsetableAmount;
-    
-    Type type;
-    
-    @Override public String toString() {
-      return type + " year:" + year + " amt:" + originalAmount + " offsetableAmt:" + offsetableAmount; 
+    return year - firstYear;
+  }
+
+  /** Years can only go forward in time. The arrays grow if needed. */
+  private long[] grownFor(long[] array, Integer year) {
+    int idx = indexFor(year);
+    if (year <= lastSettledYear) {
+      throw new IllegalArgumentException("Year " + year + " has already been settled, up to " + lastSettledYear);
     }
+    return idx < array.length ? array : Arrays.copyOf(array, Math.max(idx + 1, 2 * array.length));
   }
-  
-  private List<GainLoss> gains = new ArrayList<GainLoss>();
-  private List<GainLoss> losses = new ArrayList<GainLoss>();
-
-  private List<GainLoss> offsetable(List<GainLoss> list, Integer currentYear) {
-    Predicate<GainLoss> filter =  gl -> 
-      gl.offsetableAmount.isPlus() && 
-      (currentYear - gl.year < gl.type.numYears()) 
-    ;
-    return list.stream().filter(filter).collect(toList());
+
+  private long netFor(Integer year) {
+    int idx = indexFor(year);
+    return idx < gains.length ? gains[idx] - losses[idx] : 0;
   }
-  
-  private Money totalOffsetableAmt(List<GainLoss> list) {
-    Money result = ZERO;
-    for(GainLoss gl : list) {
-      result = result.plus(gl.offsetableAmount);
+
+  /** Settle each year only once. The cost is constant per year. */
+  private void settleYearsBefore(Integer currentYear) {
+    indexFor(currentYear);
+    for (int year = lastSettledYear + 1; year < currentYear; ++year) {
+      settle(year);
+      lastSettledYear = year;
     }
-    return result;
   }
-  
-  private Money gainAfterOffsettingLosses(List<GainLoss> gs, Integer currentYear) {
-    List<GainLoss> ls = offsetable(losses, currentYear);
-    
-    //at this level, gains and losses (gs and ls) have non-zero offset amounts that are ready to be matched up
-    boolean losersAreBiggest = totalOffsetableAmt(ls).gt(totalOffsetableAmt(gs));
-    //'a' is always a bigger bucket than 'b'
-    List<GainLoss> as = losersAreBiggest ? ls : gs;
-    List<GainLoss> bs = losersAreBiggest ? gs : ls;
-    
-    //all of 'b' gets used up
-    Money useUpTotal = totalOffsetableAmt(bs);
-    bs.forEach(b -> b.offsetableAmount = ZERO);
-    
-    //while only part of 'a' gets used up (usually)
-    Money remainder = useUpTotal;
-    for (GainLoss a : as) {
-      remainder = a.offsetBy(remainder);
-      if (!remainder.isPlus()) {
-        break;
-      }
+
+  private void settle(Integer year) {
+    long net = netFor(year);
+    unabsorbedGains = grownFor(unabsorbedGains, year);
+    if (net > 0) {
+      long carriedForward = Math.min(net, unusedLosses);
+      unusedLosses = unusedLosses - carriedForward;
+      unabsorbedGains[indexFor(year)] = net - carriedForward;
+    }
+    else if (net < 0) {
+      long remainingLoss = carryBack(-net, year);
+      unusedLosses = unusedLosses + remainingLoss;
+    }
+  }
+
+  /** Absorb gains in previous years, oldest first. Return the part of the loss that can't be carried back. */
+  private long carryBack(long loss, Integer year) {
+    long remaining = loss;
+    for (int prevYear = Math.max(firstYear, year - CARRY_BACK_YEARS); prevYear < year && remaining > 0; ++prevYear) {
+      int idx = indexFor(prevYear);
+      long absorbed = Math.min(remaining, unabsorbedGains[idx]);
+      unabsorbedGains[idx] = unabsorbedGains[idx] - absorbed;
+      remaining = remaining - absorbed;
     }
-    return totalOffsetableAmt(gs);
+    return remaining;
   }
-}
\ No newline at end of file
+}
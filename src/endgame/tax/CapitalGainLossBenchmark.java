@@ -0,0 +1,64 @@
+package endgame.tax;
+
+import endgame.model.Money;
+import endgame.util.Log;
+
+/**
+ Time {@link CapitalGainLoss} as the number of sales grows.
+
+ <P>Simulates a number of years, each with a given number of sales (gains and losses mixed), and the repeated
+ queries made while calculating the tax return for each year.
+ The time per year should be roughly flat as the number of sales grows: each sale is a single addition,
+ and each query is constant time.
+
+ <P>Not part of the simulation. Run it directly, with no arguments:
+ <pre>java -cp ... endgame.tax.CapitalGainLossBenchmark</pre>
+*/
+public final class CapitalGainLossBenchmark {
+
+  public static void main(String... args) {
+    Log.setLevel(Log.Level.INFO); //don't measure the logging
+    for (int numSales : SALES_PER_YEAR) {
+      run(numSales); //warm-up
+    }
+    Log.forceConsole("Sales per year, total time for " + NUM_YEARS + " years (ms), time per sale (ns)");
+    for (int numSales : SALES_PER_YEAR) {
+      long best = Long.MAX_VALUE;
+      for (int i = 0; i < NUM_RUNS; ++i) {
+        best = Math.min(best, run(numSales));
+      }
+      Log.forceConsole(numSales + ", " + (best / 1_000_000.0) + ", " + (best / ((long)numSales * NUM_YEARS)));
+    }
+  }
+
+  // PRIVATE
+
+  private static final int FIRST_YEAR = 2025;
+  private static final int NUM_YEARS = 30;
+  /** The number of times a return asks for the capital gain, in each year. */
+  private static final int QUERIES_PER_YEAR = 50;
+  private static final int[] SALES_PER_YEAR = {10, 100, 1_000, 10_000, 100_000};
+  private static final int NUM_RUNS = 5;
+
+  /** Return the elapsed time in nanoseconds. */
+  private static long run(int numSales) {
+    Money gain = new Money("125.00");
+    Money loss = new Money("-100.00");
+    long total = 0;
+    long start = System.nanoTime();
+    CapitalGainLoss capGainLoss = new CapitalGainLoss();
+    for (int year = FIRST_YEAR; year < FIRST_YEAR + NUM_YEARS; ++year) {
+      for (int sale = 0; sale < numSales; ++sale) {
+        capGainLoss.addGainOrLoss(year, sale % 2 == 0 ? gain : loss);
+      }
+      for (int query = 0; query < QUERIES_PER_YEAR; ++query) {
+        total = total + capGainLoss.gainAfterOffsetsApplied(year).asCents();
+      }
+    }
+    long result = System.nanoTime() - start;
+    if (total == Long.MIN_VALUE) {
+      Log.forceConsole(total); //stop the JIT from removing the work
+    }
+    return result;
+  }
+}
@@ -8,6 +8,7 @@ import endgame.Scenario;
 import endgame.model.Money;
 import endgame.model.MoneyRange;
 import endgame.tax.provincial.ProvincialTax;
+import endgame.util.CalendarMath;
 import endgame.util.Consts;
 import endgame.util.Util;
 import hirondelle.date4j.DateTime;
@@ -125,30 +126,20 @@ public final class FederalTaxReturn {
    Line 13000 before 65, and line 11500 after 65.
   */
   public Money addRifIncome(Money rifWithdrawal) {
-    Money oldTax = coll.rifWithholdingTax;
-    
     coll.rifIncome = coll.rifIncome.plus(rifWithdrawal);
     Money amountAboveMin = coll.rifIncome.minus(rifMinimum());
-    Money newTax = rifLifWithholdingTaxBrackets.taxFor(amountAboveMin);
-    Money increaseInWithholdingTax = newTax.minus(oldTax);
-    
-    coll.rifWithholdingTax = newTax;
+    Money increaseInWithholdingTax = coll.rifWithholdingTax.increaseFor(amountAboveMin);
     addInstallment(increaseInWithholdingTax);
     return increaseInWithholdingTax;
   }
   /** Check this at the end of the year, to see if it has met the minimum. Line 13000 before 65, line 11500 after 65. */
-  public Money rifIncome() { return coll.rifIncome; }
+  public Money rifIncome() { return coll.rifIncome.plus(whatIf.rifIncome); }
 
   /** Similar to {@link #addRifIncome(Money)}. */
   public Money addLifIncome(Money lifWithdrawal) {
-    Money oldTax = coll.lifWithholdingTax;
-    
     coll.lifIncome = coll.lifIncome.plus(lifWithdrawal);
     Money amountAboveMin = coll.lifIncome.minus(lifMinimum());
-    Money newTax = rifLifWithholdingTaxBrackets.taxFor(amountAboveMin);
-    Money increaseInWithholdingTax = newTax.minus(oldTax);
-    
-    coll.lifWithholdingTax = newTax;
+    Money increaseInWithholdingTax = coll.lifWithholdingTax.increaseFor(amountAboveMin);
     addInstallment(increaseInWithholdingTax);
     return increaseInWithholdingTax;
   }
@@ -156,27 +147,21 @@ public final class FederalTaxReturn {
    Check this at the end of the year, to see if it has met the minimum, and not exceeded the max. 
    Line 13000 before 65, line 11500 after 65. 
   */
-  public Money lifIncome() { return coll.lifIncome; }
+  public Money lifIncome() { return coll.lifIncome.plus(whatIf.lifIncome); }
 
   /** Line 15000. Side effect: checks RIF-LIF min and max. */
   public Money totalIncome() {
     Money result = new Money(new BigDecimal("0.00"));
-    if (coll.rifIncome.lt(rifMinimum())) {
-      throw new RuntimeException("RIF income " + coll.rifIncome + " is less than the minimum " + rifMinimum());
-    }
-    if (coll.lifIncome.lt(lifMinimum())) {
-      throw new RuntimeException("LIF income " + coll.lifIncome + " is less than the minimum " + lifMinimum());
-    }
-    if (coll.lifIncome.gt(lifMaximum())) {
-      throw new RuntimeException("LIF income " + coll.lifIncome + " is greater than the maximum " + lifMaximum());
+    if (whatIf == NO_WHAT_IF) {
+      checkRifLifMinMax();
     }
     result = result.plus(coll.employmentIncome);
     result = result.plus(coll.oasIncome);
     //excludes GIS!
     result = result.plus(coll.cppIncome);
     result = result.plus(coll.pensionIncome); 
-    result = result.plus(coll.rifIncome);
-    result = result.plus(coll.lifIncome);
+    result = result.plus(rifIncome());
+    result = result.plus(lifIncome());
     result = result.plus(dividendGrossUp());
     result = result.plus(coll.nraInterestIncome);
     result = result.plus(taxableCapitalGain());
@@ -231,6 +216,21 @@ public final class FederalTaxReturn {
     return netFederalTax().plus(netProvincialTax());
   }
   
+  /**
+   What-if: the total payable (line 43500), as if the given amounts were added to this year's return.
+   This return is not changed. The RIF and LIF minimum and maximum are not checked, since the year may not be over. 
+   Used to compare the tax cost of different ways of raising cash.
+  */
+  public Money totalPayableWith(Money extraRifIncome, Money extraLifIncome, Money extraCapitalGain) {
+    whatIf = new WhatIf(extraRifIncome, extraLifIncome, extraCapitalGain);
+    try {
+      return totalPayable();
+    }
+    finally {
+      whatIf = NO_WHAT_IF;
+    }
+  }
+  
   /** Line 149. Performs all calculations. Can be negative. */
   public Money balanceOwing() {
     Money result = totalPayable();
@@ -264,7 +264,7 @@ public final class FederalTaxReturn {
     Money result = ZERO;
     if (ageOnDec31() >= standardRetirementAge) {
       //CPP is not included here!
-      Money pensionPlusRif = coll.pensionIncome.plus(coll.rifIncome).plus(coll.lifIncome);
+      Money pensionPlusRif = coll.pensionIncome.plus(rifIncome()).plus(lifIncome());
       result = Util.lesserOf(pensionPlusRif, pensionIncomeMax);
     }
     return result;
@@ -280,7 +280,7 @@ public final class FederalTaxReturn {
    This is needed in a tax return where you see 'if born in 1955 or earlier', for example.
   */
   public int ageYearsOnly() {
-    return year() - dateOfBirth().getYear();
+    return CalendarMath.ageYearsOnly(dateOfBirth, year);
   }
   
   // PRIVATE 
@@ -295,13 +295,25 @@ public final class FederalTaxReturn {
   private Money pensionAmount = ZERO;
   
   private Integer year = 0;
-  private Collector coll = new Collector();
-  
-  private TaxBrackets rifLifWithholdingTaxBrackets;
+  private Collector coll;
   
   private TaxBrackets taxBrackets;
   private ProvincialTax provTax;
   
+  /** Hypothetical amounts added to the return by {@link #totalPayableWith(Money, Money, Money)}; otherwise all zero. */
+  private static final class WhatIf {
+    WhatIf(Money rifIncome, Money lifIncome, Money capitalGain){
+      this.rifIncome = rifIncome;
+      this.lifIncome = lifIncome;
+      this.capitalGain = capitalGain;
+    }
+    final Money rifIncome;
+    final Money lifIncome;
+    final Money capitalGain;
+  }
+  private static final WhatIf NO_WHAT_IF = new WhatIf(ZERO, ZERO, ZERO);
+  private WhatIf whatIf = NO_WHAT_IF;
+  
   private Integer standardRetirementAge;
   private Double taxableCapitalGainFrac;
   private Integer divTaxCreditNumer; 
@@ -324,7 +336,7 @@ public final class FederalTaxReturn {
     this.ageAmountClawback = ageAmountClawback;
     this.pensionAmount = pensionAmount;
     this.taxBrackets = taxBrackets;
-    this.rifLifWithholdingTaxBrackets = rifLifWithholdingTaxBrackets;
+    this.coll = new Collector(rifLifWithholdingTaxBrackets);
     this.standardRetirementAge = stdRetAge;
     this.taxableCapitalGainFrac = taxCapGainFrac;
     this.divTaxCreditNumer = divTaxCreditNumer;
@@ -333,6 +345,10 @@ public final class FederalTaxReturn {
 
   /** Items collected over the course of a year, because of transactions in the accounts.*/
   private static class Collector {
+    Collector(TaxBrackets rifLifWithholdingTaxBrackets){
+      this.rifWithholdingTax = new RunningWithholdingTax(rifLifWithholdingTaxBrackets);
+      this.lifWithholdingTax = new RunningWithholdingTax(rifLifWithholdingTaxBrackets);
+    }
     Money installments = ZERO;
     Money oasIncome = ZERO; 
     Money gisIncome = ZERO; //paid at the same time as OAS, but GIS isn't taxable, so it needs a separate bucket 
@@ -340,9 +356,9 @@ public final class FederalTaxReturn {
     Money pensionIncome = ZERO; //other than CPP
     Money employmentIncome = ZERO;
     Money rifIncome = ZERO;
-    Money rifWithholdingTax = ZERO;
+    RunningWithholdingTax rifWithholdingTax;
     Money lifIncome = ZERO;
-    Money lifWithholdingTax = ZERO;
+    RunningWithholdingTax lifWithholdingTax;
     Money nraDvdIncome = ZERO;
     Money nraInterestIncome = ZERO;
     void resetToZero() {
@@ -352,14 +368,14 @@ public final class FederalTaxReturn {
       this.pensionIncome = ZERO;
       this.employmentIncome = ZERO;
       this.rifIncome = ZERO;
-      this.rifWithholdingTax = ZERO;
+      this.rifWithholdingTax.reset();
       this.nraDvdIncome = ZERO;
       this.nraInterestIncome = ZERO;
     }
   }
 
   Integer ageOnDec31() {
-    return Util.age(dateOfBirth,  DateTime.forDateOnly(year,12,31));
+    return CalendarMath.ageOnDec31(dateOfBirth, year);
   }
   
   /** Line 30000. Clawed back, but only partially, and only to a small extent. */
@@ -399,7 +415,19 @@ public final class FederalTaxReturn {
   
   /** Schedule 3. */
   private Money taxableCapitalGain() {
-    return scenario.capitalGainLoss.gainAfterOffsetsApplied(year).times(taxableCapitalGainFrac);
+    return scenario.capitalGainLoss.gainAfterOffsetsApplied(year, whatIf.capitalGain).times(taxableCapitalGainFrac);
+  }
+  
+  private void checkRifLifMinMax() {
+    if (coll.rifIncome.lt(rifMinimum())) {
+      throw new RuntimeException("RIF income " + coll.rifIncome + " is less than the minimum " + rifMinimum());
+    }
+    if (coll.lifIncome.lt(lifMinimum())) {
+      throw new RuntimeException("LIF income " + coll.lifIncome + " is less than the minimum " + lifMinimum());
+    }
+    if (coll.lifIncome.gt(lifMaximum())) {
+      throw new RuntimeException("LIF income " + coll.lifIncome + " is greater than the maximum " + lifMaximum());
+    }
   }
   
   private Money rifMinimum() {
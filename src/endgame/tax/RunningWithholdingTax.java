@@ -0,0 +1,65 @@
+package endgame.tax;
+
+import static endgame.util.Consts.ZERO;
+
+import endgame.model.Money;
+
+/**
+ Withholding tax on a running total of withdrawals during a year (RIF or LIF).
+ 
+ <P>The withholding tax is always calculated on the running total, not on the single withdrawal.
+ Instead of scanning all the tax brackets for each withdrawal, this class remembers which bracket
+ the running total was in the last time. 
+ Since the running total only moves a little at a time (and usually only up), finding the new bracket 
+ usually takes no steps at all, or a single step. 
+ 
+ <P>The result is always the same as calling {@link TaxBrackets#taxFor(Money)} on the running total.
+*/
+final class RunningWithholdingTax {
+  
+  RunningWithholdingTax(TaxBrackets taxBrackets){
+    this.taxBrackets = taxBrackets;
+  }
+
+  /**
+   Return the increase in withholding tax for a new running total.
+   The increase is usually positive, but it can be negative if the running total goes down.
+  */
+  Money increaseFor(Money newRunningTotal) {
+    Money oldTax = tax;
+    tax = taxFor(newRunningTotal);
+    return tax.minus(oldTax);
+  }
+  
+  /** Start over, for a new year. */
+  void reset() {
+    tax = ZERO;
+    bracketIdx = 0;
+  }
+  
+  // PRIVATE 
+  
+  private TaxBrackets taxBrackets;
+  private Money tax = ZERO;
+  
+  /** The bracket of the last running total. Equal to the number of brackets if it was past all of them. */
+  private int bracketIdx = 0;
+
+  /** Same result as {@link TaxBrackets#taxFor(Money)}. */
+  private Money taxFor(Money runningTotal) {
+    Money result = ZERO;
+    if (runningTotal.isPlus()) {
+      int numBrackets = taxBrackets.numBrackets();
+      while (bracketIdx > 0 && (bracketIdx == numBrackets || runningTotal.lteq(taxBrackets.bracket(bracketIdx).previousMax()))) {
+        --bracketIdx;
+      }
+      while (bracketIdx < numBrackets && runningTotal.gt(taxBrackets.bracket(bracketIdx).max())) {
+        ++bracketIdx;
+      }
+      if (bracketIdx < numBrackets) {
+        result = taxBrackets.bracket(bracketIdx).taxFor(runningTotal);
+      }
+    }
+    return result;
+  }
+}
@@ -34,6 +34,18 @@ public final class TaxBrackets {
     return brackets.get(0).rate();
   }
 
+  /** The number of brackets. Used by {@link RunningWithholdingTax}. */
+  int numBrackets() {
+    initializeBrackets();
+    return brackets.size();
+  }
+  
+  /** The bracket at the given index, in increasing order. Used by {@link RunningWithholdingTax}. */
+  TaxBracket bracket(int idx) {
+    initializeBrackets();
+    return brackets.get(idx);
+  }
+
   // PRIVATE 
   
   private List<TaxBracket> brackets = new ArrayList<TaxBracket>();
@@ -54,7 +54,7 @@ public final class MoveCash extends Transactional {
         logMe(when, netAmount); 
       }
       else {
-        logMe(when, "net " + netAmount + " plus " + withheld + " withheld."); 
+        logMe(when, () -> "net " + netAmount + " plus " + withheld + " withheld."); 
       }
     }
   }
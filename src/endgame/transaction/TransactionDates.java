@@ -51,6 +51,11 @@ public final class TransactionDates {
     return new TransactionDates(ON + STAR_PREFIX + paymentDay + PIPE + startDate + ELLIPSIS);
   }
   
+  /** Every day of the simulation. The empty matching-date matches all dates. */
+  public static TransactionDates everyDay() {
+    return new TransactionDates(ON + STAR_PREFIX);
+  }
+  
   /** 
    Start of the date range for the transaction (inclusive).
    Defaults to 0001-01-01 if not present.
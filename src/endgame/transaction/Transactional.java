@@ -1,5 +1,7 @@
 package endgame.transaction;
 
+import java.util.function.Supplier;
+
 import endgame.Scenario;
 import endgame.account.Account;
 import endgame.util.Log;
@@ -42,9 +44,19 @@ public abstract class Transactional {
   */
   abstract protected void execute(DateTime when, Scenario sim);
 
-  /** For debugging only. Logs the date-time in a uniform, convenient way. */
+  /** 
+   For debugging only. Logs the date-time in a uniform, convenient way.
+   Logged at the {@link Log.Level#TRACE} level; the text of the message is built only if that level is enabled. 
+  */
   protected void logMe(DateTime when, Object text) {
-    Log.log(when + ":" + this + " " + text.toString());
+    Log.trace("{}:{} {}", when, this, text);
+  }
+  
+  /** As above, for text that is built from several pieces. The supplier is called only if the level is enabled. */
+  protected void logMe(DateTime when, Supplier<String> text) {
+    if (Log.isEnabled(Log.Level.TRACE)) {
+      logMe(when, text.get());
+    }
   }
   
   // PRIVATE 
@@ -0,0 +1,214 @@
+package endgame.util;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ Writes log messages to their log files on a background thread.
+
+ <P>Threads that log a message only place it in a ring buffer, and return at once.
+ A single background thread takes the messages from the ring buffer in batches, and writes them to their files.
+ So the encoding of the text, and the actual file writes, happen off the simulation thread.
+
+ <P>The ring buffer has a fixed number of slots, allocated up front, and it's lock-free.
+ Any number of threads can publish to it: each claims the next slot with a compare-and-set,
+ fills it, and then marks it as ready using a sequence number for the slot
+ (the design of Dmitry Vyukov's bounded queue). Only the background thread reads from it.
+
+ <P>Each message is tied to its own {@link LogFile}, so messages for different scenarios go to different files,
+ even while earlier messages are still waiting to be written.
+
+ <P>When the ring buffer is full, the policy is either to block until a slot is free, or to drop the message.
+ Both the written and dropped messages are counted.
+
+ <P>A message that fails to be written, for any reason, is counted as dropped, and the background thread carries on.
+ If the background thread ever stops anyway, then callers no longer wait for it: new messages are dropped.
+
+ <P>The text of a message is built before it's published, not on the background thread.
+ Many of the objects in the simulation are mutable, and their text has to reflect their state at the moment they're logged.
+*/
+final class AsyncLogWriter {
+
+  /**
+   Constructor. Starts the background thread, as a daemon thread.
+   @param capacity the number of slots in the ring buffer. Rounded up to a power of 2.
+   @param blockWhenFull if true, block when the ring buffer is full; otherwise drop the message.
+  */
+  AsyncLogWriter(int capacity, boolean blockWhenFull) {
+    if (capacity < 2) {
+      throw new IllegalArgumentException("The capacity of the ring buffer must be at least 2: " + capacity);
+    }
+    int size = Integer.highestOneBit(capacity - 1) << 1;
+    this.mask = size - 1;
+    this.files = new LogFile[size];
+    this.lines = new String[size];
+    this.sequences = new AtomicLongArray(size);
+    for(int idx = 0; idx < size; ++idx) {
+      sequences.set(idx, idx);
+    }
+    this.blockWhenFull = blockWhenFull;
+    this.thread = new Thread(this::writeLoop, "endgame-log-writer");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Publish a line, to be written to the given file. May block or drop the line, if the ring buffer is full. */
+  void publish(LogFile file, String line) {
+    if (claimAndFill(file, line, blockWhenFull) < 0) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  /**
+   Wait until all of the lines published so far have been written to their files.
+   The lines may still be in the file's buffer, not yet on disk.
+  */
+  void awaitAllWritten() {
+    long last = claimed.get() - 1;
+    awaitProcessed(last);
+  }
+
+  /** 
+   Close the file, after all of its lines have been written. Blocks until the file is closed.
+   If the background thread has stopped, then the file is closed directly. 
+  */
+  void close(LogFile file) throws IOException {
+    long position = claimAndFill(file, null, true);
+    awaitProcessed(position);
+    if (position < 0 || !thread.isAlive()) {
+      file.close();
+    }
+  }
+
+  /** The number of lines written so far, by this object, to all files. */
+  long numWritten() {
+    return written.get();
+  }
+
+  /** The number of lines dropped so far: the ring buffer was full, the line couldn't be written, or the background thread stopped. */
+  long numDropped() {
+    return dropped.get();
+  }
+
+  // PRIVATE
+
+  /** The maximum number of lines taken from the ring buffer in one go. */
+  private static final int BATCH_SIZE = 1024;
+  /** How long the background thread sleeps when there's nothing to write. */
+  private static final long IDLE_NANOS = 100_000;
+
+  private final int mask;
+  private final LogFile[] files;
+  /** A null line tells the background thread to close its file. */
+  private final String[] lines;
+  /** For each slot: equal to the position when the slot is free, and to the position + 1 when it's filled. */
+  private final AtomicLongArray sequences;
+  private final boolean blockWhenFull;
+  private final Thread thread;
+
+  /** The next position to be claimed by a publisher. */
+  private final AtomicLong claimed = new AtomicLong();
+  /** All positions before this one have been processed by the background thread. */
+  private final AtomicLong processed = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+
+  /** Used only by the background thread. The file that last failed; its remaining lines are dropped. */
+  private LogFile failedFile;
+
+  /** 
+   Return the position of the slot that was filled.
+   Return -1 if the ring buffer is full and the caller doesn't block, or if the background thread has stopped. 
+  */
+  private long claimAndFill(LogFile file, String line, boolean block) {
+    long position = claimed.get();
+    while (true) {
+      if (!thread.isAlive()) {
+        return -1;
+      }
+      int idx = (int)(position & mask);
+      long diff = sequences.get(idx) - position;
+      if (diff == 0) {
+        if (claimed.compareAndSet(position, position + 1)) {
+          break;
+        }
+        position = claimed.get();
+      }
+      else if (diff < 0) {
+        //full: the background thread hasn't freed this slot yet
+        if (!block) {
+          return -1;
+        }
+        Thread.onSpinWait();
+        position = claimed.get();
+      }
+      else {
+        //another publisher claimed this position first
+        position = claimed.get();
+      }
+    }
+    int idx = (int)(position & mask);
+    files[idx] = file;
+    lines[idx] = line;
+    sequences.set(idx, position + 1);
+    return position;
+  }
+
+  private void awaitProcessed(long position) {
+    while (processed.get() <= position && thread.isAlive()) {
+      LockSupport.parkNanos(IDLE_NANOS);
+    }
+  }
+
+  private void writeLoop() {
+    long next = 0;
+    while (true) {
+      int numInBatch = 0;
+      while (numInBatch < BATCH_SIZE) {
+        int idx = (int)(next & mask);
+        if (sequences.get(idx) != next + 1) {
+          break; //nothing more to write, for now
+        }
+        write(files[idx], lines[idx]);
+        files[idx] = null;
+        lines[idx] = null;
+        sequences.set(idx, next + mask + 1);
+        ++next;
+        ++numInBatch;
+      }
+      if (numInBatch > 0) {
+        processed.set(next);
+      }
+      else {
+        LockSupport.parkNanos(IDLE_NANOS);
+      }
+    }
+  }
+
+  private void write(LogFile file, String line) {
+    try {
+      if (line == null) {
+        file.close();
+      }
+      else if (file == failedFile) {
+        dropped.incrementAndGet();
+      }
+      else {
+        file.write(line);
+        written.incrementAndGet();
+      }
+    }
+    catch(IOException ex) {
+      failedFile = file;
+      dropped.incrementAndGet();
+      Log.error("Can't write to the log file.", ex);
+    }
+    catch(RuntimeException ex) {
+      //only this line is lost; the thread must keep going, since callers wait for it
+      dropped.incrementAndGet();
+      Log.error("Unexpected problem writing to the log file.", ex);
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package endgame.util;
+
+import hirondelle.date4j.DateTime;
+
+/**
+ Calendar arithmetic on plain integers, with no looping and no intermediate {@link DateTime} objects.
+
+ <P>An <em>epoch-month</em> packs a year and a month into a single int: <code>year * 12 + (month - 1)</code>.
+ The difference between two epoch-months is simply the number of months between them.
+ For example, 2027-04 is 24327, and 2028-01 is 24336, 9 months later.
+
+ <P>The results match the date4j arithmetic used elsewhere in this project, including its
+ {@link DateTime.DayOverflow#FirstDay} policy: when a day doesn't exist in the target month (Feb 30, for example),
+ the date rolls over to the first day of the next month.
+*/
+public final class CalendarMath {
+
+  /** The epoch-month for the given year and month (1..12). */
+  public static int epochMonth(int year, int month) {
+    return year * NUM_MONTHS + (month - 1);
+  }
+
+  /** The epoch-month of the given date. The day is ignored. */
+  public static int epochMonth(DateTime date) {
+    return epochMonth(date.getYear(), date.getMonth());
+  }
+
+  /** The year of the given epoch-month. */
+  public static int yearOf(int epochMonth) {
+    return Math.floorDiv(epochMonth, NUM_MONTHS);
+  }
+
+  /** The month (1..12) of the given epoch-month. */
+  public static int monthOf(int epochMonth) {
+    return Math.floorMod(epochMonth, NUM_MONTHS) + 1;
+  }
+
+  /** The first day of the given epoch-month, as a date. */
+  public static DateTime startOfMonth(int epochMonth) {
+    return DateTime.forDateOnly(yearOf(epochMonth), monthOf(epochMonth), 1);
+  }
+
+  /** The number of months from a to b. Negative if b is before a. */
+  public static int numMonthsBetween(int epochMonthA, int epochMonthB) {
+    return epochMonthB - epochMonthA;
+  }
+
+  public static boolean isLeapYear(int year) {
+    return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /** The number of days in the given month (1..12) of the given year. */
+  public static int numDaysInMonth(int year, int month) {
+    return month == 2 ? (isLeapYear(year) ? 29 : 28) : DAYS_IN_MONTH[month - 1];
+  }
+
+  /**
+   Your age in whole years, on the given date.
+   If you're born on Feb 29, then your birthday is taken as Mar 1.
+  */
+  public static int age(DateTime dateOfBirth, int year, int month, int day) {
+    int birthMonth = dateOfBirth.getMonth();
+    int birthDay = dateOfBirth.getDay();
+    if (birthMonth == 2 && birthDay == 29) {
+      birthMonth = 3;
+      birthDay = 1;
+    }
+    int result = year - dateOfBirth.getYear();
+    if (monthDay(birthMonth, birthDay) > monthDay(month, day)) {
+      --result; //the birthday hasn't happened yet this year
+    }
+    return result;
+  }
+
+  /** Your age in whole years, on the given date. See {@link #age(DateTime, int, int, int)}. */
+  public static int age(DateTime dateOfBirth, DateTime date) {
+    return age(dateOfBirth, date.getYear(), date.getMonth(), date.getDay());
+  }
+
+  /** Your age in whole years on December 31 of the given year. */
+  public static int ageOnDec31(DateTime dateOfBirth, int year) {
+    return age(dateOfBirth, year, 12, 31);
+  }
+
+  /**
+   Only takes into account the year, not the month or day.
+   Not always the same as the person's age!
+   This is the age that tables based on 'your age on January 1' usually mean in practice.
+  */
+  public static int ageYearsOnly(DateTime dateOfBirth, int year) {
+    return year - dateOfBirth.getYear();
+  }
+
+  /** The epoch-month of the month AFTER you turn the given age. */
+  public static int epochMonthAfterYouTurn(int age, DateTime dateOfBirth) {
+    int birthdayYear = dateOfBirth.getYear() + age;
+    int birthdayMonth = epochMonth(birthdayYear, dateOfBirth.getMonth());
+    int day = dateOfBirth.getDay();
+    if (day > numDaysInMonth(birthdayYear, dateOfBirth.getMonth())) {
+      //Feb 29 in a non-leap year rolls over to Mar 1
+      ++birthdayMonth;
+      day = 1;
+    }
+    int result = birthdayMonth + 1;
+    if (day > numDaysInMonth(yearOf(result), monthOf(result))) {
+      //for example, Jan 31 plus one month rolls over to Mar 1
+      ++result;
+    }
+    return result;
+  }
+
+  /** The start of the month AFTER you turn the given age. */
+  public static DateTime monthAfterYouTurn(int age, DateTime dateOfBirth) {
+    return startOfMonth(epochMonthAfterYouTurn(age, dateOfBirth));
+  }
+
+  // PRIVATE
+
+  private static final int NUM_MONTHS = 12;
+  private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+  /** Packs a month and a day into an int with the same sort order. */
+  private static int monthDay(int month, int day) {
+    return month * 32 + day;
+  }
+}
@@ -0,0 +1,129 @@
+package endgame.util;
+
+import hirondelle.date4j.DateTime;
+import hirondelle.date4j.DateTime.DayOverflow;
+
+/**
+ Compare {@link CalendarMath} with the date4j arithmetic it replaced, for both results and speed.
+
+ <P>The date4j versions below are the old helpers that stepped through the months one at a time,
+ creating a {@link DateTime} at each step. They're kept here only as the reference.
+
+ <P>Not part of the simulation. Run it directly, with no arguments:
+ <pre>java -cp ... endgame.util.CalendarMathBenchmark</pre>
+ It first checks that both versions agree on a range of inputs, then times each of them.
+ The time for the date4j version grows with the number of months between the dates; the time for
+ {@link CalendarMath} doesn't.
+*/
+public final class CalendarMathBenchmark {
+
+  public static void main(String... args) {
+    DateTime dob = DateTime.forDateOnly(1960, 1, 31);
+    DateTime start = DateTime.forDateOnly(2025, 1, 1);
+    Log.forceConsole("Mismatches: " + numMismatches(start));
+    for (int numYears : YEARS_APART) {
+      DateTime end = DateTime.forDateOnly(2025 + numYears, 7, 1);
+      long old = Long.MAX_VALUE;
+      long closedForm = Long.MAX_VALUE;
+      for (int i = 0; i < NUM_RUNS; ++i) {
+        old = Math.min(old, timeDate4j(dob, start, end));
+        closedForm = Math.min(closedForm, timeCalendarMath(dob, start, end));
+      }
+      Log.forceConsole(
+        numYears + " years apart: date4j " + (old / NUM_ROUNDS) + "ns per round, " +
+        "CalendarMath " + (closedForm / NUM_ROUNDS) + "ns per round"
+      );
+    }
+  }
+
+  // PRIVATE
+
+  private static final int[] YEARS_APART = {1, 5, 20, 40};
+  private static final int NUM_ROUNDS = 20_000;
+  private static final int NUM_RUNS = 5;
+
+  /** Keeps the JIT from removing the work. */
+  private static long sink;
+
+  /** Every birth date in 1940-1963, at a few ages and many present dates; many month pairs in 2000-2039. */
+  private static int numMismatches(DateTime start) {
+    int result = 0;
+    for (DateTime dob = DateTime.forDateOnly(1940, 1, 1); dob.getYear() < 1964; dob = dob.plusDays(1)) {
+      for (int age = 60; age <= 71; age = age + 5) {
+        if (!CalendarMath.monthAfterYouTurn(age, dob).equals(monthAfterYouTurn(age, dob))) {
+          ++result;
+        }
+      }
+      for (int month = 1; month <= 12; ++month) {
+        for (int day : new int[] {1, 15, 28}) {
+          DateTime present = DateTime.forDateOnly(start.getYear(), month, day);
+          if (CalendarMath.age(dob, present) != age(dob, present)) {
+            ++result;
+          }
+        }
+      }
+    }
+    for (int a = CalendarMath.epochMonth(2000, 1); a < CalendarMath.epochMonth(2040, 1); a = a + 7) {
+      for (int b = CalendarMath.epochMonth(2000, 1); b < CalendarMath.epochMonth(2040, 1); ++b) {
+        DateTime dateA = CalendarMath.startOfMonth(a);
+        DateTime dateB = CalendarMath.startOfMonth(b);
+        if (CalendarMath.numMonthsBetween(a, b) != numMonthsBetween(dateA, dateB)) {
+          ++result;
+        }
+      }
+    }
+    return result;
+  }
+
+  private static long timeDate4j(DateTime dob, DateTime start, DateTime end) {
+    long begin = System.nanoTime();
+    for (int i = 0; i < NUM_ROUNDS; ++i) {
+      sink = sink + numMonthsBetween(start, end) + age(dob, end) + monthAfterYouTurn(65, dob).getMonth();
+    }
+    return System.nanoTime() - begin;
+  }
+
+  private static long timeCalendarMath(DateTime dob, DateTime start, DateTime end) {
+    long begin = System.nanoTime();
+    for (int i = 0; i < NUM_ROUNDS; ++i) {
+      int months = CalendarMath.numMonthsBetween(CalendarMath.epochMonth(start), CalendarMath.epochMonth(end));
+      sink = sink + months + CalendarMath.age(dob, end) + CalendarMath.monthOf(CalendarMath.epochMonthAfterYouTurn(65, dob));
+    }
+    return System.nanoTime() - begin;
+  }
+
+  /* The old date4j helpers. */
+
+  private static int numMonthsBetween(DateTime a, DateTime b) {
+    int result = 0;
+    boolean aFirst = a.compareTo(b) < 0;
+    if (!a.equals(b)) {
+      DateTime start = aFirst ? a : b;
+      DateTime end = aFirst ? b : a;
+      while (start.lt(end)) {
+        ++result;
+        start = start.plus(0, 1, 0, 0, 0, 0, 0, DayOverflow.FirstDay);
+      }
+    }
+    return aFirst ? result : -1 * result;
+  }
+
+  private static int age(DateTime birth, DateTime present) {
+    DateTime dob = birth;
+    if (dob.getMonth() == 2 && dob.getDay() == 29) {
+      dob = DateTime.forDateOnly(birth.getYear(), 3, 1);
+    }
+    int result = present.getYear() - dob.getYear();
+    DateTime birthdayThisYear = DateTime.forDateOnly(present.getYear(), dob.getMonth(), dob.getDay());
+    if (birthdayThisYear.gt(present)) {
+      --result;
+    }
+    return result;
+  }
+
+  private static DateTime monthAfterYouTurn(int age, DateTime dob) {
+    DateTime birthday = dob.plus(age, 0, 0, 0, 0, 0, 0, DayOverflow.FirstDay);
+    DateTime oneMonthLater = birthday.plus(0, 1, 0, 0, 0, 0, 0, DayOverflow.FirstDay);
+    return DateTime.forDateOnly(oneMonthLater.getYear(), oneMonthLater.getMonth(), 1);
+  }
+}
@@ -0,0 +1,152 @@
+package endgame.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ A compiled, binary version of a reference-data table in the <code>input</code> directory.
+
+ <P>The reference tables (GIS brackets, life tables) are text files.
+ Parsing them line by line is slow compared to the rest of startup, and it's repeated for each history.
+ The first time a table is read, its parsed content is saved next to the text file, in a binary file
+ ending in '.bin'. After that, the binary file is memory-mapped, and its columns are copied out in bulk.
+
+ <P>The binary file stores the size and last-modified time of the text file.
+ If the text file is edited, then they no longer match, and the binary file is simply re-created.
+ When they do match, only the binary file is read; the text file itself isn't opened.
+ The binary file can be deleted at any time.
+
+ <P>The table is a fixed number of columns of <code>long</code> values, all of the same length.
+ Money amounts are stored in cents.
+
+ <P>Layout of the binary file (big-endian):
+ <pre>
+ int magic number
+ int format version
+ long size of the text file, in bytes
+ long last-modified time of the text file, in milliseconds
+ int number of columns
+ int number of rows
+ long[] column 0
+ long[] column 1
+ ...
+ </pre>
+*/
+public final class CompiledTable {
+
+  /**
+   Return the columns of the table for the given text file.
+   Use the binary file if it's up to date; otherwise parse the text file, and (re-)create the binary file.
+   @param textFile the text file that is the source of the data
+   @param parser converts all of the lines of the text file into the columns of the table.
+   All columns must have the same length.
+  */
+  public static long[][] load(Path textFile, Function<List<String>, long[][]> parser) {
+    try {
+      BasicFileAttributes attrs = Files.readAttributes(textFile, BasicFileAttributes.class);
+      long textSize = attrs.size();
+      long textModified = attrs.lastModifiedTime().toMillis();
+      Path binaryFile = binaryFileFor(textFile);
+      long[][] result = readBinary(binaryFile, textSize, textModified);
+      if (result == null) {
+        result = parser.apply(Util.read(textFile.toString()));
+        writeBinary(binaryFile, textSize, textModified, result);
+      }
+      return result;
+    }
+    catch(IOException ex) {
+      throw new RuntimeException(ex.getMessage());
+    }
+  }
+
+  /** The binary file is in the same directory as the text file, with a '.bin' extension. */
+  public static Path binaryFileFor(Path textFile) {
+    String name = textFile.getFileName().toString();
+    int dot = name.lastIndexOf(".");
+    String baseName = dot > 0 ? name.substring(0, dot) : name;
+    return textFile.resolveSibling(baseName + BINARY_EXTENSION);
+  }
+
+  // PRIVATE
+
+  private static final String BINARY_EXTENSION = ".bin";
+  private static final int MAGIC = 0x454E4447; // 'ENDG'
+  private static final int VERSION = 2;
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4 + 4;
+
+  /** Return null if the binary file is missing, out of date, or not in the expected format. */
+  private static long[][] readBinary(Path binaryFile, long textSize, long textModified) throws IOException {
+    long[][] result = null;
+    if (Files.isRegularFile(binaryFile) && Files.size(binaryFile) >= HEADER_SIZE) {
+      try (FileChannel channel = FileChannel.open(binaryFile, StandardOpenOption.READ)){
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        if (buffer.getInt() == MAGIC && buffer.getInt() == VERSION && buffer.getLong() == textSize && buffer.getLong() == textModified) {
+          int numColumns = buffer.getInt();
+          int numRows = buffer.getInt();
+          if (buffer.remaining() == 8L * numColumns * numRows) {
+            LongBuffer longs = buffer.asLongBuffer();
+            result = new long[numColumns][numRows];
+            for (int col = 0; col < numColumns; ++col) {
+              longs.get(result[col]);
+            }
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   Write to a temp file first, then move it into place, so a reader never sees a partial file.
+   Failure to write is not fatal: the text file will simply be parsed again next time.
+  */
+  private static void writeBinary(Path binaryFile, long textSize, long textModified, long[][] columns) {
+    int numColumns = columns.length;
+    int numRows = numColumns == 0 ? 0 : columns[0].length;
+    ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 8 * numColumns * numRows);
+    buffer.putInt(MAGIC).putInt(VERSION).putLong(textSize).putLong(textModified).putInt(numColumns).putInt(numRows);
+    for (long[] column : columns) {
+      if (column.length != numRows) {
+        throw new IllegalArgumentException("All columns must have the same length: " + column.length + " versus " + numRows);
+      }
+      buffer.asLongBuffer().put(column);
+      buffer.position(buffer.position() + 8 * numRows);
+    }
+    buffer.flip();
+    Path temp = null;
+    try {
+      temp = Files.createTempFile(binaryFile.getParent(), binaryFile.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)){
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+      Files.move(temp, binaryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch(IOException ex) {
+      deleteQuietly(temp);
+      Log.log("Unable to save the compiled file " + binaryFile + ": " + ex.getMessage());
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    if (file != null) {
+      try {
+        Files.deleteIfExists(file);
+      }
+      catch(IOException ex) {
+        //ignore - it's only a temp file
+      }
+    }
+  }
+}
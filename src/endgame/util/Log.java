@@ -1,17 +1,26 @@
 package endgame.util;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.List;
-
-import endgame.Scenario;
+import java.util.function.Supplier;
 
 /** 
  Centralized logging policies.
  This implementation is likely not appropriate for a servlet environment.
+ 
+ <P>Each message has a {@link Level}. Messages below the current level are ignored.
+ Messages on the hot path (executed for every transaction, in every history) should use the methods that take a 
+ {@link Supplier}, or a pattern with arguments, so that the text of the message is built only if the level is enabled.
+ When the level is disabled, the cost of such a call is a single comparison.
+ 
+ <P>Example:
+ <pre>
+ Log.trace("Capital gain {} in {}", amount, year);
+ Log.debug(() -> "Accounts " + accounts);
+ </pre>
 */
 public final class Log {
   
@@ -20,11 +29,109 @@ public final class Log {
    * for the moment it seems fine.
    */
   
-  /** Log a message to the enabled outputs. */
+  /** The level of detail of a log message, from the most detailed to the least detailed. */
+  public enum Level {
+    /** Every transaction, dividend, and price update, in every history. */
+    TRACE,
+    /** Yearly snapshots and summaries, once per year or once per history. */
+    DEBUG,
+    /** The run as a whole: its progress, the files it reads and writes, and any problems. */
+    INFO;
+  }
+  
+  /** Log a message to the enabled outputs, at the {@link Level#INFO} level. */
   public static void log(Object thing) {
     logit(thing.toString());
   }
   
+  /** Log a message at the {@link Level#TRACE} level. The message is built only if the level is enabled. */
+  public static void trace(Supplier<String> message) {
+    if (threshold <= TRACE) {
+      logit(message.get());
+    }
+  }
+  
+  /** 
+   Log a message at the {@link Level#TRACE} level. 
+   Each '{}' in the pattern is replaced by the next argument, but only if the level is enabled.
+  */
+  public static void trace(String pattern, Object arg) {
+    if (threshold <= TRACE) {
+      logit(format(pattern, arg));
+    }
+  }
+  
+  /** As in {@link #trace(String, Object)}, with two arguments. */
+  public static void trace(String pattern, Object arg1, Object arg2) {
+    if (threshold <= TRACE) {
+      logit(format(pattern, arg1, arg2));
+    }
+  }
+  
+  /** As in {@link #trace(String, Object)}, with three arguments. */
+  public static void trace(String pattern, Object arg1, Object arg2, Object arg3) {
+    if (threshold <= TRACE) {
+      logit(format(pattern, arg1, arg2, arg3));
+    }
+  }
+  
+  /** Log a message at the {@link Level#DEBUG} level. The message is built only if the level is enabled. */
+  public static void debug(Supplier<String> message) {
+    if (threshold <= DEBUG) {
+      logit(message.get());
+    }
+  }
+  
+  /** As in {@link #trace(String, Object)}, but at the {@link Level#DEBUG} level. */
+  public static void debug(String pattern, Object arg) {
+    if (threshold <= DEBUG) {
+      logit(format(pattern, arg));
+    }
+  }
+  
+  /** As in {@link #trace(String, Object)}, but at the {@link Level#DEBUG} level, with two arguments. */
+  public static void debug(String pattern, Object arg1, Object arg2) {
+    if (threshold <= DEBUG) {
+      logit(format(pattern, arg1, arg2));
+    }
+  }
+  
+  /** Log a message at the {@link Level#INFO} level. The message is built only if the level is enabled. */
+  public static void info(Supplier<String> message) {
+    if (threshold <= INFO) {
+      logit(message.get());
+    }
+  }
+  
+  /** 
+   Return true only if messages at the given level are logged.
+   Useful when a group of messages needs some work that's done only for logging.
+  */
+  public static boolean isEnabled(Level level) {
+    return threshold <= level.ordinal();
+  }
+  
+  /** Messages below the given level are ignored. */
+  public static void setLevel(Level level) {
+    threshold = level.ordinal();
+  }
+  
+  /**
+   Return the default level for a run having the given number of histories.
+   A single history logs everything ({@link Level#TRACE}). 
+   A Monte Carlo run (more than one history) logs only {@link Level#INFO}, since the detail of thousands of histories 
+   is too large to be useful. 
+   Either default can be overridden with the system property <em>endgame.logLevel</em>, as in '-Dendgame.logLevel=DEBUG'.
+  */
+  public static Level defaultLevelFor(Integer numHistories) {
+    Level result = numHistories > 1 ? Level.INFO : Level.TRACE;
+    String override = System.getProperty(LOG_LEVEL_PROPERTY);
+    if (Util.isPresent(override)) {
+      result = Level.valueOf(override.trim().toUpperCase());
+    }
+    return result;
+  }
+  
   /** 
    Toggle the logging to the console (standard out).
    True by default. 
@@ -39,11 +146,70 @@ public final class Log {
     toConsole = toggle;
   }
 
-  /** Called only at the end of running a scenario. Uses UTF-8 encoding to write to a file. */
-  public static void flushLogBufferFor(Scenario scenario, File scenarioFile) {
-    String logFile = logFileNameFrom(scenarioFile);
-    log("Writing to log file " + logFile);
-    Util.saveLinesToFile(logFile, lineBuffer);
+  /** 
+   Called only at the start of running a scenario. 
+   Opens the log file for the scenario, and writes all subsequent messages to it, as they are logged, using UTF-8 encoding.
+   Any log file that is already open is closed first.
+   
+   <P>The log file is never held in memory; only a bounded buffer is used.
+   Two system properties control the file:
+   <ul>
+    <li><em>endgame.logGzip</em>: if <em>true</em>, the file is compressed with gzip ('101.6.log.gz').
+    <li><em>endgame.logMaxMegabytes</em>: if present, the file is split into parts of about this size 
+    ('101.6.log', '101.6.2.log', and so on). 
+   </ul>
+   
+   <P>If the system property <em>endgame.logAsync</em> is <em>true</em>, then the file is written 
+   on a background thread (see {@link AsyncLogWriter}), and the logging thread doesn't wait for the disk.
+   Then two more system properties apply:
+   <ul>
+    <li><em>endgame.logAsyncCapacity</em>: the number of messages that can wait to be written (default {@value #DEFAULT_ASYNC_CAPACITY}).
+    <li><em>endgame.logAsyncWhenFull</em>: what to do with a message when that number is reached: 
+    <em>block</em> until there's room (the default), or <em>drop</em> the message. 
+   </ul>
+   At the end of the run, the number of messages written and dropped is logged.
+  */
+  public static void openLogFileFor(File scenarioFile) {
+    closeLogFile();
+    String fileName = logFileNameFrom(scenarioFile);
+    try {
+      logFile = new LogFile(new File(fileName).toPath(), maxBytesPerLogFile(), Boolean.getBoolean(LOG_GZIP_PROPERTY));
+      if (Boolean.getBoolean(LOG_ASYNC_PROPERTY) && asyncWriter == null) {
+        asyncWriter = newAsyncWriter();
+      }
+      if (asyncWriter != null) {
+        writtenAtOpen = asyncWriter.numWritten();
+        droppedAtOpen = asyncWriter.numDropped();
+      }
+    }
+    catch(IOException ex) {
+      error("Can't open the log file " + fileName, ex);
+    }
+  }
+  
+  /** Called only at the end of running a scenario. Writes any buffered messages, and closes the log file. */
+  public static void closeLogFile() {
+    if (logFile != null) {
+      if (asyncWriter != null) {
+        asyncWriter.awaitAllWritten();
+        long written = asyncWriter.numWritten() - writtenAtOpen;
+        long dropped = asyncWriter.numDropped() - droppedAtOpen;
+        log("Asynchronous logging: " + written + " messages written, " + dropped + " dropped.");
+      }
+      log("Closing the log file " + logFile.file());
+      try {
+        if (asyncWriter != null) {
+          asyncWriter.close(logFile);
+        }
+        else {
+          logFile.close();
+        }
+      }
+      catch(IOException ex) {
+        error("Can't close the log file.", ex);
+      }
+      logFile = null;
+    }
   }
 
   /**
@@ -82,25 +248,102 @@ public final class Log {
   /** Enabled by default. */
   private static Boolean toConsole = Boolean.TRUE;
   
+  private static final String LOG_LEVEL_PROPERTY = "endgame.logLevel";
+  private static final String LOG_GZIP_PROPERTY = "endgame.logGzip";
+  private static final String LOG_MAX_MEGABYTES_PROPERTY = "endgame.logMaxMegabytes";
+  private static final String LOG_ASYNC_PROPERTY = "endgame.logAsync";
+  private static final String LOG_ASYNC_CAPACITY_PROPERTY = "endgame.logAsyncCapacity";
+  private static final String LOG_ASYNC_WHEN_FULL_PROPERTY = "endgame.logAsyncWhenFull";
+  private static final int DEFAULT_ASYNC_CAPACITY = 65536;
+  
+  /* Plain ints, so that a disabled level costs a single comparison. */
+  private static final int TRACE = Level.TRACE.ordinal();
+  private static final int DEBUG = Level.DEBUG.ordinal();
+  private static final int INFO = Level.INFO.ordinal();
+  
+  /** The ordinal of the current {@link Level}. Everything is logged by default. */
+  private static int threshold = TRACE;
+  
   /** 
-   Records the logging in a buffer, which may or may not be later saved in a file.
-   If the caller elects to not use a logging file, then the content is simply abandoned 
-   at the end of execution. 
-   The full logging output of a scenario will be sent to this buffer.
-   The buffer is cleared each time it is written to a file. 
+   The log file of the scenario being run. 
+   Null if no scenario is being run; then messages are sent only to the console (if enabled). 
   */
-  private static List<String> lineBuffer = new ArrayList<>();
+  private static LogFile logFile;
+  
+  /** Null unless asynchronous logging is turned on. Created once, and shared by all log files. */
+  private static AsyncLogWriter asyncWriter;
+  private static long writtenAtOpen;
+  private static long droppedAtOpen;
   
   private static void logit(Object thing) {
     if (toConsole) {
       forceConsole(thing);
     }
-    addToBuffer(thing);
+    addToFile(thing);
   }
   
-  private static void addToBuffer(Object thing) {
-    lineBuffer.add(thing.toString());
+  private static void addToFile(Object thing) {
+    if (logFile != null && asyncWriter != null) {
+      asyncWriter.publish(logFile, thing.toString());
+    }
+    else if (logFile != null) {
+      try {
+        logFile.write(thing.toString());
+      }
+      catch(IOException ex) {
+        //stop using the file, instead of reporting the same problem for every message
+        logFile = null;
+        error("Can't write to the log file.", ex);
+      }
+    }
+  }
+  
+  private static AsyncLogWriter newAsyncWriter() {
+    int capacity = DEFAULT_ASYNC_CAPACITY;
+    String rawCapacity = System.getProperty(LOG_ASYNC_CAPACITY_PROPERTY);
+    if (Util.isPresent(rawCapacity)) {
+      capacity = Integer.parseInt(rawCapacity.trim());
+    }
+    boolean blockWhenFull = true;
+    String whenFull = System.getProperty(LOG_ASYNC_WHEN_FULL_PROPERTY);
+    if (Util.isPresent(whenFull)) {
+      if ("drop".equalsIgnoreCase(whenFull.trim())) {
+        blockWhenFull = false;
+      }
+      else if (!"block".equalsIgnoreCase(whenFull.trim())) {
+        throw new IllegalArgumentException(LOG_ASYNC_WHEN_FULL_PROPERTY + " must be 'block' or 'drop': " + whenFull);
+      }
+    }
+    return new AsyncLogWriter(capacity, blockWhenFull);
   }
+  
+  /** 0 means no maximum. */
+  private static long maxBytesPerLogFile() {
+    long result = 0;
+    String megabytes = System.getProperty(LOG_MAX_MEGABYTES_PROPERTY);
+    if (Util.isPresent(megabytes)) {
+      result = Long.parseLong(megabytes.trim()) * 1024 * 1024;
+    }
+    return result;
+  }
+
+  /** Replace each '{}' in the pattern with the next argument. Extra arguments are ignored. */
+  private static String format(String pattern, Object... args) {
+    StringBuilder result = new StringBuilder(pattern.length() + 16 * args.length);
+    int start = 0;
+    int argIdx = 0;
+    int marker = pattern.indexOf(MARKER);
+    while (marker >= 0 && argIdx < args.length) {
+      result.append(pattern, start, marker).append(args[argIdx]);
+      ++argIdx;
+      start = marker + MARKER.length();
+      marker = pattern.indexOf(MARKER, start);
+    }
+    result.append(pattern, start, pattern.length());
+    return result.toString();
+  }
+  
+  private static final String MARKER = "{}";
 
   private static String theStackTrace(Throwable throwable) {
     Writer result = new StringWriter();
@@ -0,0 +1,100 @@
+package endgame.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ A log file that is written as the simulation runs, one line at a time.
+
+ <P>Lines pass through a large buffer, and are written to disk whenever the buffer is full.
+ The memory used doesn't depend on the number of lines logged, so a long Monte Carlo run with
+ detailed logging needs no more heap than a short one.
+
+ <P>Optionally, the file can be compressed with gzip, and it can be split into parts of a maximum size.
+ Given a base file '101.6.log', the parts are named '101.6.log', '101.6.2.log', '101.6.3.log', and so on
+ (with '.gz' appended when compressed). The size of a part is measured before any compression.
+ Parts left over from a previous, longer run are not deleted.
+*/
+final class LogFile {
+
+  /**
+   Constructor. Creates the file, or truncates it if it already exists.
+   @param file the log file.
+   @param maxBytes the approximate maximum size of each part; 0 means no maximum (a single file).
+   @param gzip compress the file(s) with gzip.
+  */
+  LogFile(Path file, long maxBytes, boolean gzip) throws IOException {
+    if (maxBytes < 0) {
+      throw new IllegalArgumentException("The maximum size of a log file can't be negative: " + maxBytes);
+    }
+    this.baseFile = file;
+    this.maxBytes = maxBytes;
+    this.gzip = gzip;
+    openPart();
+  }
+
+  /** The file name of the first part. */
+  Path file() {
+    return nameOfPart(1);
+  }
+
+  /** Write a single line, followed by a line separator. */
+  void write(String line) throws IOException {
+    long size = line.length() + Consts.NL.length();
+    if (maxBytes > 0 && bytesInPart > 0 && bytesInPart + size > maxBytes) {
+      writer.close();
+      ++part;
+      openPart();
+    }
+    writer.write(line);
+    writer.newLine();
+    bytesInPart += size;
+  }
+
+  /** Write any buffered lines to disk, and close the file. */
+  void close() throws IOException {
+    writer.close();
+  }
+
+  // PRIVATE
+
+  /** In chars. */
+  private static final int BUFFER_SIZE = 256 * 1024;
+  private static final String GZIP_EXTENSION = ".gz";
+
+  private final Path baseFile;
+  private final long maxBytes;
+  private final boolean gzip;
+
+  private BufferedWriter writer;
+  private int part = 1;
+  /** Approximate, since it counts chars, not encoded bytes. */
+  private long bytesInPart;
+
+  private void openPart() throws IOException {
+    OutputStream out = Files.newOutputStream(nameOfPart(part));
+    if (gzip) {
+      out = new GZIPOutputStream(out, BUFFER_SIZE);
+    }
+    writer = new BufferedWriter(new OutputStreamWriter(out, Consts.ENCODING), BUFFER_SIZE);
+    bytesInPart = 0;
+  }
+
+  /** '101.6.log' for the first part, '101.6.2.log' for the second, and so on. */
+  private Path nameOfPart(int partNum) {
+    String name = baseFile.getFileName().toString();
+    if (partNum > 1) {
+      int dot = name.lastIndexOf(".");
+      name = name.substring(0, dot) + "." + partNum + name.substring(dot);
+    }
+    if (gzip) {
+      name = name + GZIP_EXTENSION;
+    }
+    return baseFile.resolveSibling(name);
+  }
+}
@@ -0,0 +1,44 @@
+package endgame.util;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ The single source of random numbers for the simulation.
+
+ <P>Each history of a scenario gets its own seed, derived from a seed for the whole run and the number of the history.
+ So any single history can be run again, with exactly the same random numbers, without running the histories before it.
+
+ <P>The seed for the run is random, unless it's set with the system property <em>endgame.randomSeed</em>
+ (for example '-Dendgame.randomSeed=12345'). With a fixed seed, all of the histories of a run can be repeated.
+
+ <P>Each thread has its own generator, so there's no contention between threads.
+*/
+public final class RandomNumbers {
+
+  /** The generator to be used by the current thread. */
+  public static RandomGenerator current() {
+    return GENERATOR.get();
+  }
+
+  /** Return the seed set by the system property, or a new random seed if the property isn't set. */
+  public static long seedForRun() {
+    Long result = Long.getLong(RANDOM_SEED_PROPERTY);
+    return result != null ? result : ThreadLocalRandom.current().nextLong();
+  }
+
+  /** Reset the generator of the current thread, to the start of the given history. */
+  public static void startHistory(long seedForRun, int history) {
+    GENERATOR.set(new SplittableRandom(seedForRun + history * GOLDEN_GAMMA));
+  }
+
+  // PRIVATE
+
+  private static final String RANDOM_SEED_PROPERTY = "endgame.randomSeed";
+
+  /** Spreads the seeds of consecutive histories far apart. The same constant is used by SplittableRandom. */
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private static final ThreadLocal<RandomGenerator> GENERATOR = ThreadLocal.withInitial(() -> new SplittableRandom(seedForRun()));
+}
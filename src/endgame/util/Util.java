@@ -13,8 +13,6 @@ import java.util.List;
 import java.util.Scanner;
 
 import endgame.model.Money;
-import hirondelle.date4j.DateTime;
-import hirondelle.date4j.DateTime.DayOverflow;
 
 public final class Util {
 
@@ -39,45 +37,6 @@ public final class Util {
     return Double.valueOf(value)/100.0;
   }
   
-  /** Returns negative if b is before a. */
-  public static Integer numMonthsBetween(DateTime a, DateTime b) {
-    Integer result = 0;
-    boolean aFirst = a.compareTo(b) < 0;
-    if (! a.equals(b)) {
-      int ONE_MONTH = 1;
-      DateTime start = aFirst ? a : b;
-      DateTime end = aFirst ? b : a;
-      while (start.lt(end)) {
-        ++result;
-        start = start.plus(0, ONE_MONTH, 0, 0, 0, 0, 0, DayOverflow.FirstDay); 
-      }
-    }
-    return aFirst ? result : -1 * result; 
-  }
-  
-  public static Integer age(DateTime birth, DateTime present) {
-    //coerce Feb 29 to Mar 1
-    DateTime dob = birth;
-    if (dob.getMonth() == 2 && dob.getDay() == 29) {
-      dob = DateTime.forDateOnly(birth.getYear(), 3, 1);
-    }
-    
-    int result = present.getYear() - dob.getYear();
-    DateTime birthdayThisYear = DateTime.forDateOnly(present.getYear(), dob.getMonth(), dob.getDay());
-    
-    if (birthdayThisYear.gt(present)) {
-      --result;
-    }
-    return result;
-  }
-  
-  /** Return the start of the month, for the month AFTER you turn a certain age. */
-  public static DateTime monthAfterYouTurn(Integer age, DateTime dob) {
-    DateTime birthday = dob.plus(age, 0, 0, 0, 0, 0, 0, DateTime.DayOverflow.FirstDay);
-    DateTime oneMonthLater = birthday.plus(0, 1, 0, 0, 0, 0, 0, DateTime.DayOverflow.FirstDay);
-    return DateTime.forDateOnly(oneMonthLater.getYear(), oneMonthLater.getMonth(), 1); 
-  }
-
   private static List<String> chopInput(String input, String sep){
     List<String> result = new ArrayList<String>();
     String[] parts = input.split(sep);